@@ -0,0 +1,143 @@
+package com.ecommerce.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.ecommerce.config.JsonLineEncoder;
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.config.SamplingTurboFilter;
+import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.service.OrderCache;
+import com.ecommerce.service.OrderServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of a cached {@code GET /api/v1/orders/{id}} call from
+ * four threads under three logging setups:
+ *
+ * - {@code off}: application logging disabled
+ * - {@code sync}: the development setup, plain-text pattern written to a file
+ *   on the calling thread, DEBUG level (four lines per call)
+ * - {@code async}: the production setup, JSON lines through a non-blocking
+ *   AsyncAppender, INFO level with 1-in-100 sampling of controller lines
+ *
+ * Sample-time mode reports p50, p99 and p99.9 per setup.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=RequestLoggingBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+  private static final Long ORDER_ID = 1L;
+
+  @Param({"off", "sync", "async"})
+  private String logging;
+
+  private LoggerContext loggerContext;
+  private File logFile;
+  private OrderController controller;
+
+  @Setup
+  public void setUp() throws IOException {
+    logFile = File.createTempFile("request-logging-benchmark", ".log");
+    loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    loggerContext.reset();
+
+    Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+    Logger application = loggerContext.getLogger("com.ecommerce");
+    switch (logging) {
+      case "off" -> root.setLevel(Level.OFF);
+      case "sync" -> {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        root.addAppender(fileAppender(encoder));
+        application.setLevel(Level.DEBUG);
+      }
+      case "async" -> {
+        SamplingTurboFilter sampling = new SamplingTurboFilter();
+        sampling.setCategory("com.ecommerce.controller");
+        sampling.setKeepOneIn(100);
+        sampling.setContext(loggerContext);
+        sampling.start();
+        loggerContext.addTurboFilter(sampling);
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(loggerContext);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(fileAppender(new JsonLineEncoder()));
+        async.start();
+        root.addAppender(async);
+        application.setLevel(Level.INFO);
+      }
+      default -> throw new IllegalArgumentException("Unknown logging setup: " + logging);
+    }
+
+    OrderCache cache = new OrderCache(new OrderProperties());
+    OrderDTO order = new OrderDTO();
+    order.setId(ORDER_ID);
+    order.setOrderNumber("ORD-20251107-00001");
+    cache.put(order, cache.loadStamp());
+
+    OrderServiceImpl service = new OrderServiceImpl(null, null, null, null, new OrderProperties(), null, cache,
+      OrderMetrics.NOOP, null, null, null);
+    controller = new OrderController(service, cache, null, null, null);
+  }
+
+  @TearDown
+  public void tearDown() {
+    loggerContext.stop();
+    logFile.delete();
+  }
+
+  @Benchmark
+  public ResponseEntity<ApiResponse<OrderDTO>> getOrderById() {
+    return controller.getOrderById(ORDER_ID);
+  }
+
+  private Appender<ILoggingEvent> fileAppender(Encoder<ILoggingEvent> encoder) {
+    encoder.setContext(loggerContext);
+    encoder.start();
+    FileAppender<ILoggingEvent> appender = new FileAppender<>();
+    appender.setContext(loggerContext);
+    appender.setFile(logFile.getAbsolutePath());
+    appender.setEncoder(encoder);
+    appender.start();
+    return appender;
+  }
+}
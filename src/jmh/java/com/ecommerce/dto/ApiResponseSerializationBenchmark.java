@@ -0,0 +1,90 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of an {@code ApiResponse<Page<OrderDTO>>}, the body of
+ * the paged listing endpoints.
+ *
+ * Uses an ObjectMapper built the way Spring Boot builds the web one.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=ApiResponseSerializationBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+  @Param({"10", "100"})
+  private int pageSize;
+
+  private ObjectWriter writer;
+  private ApiResponse<Page<OrderDTO>> response;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writer();
+
+    LocalDateTime now = LocalDateTime.now();
+    List<OrderDTO> orders = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      OrderDTO order = new OrderDTO();
+      order.setId((long) i);
+      order.setOrderNumber(String.format("ORD-20251107-%05d", i));
+      order.setCustomerName("Customer " + i);
+      order.setCustomerEmail("customer" + i + "@example.com");
+      order.setStatus(OrderStatus.PENDING);
+      order.setTotalAmount(new BigDecimal("59.97"));
+      order.setCreatedAt(now);
+      order.setUpdatedAt(now);
+      for (int j = 0; j < 3; j++) {
+        OrderItemDTO item = new OrderItemDTO();
+        item.setId((long) (i * 3 + j));
+        item.setProductId(100L + j);
+        item.setProductName("Product " + j);
+        item.setQuantity(1);
+        item.setPrice(new BigDecimal("19.99"));
+        item.setCreatedAt(now);
+        order.getOrderItems().add(item);
+      }
+      orders.add(order);
+    }
+    Page<OrderDTO> page = new PageImpl<>(orders, PageRequest.of(0, pageSize), 10_000);
+    response = ApiResponse.success("Orders retrieved successfully", page);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws Exception {
+    return writer.writeValueAsBytes(response);
+  }
+}
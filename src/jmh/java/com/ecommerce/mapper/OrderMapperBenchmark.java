@@ -0,0 +1,89 @@
+package com.ecommerce.mapper;
+
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderItemDTO;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderItem;
+import com.ecommerce.entity.OrderStatus;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to DTO mapping: the former ModelMapper path against OrderMapper.
+ *
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=OrderMapperBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  private Order order;
+  private ModelMapper modelMapper;
+  private OrderMapper orderMapper;
+
+  @Setup
+  public void setUp() {
+    modelMapper = new ModelMapper();
+    modelMapper.getConfiguration()
+      .setSkipNullEnabled(true)
+      .setAmbiguityIgnored(true);
+    orderMapper = new OrderMapper();
+
+    order = new Order("ORD-20251107-00001", "John Doe", "john.doe@example.com",
+      OrderStatus.PENDING, new BigDecimal("19.99"));
+    order.setId(1L);
+    order.setCreatedAt(LocalDateTime.now());
+    order.setUpdatedAt(LocalDateTime.now());
+    for (int i = 0; i < itemCount; i++) {
+      OrderItem item = new OrderItem();
+      item.setId((long) i);
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("19.99"));
+      item.setCreatedAt(LocalDateTime.now());
+      order.addOrderItem(item);
+    }
+  }
+
+  @Benchmark
+  public OrderDTO modelMapper() {
+    // Mirrors the conversion OrderServiceImpl used before OrderMapper
+    OrderDTO dto = modelMapper.map(order, OrderDTO.class);
+    dto.setOrderItems(order.getOrderItems().stream()
+      .map(item -> modelMapper.map(item, OrderItemDTO.class))
+      .collect(Collectors.toList()));
+    return dto;
+  }
+
+  @Benchmark
+  public OrderDTO orderMapper() {
+    return orderMapper.toDTO(order);
+  }
+}
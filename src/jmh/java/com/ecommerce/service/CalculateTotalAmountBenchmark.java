@@ -0,0 +1,60 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order total calculation for 1, 10 and 100 items.
+ *
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=CalculateTotalAmountBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculateTotalAmountBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int itemCount;
+
+  private List<CreateOrderRequest.OrderItemRequest> items;
+
+  @Setup
+  public void setUp() {
+    items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1 + i % 5);
+      item.setPrice(new BigDecimal("19.99"));
+      items.add(item);
+    }
+  }
+
+  @Benchmark
+  public BigDecimal calculateTotalAmount() {
+    return OrderServiceImpl.calculateTotalAmount(items);
+  }
+}
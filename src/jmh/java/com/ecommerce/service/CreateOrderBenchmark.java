@@ -0,0 +1,92 @@
+package com.ecommerce.service;
+
+import com.ecommerce.ECommerceOrderProcessingSystemApplication;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code createOrder} through the Spring service proxy against the
+ * embedded H2 database: validation, total calculation, order-number
+ * generation, the insert statements and the commit.
+ *
+ * The context is started once per fork without the web layer.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=CreateOrderBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateOrderBenchmark {
+
+  @Param({"1", "10"})
+  private int itemCount;
+
+  private ConfigurableApplicationContext context;
+  private OrderService orderService;
+  private CreateOrderRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(ECommerceOrderProcessingSystemApplication.class)
+      .web(WebApplicationType.NONE)
+      .properties(
+        // SQL and debug logging to the console would dominate the measurement
+        "logging.level.root=WARN",
+        "logging.level.com.ecommerce=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.springframework=WARN")
+      .run();
+    orderService = context.getBean(OrderService.class);
+
+    request = new CreateOrderRequest();
+    request.setCustomerName("Benchmark Customer");
+    request.setCustomerEmail("benchmark@example.com");
+    List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("19.99"));
+      items.add(item);
+    }
+    request.setOrderItems(items);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public OrderDTO createOrder() {
+    return orderService.createOrder(request);
+  }
+}
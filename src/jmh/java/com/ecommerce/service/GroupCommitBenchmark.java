@@ -0,0 +1,129 @@
+package com.ecommerce.service;
+
+import com.ecommerce.ECommerceOrderProcessingSystemApplication;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.metrics.OrderMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent {@code createOrder} with and without group commit against the
+ * embedded H2 database.
+ *
+ * {@code window=off} commits every order on its own; the other values enable
+ * {@code order.group-commit} with that window. Throughput mode gives orders
+ * per second, sample mode the latency each caller sees. Commits per second
+ * and orders per commit are printed after each iteration, counted from the
+ * {@code ordersCreated} metric, which is recorded once per committed
+ * transaction.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=GroupCommitBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(32)
+@Fork(1)
+public class GroupCommitBenchmark {
+
+  @Param({"off", "0ms", "1ms", "5ms", "20ms"})
+  private String window;
+
+  private final LongAdder orders = new LongAdder();
+  private final LongAdder commits = new LongAdder();
+  private long iterationStartNanos;
+
+  private ConfigurableApplicationContext context;
+  private OrderService orderService;
+  private CreateOrderRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    OrderMetrics countingMetrics = new OrderMetrics() {
+      @Override
+      public void ordersCreated(int count) {
+        orders.add(count);
+        commits.increment();
+      }
+    };
+
+    boolean grouped = !"off".equals(window);
+    context = new SpringApplicationBuilder(ECommerceOrderProcessingSystemApplication.class)
+      .web(WebApplicationType.NONE)
+      .initializers(applicationContext -> ((GenericApplicationContext) applicationContext).registerBean(
+        "benchmarkOrderMetrics", OrderMetrics.class, () -> countingMetrics,
+        definition -> definition.setPrimary(true)))
+      .run(
+        "--order.group-commit.enabled=" + grouped,
+        "--order.group-commit.window=" + (grouped ? window : "0ms"),
+        // Promotion would add its own transactions to the count
+        "--order.promotion.enabled=false",
+        "--logging.level.root=WARN",
+        "--logging.level.com.ecommerce=WARN",
+        "--logging.level.org.hibernate.SQL=WARN",
+        "--logging.level.org.springframework=WARN");
+    orderService = context.getBean(OrderService.class);
+
+    request = new CreateOrderRequest();
+    request.setCustomerName("Benchmark Customer");
+    request.setCustomerEmail("benchmark@example.com");
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(List.of(item));
+  }
+
+  @Setup(Level.Iteration)
+  public void startIteration() {
+    orders.reset();
+    commits.reset();
+    iterationStartNanos = System.nanoTime();
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportCommits() {
+    double seconds = (System.nanoTime() - iterationStartNanos) / 1e9;
+    long committed = commits.sum();
+    System.out.printf("window=%s: %.0f commits/s, %.0f orders/s, %.1f orders per commit%n",
+      window, committed / seconds, orders.sum() / seconds, committed == 0 ? 0.0 : (double) orders.sum() / committed);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public OrderDTO createOrder() {
+    return orderService.createOrder(request);
+  }
+}
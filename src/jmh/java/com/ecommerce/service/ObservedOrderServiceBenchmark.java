@@ -0,0 +1,115 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.metrics.OrderMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost of the {@code order.service} observation on the cheapest service call,
+ * a cached {@link OrderService#getOrderById(Long)}.
+ *
+ * Compares the bare service (the default build, where no aspect is applied)
+ * with the service behind ObservedAspect, once with a no-op registry and once
+ * with a handler that times every call the way a Micrometer timer does.
+ *
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=ObservedOrderServiceBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObservedOrderServiceBenchmark {
+
+  private static final Long ORDER_ID = 1L;
+
+  private OrderService bare;
+  private OrderService observedNoop;
+  private OrderService observedTimed;
+
+  @Setup
+  public void setUp() {
+    OrderCache cache = new OrderCache(new OrderProperties());
+    OrderDTO order = new OrderDTO();
+    order.setId(ORDER_ID);
+    order.setOrderNumber("ORD-20251107-00001");
+    cache.put(order, cache.loadStamp());
+
+    bare = new OrderServiceImpl(null, null, null, null, new OrderProperties(), null, cache, OrderMetrics.NOOP,
+      null, null, null);
+    observedNoop = observe(bare, ObservationRegistry.NOOP);
+
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry.observationConfig().observationHandler(new TimingHandler());
+    observedTimed = observe(bare, registry);
+  }
+
+  @Benchmark
+  public OrderDTO bare() {
+    return bare.getOrderById(ORDER_ID);
+  }
+
+  @Benchmark
+  public OrderDTO observedNoopRegistry() {
+    return observedNoop.getOrderById(ORDER_ID);
+  }
+
+  @Benchmark
+  public OrderDTO observedTimed() {
+    return observedTimed.getOrderById(ORDER_ID);
+  }
+
+  private static OrderService observe(OrderService target, ObservationRegistry registry) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.addAspect(new ObservedAspect(registry));
+    return factory.getProxy();
+  }
+
+  /**
+   * Records start and stop times like Micrometer's timer handler, without the
+   * meter registry lookup.
+   */
+  private static final class TimingHandler implements ObservationHandler<Observation.Context> {
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    @Override
+    public void onStart(Observation.Context context) {
+      context.put(TimingHandler.class, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+      long start = context.getRequired(TimingHandler.class);
+      totalNanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.ecommerce.task;
+
+import com.ecommerce.ECommerceOrderProcessingSystemApplication;
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.service.OrderPromotionService;
+import com.ecommerce.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for several application instances to promote the same PENDING
+ * backlog against the embedded H2 database.
+ *
+ * Each node is an OrderSchedulerTask with its own settings, started at the
+ * same moment like the scheduled job on a cluster. Promoting a chunk is
+ * slowed down by {@code chunkLatencyMillis} while its rows are locked,
+ * standing in for the commit latency of a networked database, so nodes that
+ * waited on each other's locks would not get faster. Only the latency
+ * overlaps on a single core; with more cores the speedup approaches the node
+ * count. A fresh backlog is created before every measured run.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=MultiNodePromotionBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MultiNodePromotionBenchmark {
+
+  private static final int CHUNK_SIZE = 20;
+
+  @Param({"1", "2", "4"})
+  private int nodes;
+
+  @Param({"400"})
+  private int backlog;
+
+  @Param({"100"})
+  private long chunkLatencyMillis;
+
+  private ConfigurableApplicationContext context;
+  private OrderService orderService;
+  private OrderPromotionService promotionService;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    OrderMetrics slowCommits = new OrderMetrics() {
+      @Override
+      public void statusChanged(OrderStatus from, OrderStatus to, int count) {
+        if (from == OrderStatus.PENDING && to == OrderStatus.PROCESSING) {
+          try {
+            Thread.sleep(chunkLatencyMillis);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    };
+
+    context = new SpringApplicationBuilder(ECommerceOrderProcessingSystemApplication.class)
+      .web(WebApplicationType.NONE)
+      .initializers(applicationContext -> ((GenericApplicationContext) applicationContext).registerBean(
+        "benchmarkOrderMetrics", OrderMetrics.class, () -> slowCommits,
+        definition -> definition.setPrimary(true)))
+      .run(
+        // The backlog is promoted by the nodes only
+        "--order.promotion.enabled=false",
+        "--logging.level.root=WARN",
+        "--logging.level.com.ecommerce=WARN",
+        "--logging.level.org.hibernate.SQL=WARN",
+        "--logging.level.org.springframework=WARN");
+    orderService = context.getBean(OrderService.class);
+    promotionService = context.getBean(OrderPromotionService.class);
+
+    // Clear PENDING orders left by the sample data
+    runNodes(1);
+  }
+
+  @Setup(Level.Iteration)
+  public void createBacklog() {
+    List<CreateOrderRequest> requests = new ArrayList<>(backlog);
+    for (int i = 0; i < backlog; i++) {
+      requests.add(createRequest(i));
+    }
+    orderService.createOrders(requests);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void promoteBacklog() throws Exception {
+    runNodes(nodes);
+  }
+
+  /**
+   * Runs one promotion job per node at the same moment.
+   */
+  private void runNodes(int count) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(count);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> runs = new ArrayList<>();
+    try {
+      for (int i = 0; i < count; i++) {
+        OrderSchedulerTask task = newNode();
+        runs.add(executor.submit(() -> {
+          start.await();
+          task.processPendingOrders();
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> run : runs) {
+        run.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private OrderSchedulerTask newNode() {
+    OrderProperties properties = new OrderProperties();
+    properties.getScheduler().setChunkSize(CHUNK_SIZE);
+    properties.getScheduler().setPartitions(4);
+    properties.getScheduler().setConcurrency(1);
+    return new OrderSchedulerTask(promotionService, properties, new OrderMetrics() { }, new SyncTaskExecutor());
+  }
+
+  private static CreateOrderRequest createRequest(int index) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Node Customer " + index);
+    request.setCustomerEmail("node" + index + "@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(List.of(item));
+    return request;
+  }
+}
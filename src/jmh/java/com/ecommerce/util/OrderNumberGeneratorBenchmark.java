@@ -0,0 +1,64 @@
+package com.ecommerce.util;
+
+import com.ecommerce.repository.OrderNumberBlockRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order-number generation, uncontended and with several threads competing.
+ *
+ * Blocks are leased from an in-memory counter instead of the database, so the
+ * numbers cover the hot path and the block hand-over, not the lease query.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=OrderNumberGeneratorBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+  private OrderNumberGenerator generator;
+
+  @Setup
+  public void setUp() {
+    AtomicLong nextBlock = new AtomicLong(1);
+    OrderNumberBlockRepository blocks = new OrderNumberBlockRepository(null, null) {
+      @Override
+      public long allocateBlock(int blockSize) {
+        return nextBlock.getAndAdd(blockSize);
+      }
+    };
+    generator = new OrderNumberGenerator(blocks, 100, Clock.systemDefaultZone());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String singleThread() {
+    return generator.generateOrderNumber();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String contended() {
+    return generator.generateOrderNumber();
+  }
+}
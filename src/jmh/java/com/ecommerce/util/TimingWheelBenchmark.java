@@ -0,0 +1,90 @@
+package com.ecommerce.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing wheel operations with a large number of order deadlines held.
+ *
+ * {@code rescheduleAndCancel} moves one order to a new deadline and removes
+ * and re-adds another, as a status change and a cancellation do;
+ * {@code advanceOneTick} turns the wheel by one second and re-adds what
+ * expired, so the population stays the same.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.args=TimingWheelBenchmark}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+  private static final long TICK_MILLIS = 1000;
+  private static final long HORIZON_MILLIS = 48L * 3600 * 1000;
+
+  @Param({"1000000"})
+  private int orders;
+
+  private TimingWheel wheel;
+  private long now;
+  private long nextKey;
+  private long seed = 42;
+  private long[] expiredKeys = new long[1024];
+  private int expiredCount;
+
+  @Setup
+  public void setUp() {
+    wheel = new TimingWheel(TICK_MILLIS, 6, 4, 0);
+    for (long key = 0; key < orders; key++) {
+      wheel.schedule(key, randomDeadline(), (byte) 0);
+    }
+  }
+
+  @Benchmark
+  public boolean rescheduleAndCancel() {
+    long key = nextKey++ % orders;
+    wheel.schedule(key, now + randomDeadline(), (byte) 1);
+    long other = (key * 31 + 7) % orders;
+    boolean cancelled = wheel.cancel(other);
+    wheel.schedule(other, now + randomDeadline(), (byte) 0);
+    return cancelled;
+  }
+
+  @Benchmark
+  public int advanceOneTick() {
+    now += TICK_MILLIS;
+    expiredCount = 0;
+    int expired = wheel.advance(now, (key, tag) -> {
+      if (expiredCount == expiredKeys.length) {
+        expiredKeys = Arrays.copyOf(expiredKeys, expiredCount * 2);
+      }
+      expiredKeys[expiredCount++] = key;
+    });
+    for (int i = 0; i < expiredCount; i++) {
+      wheel.schedule(expiredKeys[i], now + randomDeadline(), (byte) 0);
+    }
+    return expired;
+  }
+
+  private long randomDeadline() {
+    seed = seed * 6364136223846793005L + 1442695040888963407L;
+    return Math.floorMod(seed >>> 16, HORIZON_MILLIS);
+  }
+}
@@ -1,7 +1,6 @@
 package com.ecommerce.config;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -10,28 +9,14 @@ import org.springframework.context.annotation.Configuration;
  * This class contains all application-wide bean definitions and configurations.
  * It provides beans that are used across different layers of the application.
  *
+ * Entity to DTO mapping is handled by {@link com.ecommerce.mapper.OrderMapper},
+ * which copies fields directly instead of relying on reflection.
+ *
  * @author E-Commerce Development Team
  * @version 1.0.0
  * @since 2025-11-07
  */
 @Configuration
+@EnableConfigurationProperties(OrderProperties.class)
 public class ApplicationConfig {
-
-  /**
-   * Creates and configures ModelMapper bean for DTO to Entity mapping.
-   *
-   * ModelMapper is used to automatically map between DTOs and Entity objects,
-   * reducing boilerplate code and maintaining clean separation of concerns.
-   *
-   * @return Configured ModelMapper instance
-   */
-  @Bean
-  public ModelMapper modelMapper() {
-    ModelMapper modelMapper = new ModelMapper();
-    // Configure ModelMapper for strict matching to avoid unintended mappings
-    modelMapper.getConfiguration()
-      .setSkipNullEnabled(true)
-      .setAmbiguityIgnored(true);
-    return modelMapper;
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.ecommerce.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Logback encoder that writes one compact JSON object per log event.
+ *
+ * Fields: {@code timestamp} (epoch milliseconds), {@code level},
+ * {@code thread}, {@code logger}, {@code message}, and {@code mdc} and
+ * {@code exception} when present. Each event is built in a single
+ * pre-sized buffer and written without an intermediate object model, so the
+ * only allocations are the formatted message and the output bytes.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class JsonLineEncoder extends EncoderBase<ILoggingEvent> {
+
+  private static final byte[] EMPTY = new byte[0];
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  @Override
+  public byte[] headerBytes() {
+    return EMPTY;
+  }
+
+  @Override
+  public byte[] encode(ILoggingEvent event) {
+    String message = event.getFormattedMessage();
+    StringBuilder json = new StringBuilder(160 + (message == null ? 0 : message.length()));
+
+    json.append("{\"timestamp\":").append(event.getTimeStamp());
+    json.append(",\"level\":\"").append(event.getLevel().levelStr).append('"');
+    appendField(json, "thread", event.getThreadName());
+    appendField(json, "logger", event.getLoggerName());
+    appendField(json, "message", message);
+
+    Map<String, String> mdc = event.getMDCPropertyMap();
+    if (mdc != null && !mdc.isEmpty()) {
+      json.append(",\"mdc\":{");
+      boolean first = true;
+      for (Map.Entry<String, String> entry : mdc.entrySet()) {
+        if (!first) {
+          json.append(',');
+        }
+        appendString(json, entry.getKey());
+        json.append(':');
+        appendString(json, entry.getValue());
+        first = false;
+      }
+      json.append('}');
+    }
+
+    IThrowableProxy throwable = event.getThrowableProxy();
+    if (throwable != null) {
+      appendField(json, "exception", ThrowableProxyUtil.asString(throwable));
+    }
+
+    json.append("}\n");
+    return json.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public byte[] footerBytes() {
+    return EMPTY;
+  }
+
+  private static void appendField(StringBuilder json, String name, String value) {
+    json.append(",\"").append(name).append("\":");
+    appendString(json, value);
+  }
+
+  /**
+   * Appends a JSON string literal, escaping quotes, backslashes and control
+   * characters. Null is written as JSON null.
+   */
+  static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+}
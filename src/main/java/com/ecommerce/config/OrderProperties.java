@@ -0,0 +1,644 @@
+package com.ecommerce.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tunable settings for order processing, bound from the {@code order.*} properties.
+ *
+ * Each nested class groups the settings of one feature so that defaults live
+ * next to the code that uses them and can be overridden per environment.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@ConfigurationProperties(prefix = "order")
+public class OrderProperties {
+
+  private final Batch batch = new Batch();
+  private final Scheduler scheduler = new Scheduler();
+  private final OrderNumber number = new OrderNumber();
+  private final Cache cache = new Cache();
+  private final Idempotency idempotency = new Idempotency();
+  private final Outbox outbox = new Outbox();
+  private final Stream stream = new Stream();
+  private final Promotion promotion = new Promotion();
+  private final Deadlines deadlines = new Deadlines();
+  private final GroupCommit groupCommit = new GroupCommit();
+
+  public Batch getBatch() {
+    return batch;
+  }
+
+  public Scheduler getScheduler() {
+    return scheduler;
+  }
+
+  public OrderNumber getNumber() {
+    return number;
+  }
+
+  public Cache getCache() {
+    return cache;
+  }
+
+  public Idempotency getIdempotency() {
+    return idempotency;
+  }
+
+  public Outbox getOutbox() {
+    return outbox;
+  }
+
+  public Stream getStream() {
+    return stream;
+  }
+
+  public Promotion getPromotion() {
+    return promotion;
+  }
+
+  public Deadlines getDeadlines() {
+    return deadlines;
+  }
+
+  public GroupCommit getGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Settings for bulk order creation and bulk status updates.
+   */
+  public static class Batch {
+
+    /**
+     * Number of orders persisted per transaction when creating orders in bulk.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Number of orders locked and updated per transaction when changing the
+     * status of orders in bulk.
+     */
+    private int statusChunkSize = 1000;
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+
+    public int getStatusChunkSize() {
+      return statusChunkSize;
+    }
+
+    public void setStatusChunkSize(int statusChunkSize) {
+      this.statusChunkSize = statusChunkSize;
+    }
+  }
+
+  /**
+   * Settings for the PENDING to PROCESSING promotion job.
+   */
+  public static class Scheduler {
+
+    /**
+     * Number of orders promoted per transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of id ranges the PENDING backlog is split into per run. More
+     * partitions than workers evens out ranges with few PENDING orders.
+     */
+    private int partitions = 16;
+
+    /**
+     * Number of partitions promoted at the same time. Each worker holds one
+     * database connection, so keep this below the connection pool size.
+     */
+    private int concurrency = 4;
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+
+    public int getPartitions() {
+      return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+      this.partitions = partitions;
+    }
+
+    public int getConcurrency() {
+      return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+      this.concurrency = concurrency;
+    }
+  }
+
+  /**
+   * Settings for order number generation.
+   */
+  public static class OrderNumber {
+
+    /**
+     * Number of order numbers leased from the database at a time. Larger blocks
+     * mean fewer database round trips but longer gaps after a restart.
+     */
+    private int blockSize = 100;
+
+    public int getBlockSize() {
+      return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+      this.blockSize = blockSize;
+    }
+  }
+
+  /**
+   * Settings for the cache in front of the single-order lookups.
+   */
+  public static class Cache {
+
+    /**
+     * Whether lookups by id and order number are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached orders; the least recently used are evicted first.
+     */
+    private int maxSize = 10000;
+
+    /**
+     * How long an order stays cached after it was loaded.
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+  }
+
+  /**
+   * Settings for idempotency keys on order creation.
+   */
+  public static class Idempotency {
+
+    /**
+     * How long a key is remembered after the order was created; a retry with
+     * the same key after that creates a new order.
+     */
+    private Duration timeToLive = Duration.ofHours(24);
+
+    /**
+     * Maximum number of keys remembered in memory; the least recently used are
+     * forgotten first and then answered from the database.
+     */
+    private int maxSize = 10000;
+
+    /**
+     * How long a request waits for another request with the same key that is
+     * still creating its order before it is answered with 503.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public Duration getWaitTimeout() {
+      return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+      this.waitTimeout = waitTimeout;
+    }
+  }
+
+  /**
+   * Settings for the outbox of order lifecycle events and its relay.
+   */
+  public static class Outbox {
+
+    /**
+     * Whether order changes write events to the outbox.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Where relayed events go: {@code file} or {@code memory}.
+     */
+    private String sink = "file";
+
+    /**
+     * NDJSON file the {@code file} sink appends to.
+     */
+    private Path file = Path.of("logs", "order-events.ndjson");
+
+    /**
+     * Maximum number of events read, published and deleted together.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Shortest time between two counts of the outbox after failed relay runs;
+     * drained runs report an empty backlog without counting.
+     */
+    private Duration backlogSampleInterval = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getSink() {
+      return sink;
+    }
+
+    public void setSink(String sink) {
+      this.sink = sink;
+    }
+
+    public Path getFile() {
+      return file;
+    }
+
+    public void setFile(Path file) {
+      this.file = file;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    public Duration getBacklogSampleInterval() {
+      return backlogSampleInterval;
+    }
+
+    public void setBacklogSampleInterval(Duration backlogSampleInterval) {
+      this.backlogSampleInterval = backlogSampleInterval;
+    }
+  }
+
+  /**
+   * Settings for the Server-Sent Events stream of order status changes.
+   */
+  public static class Stream {
+
+    /**
+     * Events buffered per subscriber; a subscriber that falls this far
+     * behind is disconnected.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Most recent events kept for clients resuming with {@code Last-Event-ID}.
+     */
+    private int replaySize = 10000;
+
+    /**
+     * Committed changes waiting to be fanned out before new ones are dropped.
+     */
+    private int dispatchQueueSize = 10000;
+
+    /**
+     * Threads writing events to subscriber connections.
+     */
+    private int writerThreads = 4;
+
+    /**
+     * How long writing to one subscriber may block before the subscriber is
+     * disconnected and another writer thread takes over its share of the work.
+     */
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How long a subscription stays open before the client has to reconnect.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getBufferSize() {
+      return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+    }
+
+    public int getReplaySize() {
+      return replaySize;
+    }
+
+    public void setReplaySize(int replaySize) {
+      this.replaySize = replaySize;
+    }
+
+    public int getDispatchQueueSize() {
+      return dispatchQueueSize;
+    }
+
+    public void setDispatchQueueSize(int dispatchQueueSize) {
+      this.dispatchQueueSize = dispatchQueueSize;
+    }
+
+    public int getWriterThreads() {
+      return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+      this.writerThreads = writerThreads;
+    }
+
+    public Duration getWriteTimeout() {
+      return writeTimeout;
+    }
+
+    public void setWriteTimeout(Duration writeTimeout) {
+      this.writeTimeout = writeTimeout;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+
+  /**
+   * Settings for promoting new orders to PROCESSING as soon as they commit.
+   */
+  public static class Promotion {
+
+    /**
+     * Whether new orders are queued for promotion; when disabled only the
+     * scheduled job promotes them.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Orders waiting for promotion before new ones are left to the scheduled job.
+     */
+    private int queueSize = 10000;
+
+    /**
+     * Threads promoting queued orders. Each holds a database connection while
+     * promoting a batch.
+     */
+    private int workers = 2;
+
+    /**
+     * Maximum number of queued orders promoted per transaction.
+     */
+    private int batchSize = 100;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getQueueSize() {
+      return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+      this.queueSize = queueSize;
+    }
+
+    public int getWorkers() {
+      return workers;
+    }
+
+    public void setWorkers(int workers) {
+      this.workers = workers;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+  }
+
+  /**
+   * Settings for the in-memory order deadlines.
+   */
+  public static class Deadlines {
+
+    /**
+     * Whether stale PENDING orders are cancelled and overdue PROCESSING
+     * orders are flagged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a PENDING order may stay unchanged before it is cancelled.
+     */
+    private Duration pendingTimeout = Duration.ofHours(1);
+
+    /**
+     * How long an order may stay PROCESSING before it is flagged as past its SLA.
+     */
+    private Duration processingSla = Duration.ofHours(48);
+
+    /**
+     * Resolution of the deadlines and interval of the job firing them.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Orders loaded per query on startup and handled per transaction when
+     * their deadlines fire.
+     */
+    private int batchSize = 1000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getPendingTimeout() {
+      return pendingTimeout;
+    }
+
+    public void setPendingTimeout(Duration pendingTimeout) {
+      this.pendingTimeout = pendingTimeout;
+    }
+
+    public Duration getProcessingSla() {
+      return processingSla;
+    }
+
+    public void setProcessingSla(Duration processingSla) {
+      this.processingSla = processingSla;
+    }
+
+    public Duration getTick() {
+      return tick;
+    }
+
+    public void setTick(Duration tick) {
+      this.tick = tick;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+  }
+
+  /**
+   * Settings for writing concurrently created orders in shared transactions.
+   */
+  public static class GroupCommit {
+
+    /**
+     * Whether order creations outside a caller's transaction are grouped;
+     * when disabled each order commits on its own.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the first order of a group waits for others to join it. Zero
+     * only groups orders that are already waiting.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Maximum number of orders written per transaction.
+     */
+    private int maxSize = 100;
+
+    /**
+     * Orders waiting to be written before new ones are written by their
+     * caller alone.
+     */
+    private int queueSize = 10000;
+
+    /**
+     * Threads writing groups. Each holds a database connection while writing
+     * a group.
+     */
+    private int committers = 2;
+
+    /**
+     * How long a caller waits for its group to commit before it gets an
+     * error; the order may still be written afterwards.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+      return window;
+    }
+
+    public void setWindow(Duration window) {
+      this.window = window;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public int getQueueSize() {
+      return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+      this.queueSize = queueSize;
+    }
+
+    public int getCommitters() {
+      return committers;
+    }
+
+    public void setCommitters(int committers) {
+      this.committers = committers;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.config;
+
+import com.ecommerce.outbox.FileOrderEventSink;
+import com.ecommerce.outbox.InMemoryOrderEventSink;
+import com.ecommerce.outbox.OrderEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox configuration class.
+ *
+ * Selects the {@link OrderEventSink} the outbox relay publishes to with
+ * {@code order.outbox.sink}: {@code file} (default) appends NDJSON to
+ * {@code order.outbox.file}, {@code memory} keeps events in memory for tests.
+ * Another transport is added by defining a sink bean and setting the property
+ * to any other value.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Configuration
+public class OutboxConfig {
+
+  /**
+   * Sink that appends events to a local NDJSON file.
+   *
+   * @return FileOrderEventSink
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "order.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+  public OrderEventSink fileOrderEventSink(OrderProperties orderProperties, ObjectMapper objectMapper) {
+    return new FileOrderEventSink(orderProperties.getOutbox().getFile(), objectMapper);
+  }
+
+  /**
+   * Sink that keeps events in memory.
+   *
+   * @return InMemoryOrderEventSink
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "order.outbox", name = "sink", havingValue = "memory")
+  public InMemoryOrderEventSink inMemoryOrderEventSink() {
+    return new InMemoryOrderEventSink();
+  }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps a random sample of the log lines of one
+ * logger category.
+ *
+ * Events of loggers whose name starts with {@code category} and whose level
+ * is at or below {@code level} are kept with a probability of 1 in
+ * {@code keepOneIn}; everything else passes through untouched, so warnings
+ * and errors are never dropped. The decision is taken before the message is
+ * formatted and uses a thread-local random number, so dropped lines cost
+ * neither allocation nor contention.
+ *
+ * Configured in logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="com.ecommerce.config.SamplingTurboFilter"&gt;
+ *   &lt;category&gt;com.ecommerce.controller&lt;/category&gt;
+ *   &lt;level&gt;INFO&lt;/level&gt;
+ *   &lt;keepOneIn&gt;100&lt;/keepOneIn&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+  private String category;
+  private Level level = Level.INFO;
+  private int keepOneIn = 1;
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.INFO);
+  }
+
+  public void setKeepOneIn(int keepOneIn) {
+    this.keepOneIn = keepOneIn;
+  }
+
+  @Override
+  public void start() {
+    if (category == null || category.isEmpty()) {
+      addError("No category set for sampling filter " + getName());
+      return;
+    }
+    if (keepOneIn < 1) {
+      addError("keepOneIn must be at least 1 for sampling filter " + getName() + ", was " + keepOneIn);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format,
+                            Object[] params, Throwable t) {
+    if (keepOneIn == 1 || eventLevel.levelInt > level.levelInt || !logger.getName().startsWith(category)) {
+      return FilterReply.NEUTRAL;
+    }
+    // Disabled levels are dropped by the logger anyway; skip the random draw
+    if (eventLevel.levelInt < logger.getEffectiveLevel().levelInt) {
+      return FilterReply.NEUTRAL;
+    }
+    return ThreadLocalRandom.current().nextInt(keepOneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+}
@@ -1,7 +1,12 @@
 package com.ecommerce.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
@@ -11,6 +16,14 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
  * It ensures that background jobs run efficiently without blocking the main
  * application threads.
  *
+ * The partitions of the pending order promotion run on an executor of their
+ * own, so a long promotion run neither is capped by the scheduler pool nor
+ * holds back the other scheduled tasks.
+ *
+ * With {@code spring.threads.virtual.enabled=true} (Java 21, see the
+ * {@code virtual-threads} Maven profile) scheduled tasks and partitions run
+ * on virtual threads instead of the fixed pools.
+ *
  * @author E-Commerce Development Team
  * @version 1.0.0
  * @since 2025-11-07
@@ -18,6 +31,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Configuration
 public class SchedulerConfig {
 
+  private static final String THREAD_NAME_PREFIX = "order-scheduler-";
+  private static final String PARTITION_THREAD_NAME_PREFIX = "order-promotion-partition-";
+
   /**
    * Configures ThreadPoolTaskScheduler for executing scheduled tasks.
    *
@@ -29,13 +45,73 @@ public class SchedulerConfig {
    * @return Configured ThreadPoolTaskScheduler
    */
   @Bean
+  @ConditionalOnThreading(Threading.PLATFORM)
   public ThreadPoolTaskScheduler taskScheduler() {
     ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
     scheduler.setPoolSize(5);
-    scheduler.setThreadNamePrefix("order-scheduler-");
+    scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
     scheduler.setWaitForTasksToCompleteOnShutdown(true);
     scheduler.setAwaitTerminationSeconds(20);
     scheduler.initialize();
     return scheduler;
   }
-}
\ No newline at end of file
+
+  /**
+   * Configures a scheduler that runs every task execution on a new virtual thread.
+   *
+   * One platform thread keeps the timers; there is no pool to size and a task
+   * blocked on the database does not hold back other tasks.
+   *
+   * @return Configured SimpleAsyncTaskScheduler
+   */
+  @Bean(name = "taskScheduler")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public SimpleAsyncTaskScheduler virtualThreadTaskScheduler() {
+    SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+    scheduler.setVirtualThreads(true);
+    scheduler.setThreadNamePrefix(THREAD_NAME_PREFIX);
+    scheduler.setTaskTerminationTimeout(20_000);
+    return scheduler;
+  }
+
+  /**
+   * Configures the executor for the partition workers of the pending order
+   * promotion.
+   *
+   * The thread running the scheduled job promotes partitions itself, so the
+   * pool holds the other {@code order.scheduler.concurrency - 1} workers.
+   *
+   * @param orderProperties Order settings
+   * @return Configured ThreadPoolTaskExecutor
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public ThreadPoolTaskExecutor orderPromotionExecutor(OrderProperties orderProperties) {
+    int helpers = Math.max(1, orderProperties.getScheduler().getConcurrency() - 1);
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(helpers);
+    executor.setMaxPoolSize(helpers);
+    executor.setThreadNamePrefix(PARTITION_THREAD_NAME_PREFIX);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(20);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Configures an executor that runs each partition worker of the pending
+   * order promotion on a new virtual thread.
+   *
+   * @param orderProperties Order settings
+   * @return Configured SimpleAsyncTaskExecutor
+   */
+  @Bean(name = "orderPromotionExecutor")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public SimpleAsyncTaskExecutor virtualThreadOrderPromotionExecutor(OrderProperties orderProperties) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(PARTITION_THREAD_NAME_PREFIX);
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(Math.max(1, orderProperties.getScheduler().getConcurrency() - 1));
+    executor.setTaskTerminationTimeout(20_000);
+    return executor;
+  }
+}
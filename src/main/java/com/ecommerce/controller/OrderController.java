@@ -1,22 +1,41 @@
 package com.ecommerce.controller;
 
 import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.BatchCreateOrderRequest;
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.BatchUpdateOrderStatusRequest;
+import com.ecommerce.dto.BatchUpdateOrderStatusResponse;
 import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.CursorPage;
 import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.dto.UpdateOrderStatusRequest;
 import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.ValidationException;
+import com.ecommerce.service.OrderCache;
+import com.ecommerce.service.OrderExportService;
+import com.ecommerce.service.OrderIdempotencyService;
+import com.ecommerce.service.OrderIdempotencyService.IdempotentOrder;
 import com.ecommerce.service.OrderService;
+import com.ecommerce.stream.OrderStatusBroadcaster;
+import com.ecommerce.stream.OrderStreamFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
 
 /**
  * REST Controller for Order operations.
@@ -35,23 +54,55 @@ public class OrderController {
 
   private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
 
+  static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+  static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
   private final OrderService orderService;
+  private final OrderCache orderCache;
+  private final OrderExportService orderExportService;
+  private final OrderIdempotencyService orderIdempotencyService;
+  private final OrderStatusBroadcaster orderStatusBroadcaster;
 
-  public OrderController(OrderService orderService) {
+  public OrderController(OrderService orderService, OrderCache orderCache, OrderExportService orderExportService,
+                         OrderIdempotencyService orderIdempotencyService,
+                         OrderStatusBroadcaster orderStatusBroadcaster) {
     this.orderService = orderService;
+    this.orderCache = orderCache;
+    this.orderExportService = orderExportService;
+    this.orderIdempotencyService = orderIdempotencyService;
+    this.orderStatusBroadcaster = orderStatusBroadcaster;
   }
 
   /**
    * Creates a new order.
    *
+   * With an {@code Idempotency-Key} header, retries of the same request return
+   * the order created by the first one, marked with
+   * {@code Idempotent-Replayed: true}, instead of creating another order.
+   *
+   * @param idempotencyKey Optional client-chosen key identifying this order
    * @param request Order creation request
    * @return Created order with HTTP 201 status
    */
   @PostMapping
   @Operation(summary = "Create a new order", description = "Creates a new order with items")
-  public ResponseEntity<ApiResponse<OrderDTO>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+  public ResponseEntity<ApiResponse<OrderDTO>> createOrder(
+    @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+    @Valid @RequestBody CreateOrderRequest request) {
     logger.info("Received request to create order for customer: {}", request.getCustomerName());
 
+    if (idempotencyKey != null) {
+      IdempotentOrder result = orderIdempotencyService.createOrder(idempotencyKey, request);
+      ApiResponse<OrderDTO> response = ApiResponse.success("Order created successfully", result.order());
+
+      logger.info("Order {}: {}", result.replayed() ? "replayed" : "created successfully",
+        result.order().getOrderNumber());
+      return ResponseEntity.status(HttpStatus.CREATED)
+        .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+        .body(response);
+    }
+
     OrderDTO orderDTO = orderService.createOrder(request);
     ApiResponse<OrderDTO> response = ApiResponse.success("Order created successfully", orderDTO);
 
@@ -59,6 +110,34 @@ public class OrderController {
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  /**
+   * Creates several orders in one request.
+   *
+   * Returns HTTP 201 when every order was created and HTTP 207 when some
+   * orders were rejected; the per-order results describe each outcome.
+   *
+   * @param request Batch of order creation requests
+   * @return Per-order results
+   */
+  @PostMapping("/batch")
+  @Operation(summary = "Create orders in bulk", description = "Creates a batch of orders and reports the result of each one")
+  public ResponseEntity<ApiResponse<BatchCreateOrderResponse>> createOrders(
+    @Valid @RequestBody BatchCreateOrderRequest request) {
+
+    logger.info("Received request to create batch of {} orders", request.getOrders().size());
+
+    BatchCreateOrderResponse batchResponse = orderService.createOrders(request.getOrders());
+    HttpStatus httpStatus = batchResponse.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    ApiResponse<BatchCreateOrderResponse> response = ApiResponse.success(
+      String.format("%d of %d orders created", batchResponse.getSucceeded(), batchResponse.getTotal()),
+      batchResponse
+    );
+
+    logger.info("Batch order creation finished: {} created, {} failed",
+      batchResponse.getSucceeded(), batchResponse.getFailed());
+    return ResponseEntity.status(httpStatus).body(response);
+  }
+
   /**
    * Retrieves an order by ID.
    *
@@ -108,6 +187,133 @@ public class OrderController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Retrieves order summaries with optional status filter and pagination.
+   *
+   * Summaries carry the order fields without items and are read without
+   * touching the order items table, which makes this the cheaper choice for
+   * list screens.
+   *
+   * @param status Optional status filter
+   * @param pageable Pagination parameters
+   * @return Page of order summaries with HTTP 200 status
+   */
+  @GetMapping("/summary")
+  @Operation(summary = "Get order summaries", description = "Retrieves orders without items, with pagination and optional status filter")
+  public ResponseEntity<ApiResponse<Page<OrderSummaryDTO>>> getOrderSummaries(
+    @RequestParam(required = false) OrderStatus status,
+    @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
+
+    logger.info("Received request to fetch order summaries - status: {}, page: {}, size: {}",
+      status, pageable.getPageNumber(), pageable.getPageSize());
+
+    Page<OrderSummaryDTO> summaries = orderService.getOrderSummaries(status, pageable);
+    ApiResponse<Page<OrderSummaryDTO>> response = ApiResponse.success(
+      "Order summaries retrieved successfully", summaries
+    );
+
+    logger.debug("Retrieved {} order summaries", summaries.getTotalElements());
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Retrieves orders with cursor-based pagination.
+   *
+   * Pages are ordered by creation time and id. Pass the {@code nextCursor} of a
+   * response as {@code after} to fetch the following page; deep pages cost the
+   * same as the first one and no total count is computed.
+   *
+   * @param status Optional status filter
+   * @param after Opaque cursor of the previous page
+   * @param size Page size
+   * @return Page of orders with the next cursor and HTTP 200 status
+   */
+  @GetMapping("/cursor")
+  @Operation(summary = "Get orders by cursor", description = "Retrieves orders with keyset pagination and optional status filter")
+  public ResponseEntity<ApiResponse<CursorPage<OrderDTO>>> getOrdersByCursor(
+    @RequestParam(required = false) OrderStatus status,
+    @RequestParam(required = false) String after,
+    @RequestParam(defaultValue = "10") int size) {
+
+    logger.info("Received request to fetch orders by cursor - status: {}, after: {}, size: {}",
+      status, after, size);
+
+    CursorPage<OrderDTO> orders = orderService.getOrdersAfter(status, after, size);
+    ApiResponse<CursorPage<OrderDTO>> response = ApiResponse.success(
+      "Orders retrieved successfully", orders
+    );
+
+    logger.debug("Retrieved {} orders, hasNext: {}", orders.getContent().size(), orders.isHasNext());
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Streams order changes as Server-Sent Events.
+   *
+   * Each event is named after its type (ORDER_CREATED, STATUS_CHANGED or
+   * ORDER_CANCELLED), carries the change as JSON and has an id. A client that
+   * reconnects with {@code Last-Event-ID} receives the events it missed; a
+   * {@code resync} event means events were lost and the orders should be
+   * reloaded. Clients that fall too far behind are disconnected.
+   *
+   * @param orderId Optional order ID filter
+   * @param customerEmail Optional customer email filter
+   * @param status Optional filter on the status an order moves into
+   * @param lastEventId Id of the last event received before reconnecting
+   * @return Event stream
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Stream order changes", description = "Server-Sent Events of order changes with optional order, customer and status filters")
+  public SseEmitter streamOrderChanges(
+    @RequestParam(required = false) Long orderId,
+    @RequestParam(required = false) String customerEmail,
+    @RequestParam(required = false) OrderStatus status,
+    @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+
+    logger.debug("Received request to stream order changes - orderId: {}, status: {}", orderId, status);
+
+    Long resumeAfter = null;
+    if (lastEventId != null && !lastEventId.isBlank()) {
+      try {
+        resumeAfter = Long.parseLong(lastEventId.trim());
+      } catch (NumberFormatException ex) {
+        throw new ValidationException(LAST_EVENT_ID_HEADER + " must be an event id");
+      }
+    }
+    return orderStatusBroadcaster.subscribe(new OrderStreamFilter(orderId, customerEmail, status), resumeAfter);
+  }
+
+  /**
+   * Exports orders with their items as NDJSON or CSV.
+   *
+   * The response is streamed from a database cursor while it is written, so
+   * exports of any size run in constant memory. NDJSON has one order per line
+   * in the OrderDTO shape; CSV has one row per order item.
+   *
+   * @param status Optional status filter
+   * @param format Output format: ndjson (default) or csv
+   * @param response HTTP response the export is written to
+   * @throws IOException if writing the response fails
+   */
+  @GetMapping("/export")
+  @Operation(summary = "Export orders", description = "Streams all orders with items as NDJSON or CSV, with optional status filter")
+  public void exportOrders(
+    @RequestParam(required = false) OrderStatus status,
+    @RequestParam(defaultValue = "ndjson") String format,
+    HttpServletResponse response) throws IOException {
+
+    OrderExportService.Format exportFormat = OrderExportService.Format.fromParameter(format);
+    logger.info("Received request to export orders - status: {}, format: {}", status, exportFormat);
+
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+      "attachment; filename=\"orders." + exportFormat.getFileExtension() + "\"");
+
+    long exported = orderExportService.exportOrders(status, exportFormat, response.getOutputStream());
+    logger.debug("Exported {} orders", exported);
+  }
+
   /**
    * Updates the status of an order.
    *
@@ -130,6 +336,36 @@ public class OrderController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Updates the status of many orders in one request.
+   *
+   * Orders are selected by id or by their current status. Returns HTTP 200
+   * when every order was updated and HTTP 207 when some orders were not found
+   * or could not make the transition; the per-order results describe each
+   * outcome.
+   *
+   * @param request Orders to update and the new status
+   * @return Per-order results
+   */
+  @PatchMapping("/batch/status")
+  @Operation(summary = "Update order status in bulk", description = "Updates the status of a batch of orders and reports the result for each one")
+  public ResponseEntity<ApiResponse<BatchUpdateOrderStatusResponse>> updateOrderStatuses(
+    @Valid @RequestBody BatchUpdateOrderStatusRequest request) {
+
+    logger.info("Received request to update status of batch of orders to: {}", request.getStatus());
+
+    BatchUpdateOrderStatusResponse batchResponse = orderService.updateOrderStatuses(request);
+    HttpStatus httpStatus = batchResponse.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+    ApiResponse<BatchUpdateOrderStatusResponse> response = ApiResponse.success(
+      String.format("%d of %d orders updated", batchResponse.getSucceeded(), batchResponse.getTotal()),
+      batchResponse
+    );
+
+    logger.info("Batch status update finished: {} updated, {} failed",
+      batchResponse.getSucceeded(), batchResponse.getFailed());
+    return ResponseEntity.status(httpStatus).body(response);
+  }
+
   /**
    * Cancels an order.
    *
@@ -147,4 +383,19 @@ public class OrderController {
     logger.info("Order {} cancelled successfully", id);
     return ResponseEntity.ok(response);
   }
-}
\ No newline at end of file
+
+  /**
+   * Reports hit, miss and eviction counts of the order lookup cache.
+   *
+   * @return Cache counters with HTTP 200 status
+   */
+  @GetMapping("/cache/stats")
+  @Operation(summary = "Get order cache statistics", description = "Retrieves hit, miss and eviction counts of the order cache")
+  public ResponseEntity<ApiResponse<OrderCache.Stats>> getCacheStats() {
+    OrderCache.Stats stats = orderCache.stats();
+    ApiResponse<OrderCache.Stats> response = ApiResponse.success("Cache statistics retrieved successfully", stats);
+
+    logger.debug("Order cache stats: {}", stats);
+    return ResponseEntity.ok(response);
+  }
+}
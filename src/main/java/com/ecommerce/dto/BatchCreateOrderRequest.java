@@ -0,0 +1,36 @@
+package com.ecommerce.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO for creating several orders in a single call.
+ *
+ * Individual orders are validated by the service so that one invalid order
+ * is reported in its own result instead of rejecting the whole batch.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchCreateOrderRequest {
+
+  @NotEmpty(message = "Batch must contain at least one order")
+  @Size(max = 5000, message = "Batch cannot contain more than 5000 orders")
+  private List<CreateOrderRequest> orders = new ArrayList<>();
+
+  // Constructors
+  public BatchCreateOrderRequest() {
+  }
+
+  // Getters and Setters
+  public List<CreateOrderRequest> getOrders() {
+    return orders;
+  }
+
+  public void setOrders(List<CreateOrderRequest> orders) {
+    this.orders = orders;
+  }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for batch order creation.
+ *
+ * Summarises how many orders were created and carries one result per
+ * submitted order, in submission order.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchCreateOrderResponse {
+
+  private int total;
+  private int succeeded;
+  private int failed;
+  private List<BatchOrderResult> results = new ArrayList<>();
+
+  // Constructors
+  public BatchCreateOrderResponse() {
+  }
+
+  /**
+   * Builds the response and its counters from the per-order results.
+   */
+  public static BatchCreateOrderResponse of(List<BatchOrderResult> results) {
+    BatchCreateOrderResponse response = new BatchCreateOrderResponse();
+    response.setResults(results);
+    response.setTotal(results.size());
+    int succeeded = 0;
+    for (BatchOrderResult result : results) {
+      if (result.isSuccess()) {
+        succeeded++;
+      }
+    }
+    response.setSucceeded(succeeded);
+    response.setFailed(results.size() - succeeded);
+    return response;
+  }
+
+  // Getters and Setters
+  public int getTotal() {
+    return total;
+  }
+
+  public void setTotal(int total) {
+    this.total = total;
+  }
+
+  public int getSucceeded() {
+    return succeeded;
+  }
+
+  public void setSucceeded(int succeeded) {
+    this.succeeded = succeeded;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<BatchOrderResult> getResults() {
+    return results;
+  }
+
+  public void setResults(List<BatchOrderResult> results) {
+    this.results = results;
+  }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Outcome of a single order within a batch creation request.
+ *
+ * The index refers to the position of the order in the submitted batch.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchOrderResult {
+
+  private int index;
+  private String status;
+  private OrderDTO order;
+  private String error;
+
+  // Constructors
+  public BatchOrderResult() {
+  }
+
+  public BatchOrderResult(int index, String status, OrderDTO order, String error) {
+    this.index = index;
+    this.status = status;
+    this.order = order;
+    this.error = error;
+  }
+
+  /**
+   * Creates a result for an order that was persisted.
+   */
+  public static BatchOrderResult success(int index, OrderDTO order) {
+    return new BatchOrderResult(index, "success", order, null);
+  }
+
+  /**
+   * Creates a result for an order that was rejected.
+   */
+  public static BatchOrderResult error(int index, String error) {
+    return new BatchOrderResult(index, "error", null, error);
+  }
+
+  @JsonIgnore
+  public boolean isSuccess() {
+    return "success".equals(status);
+  }
+
+  // Getters and Setters
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public OrderDTO getOrder() {
+    return order;
+  }
+
+  public void setOrder(OrderDTO order) {
+    this.order = order;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+}
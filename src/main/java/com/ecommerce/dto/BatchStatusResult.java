@@ -0,0 +1,71 @@
+package com.ecommerce.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Outcome of a single order within a batch status update.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchStatusResult {
+
+  private Long orderId;
+  private String status;
+  private String error;
+
+  // Constructors
+  public BatchStatusResult() {
+  }
+
+  public BatchStatusResult(Long orderId, String status, String error) {
+    this.orderId = orderId;
+    this.status = status;
+    this.error = error;
+  }
+
+  /**
+   * Creates a result for an order that was moved to the new status.
+   */
+  public static BatchStatusResult success(Long orderId) {
+    return new BatchStatusResult(orderId, "success", null);
+  }
+
+  /**
+   * Creates a result for an order that was left unchanged.
+   */
+  public static BatchStatusResult error(Long orderId, String error) {
+    return new BatchStatusResult(orderId, "error", error);
+  }
+
+  @JsonIgnore
+  public boolean isSuccess() {
+    return "success".equals(status);
+  }
+
+  // Getters and Setters
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public void setOrderId(Long orderId) {
+    this.orderId = orderId;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+}
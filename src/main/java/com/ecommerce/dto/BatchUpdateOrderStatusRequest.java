@@ -0,0 +1,95 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.OrderStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for moving many orders to a new status in a single call.
+ *
+ * Orders are selected either by id ({@code orderIds}) or by their current
+ * status ({@code currentStatus}, at most {@code limit} orders, oldest ids
+ * first); exactly one of the two must be given.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchUpdateOrderStatusRequest {
+
+  public static final int MAX_ORDERS = 10000;
+
+  @Size(max = MAX_ORDERS, message = "Batch cannot contain more than 10000 orders")
+  private List<Long> orderIds;
+
+  private OrderStatus currentStatus;
+
+  @Min(value = 1, message = "Limit must be at least 1")
+  @Max(value = MAX_ORDERS, message = "Limit cannot be more than 10000")
+  private Integer limit;
+
+  @NotNull(message = "Status is required")
+  private OrderStatus status;
+
+  // Constructors
+  public BatchUpdateOrderStatusRequest() {
+  }
+
+  /**
+   * Selects the orders by id.
+   */
+  public static BatchUpdateOrderStatusRequest forIds(List<Long> orderIds, OrderStatus status) {
+    BatchUpdateOrderStatusRequest request = new BatchUpdateOrderStatusRequest();
+    request.setOrderIds(orderIds);
+    request.setStatus(status);
+    return request;
+  }
+
+  /**
+   * Selects up to {@code limit} orders currently in the given status.
+   */
+  public static BatchUpdateOrderStatusRequest forCurrentStatus(OrderStatus currentStatus, Integer limit,
+                                                               OrderStatus status) {
+    BatchUpdateOrderStatusRequest request = new BatchUpdateOrderStatusRequest();
+    request.setCurrentStatus(currentStatus);
+    request.setLimit(limit);
+    request.setStatus(status);
+    return request;
+  }
+
+  // Getters and Setters
+  public List<Long> getOrderIds() {
+    return orderIds;
+  }
+
+  public void setOrderIds(List<Long> orderIds) {
+    this.orderIds = orderIds;
+  }
+
+  public OrderStatus getCurrentStatus() {
+    return currentStatus;
+  }
+
+  public void setCurrentStatus(OrderStatus currentStatus) {
+    this.currentStatus = currentStatus;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public void setLimit(Integer limit) {
+    this.limit = limit;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(OrderStatus status) {
+    this.status = status;
+  }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.OrderStatus;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for batch status updates.
+ *
+ * Summarises how many orders reached the new status and carries one result
+ * per order, in request order (or id order when selected by status).
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class BatchUpdateOrderStatusResponse {
+
+  private OrderStatus newStatus;
+  private int total;
+  private int succeeded;
+  private int failed;
+  private List<BatchStatusResult> results = new ArrayList<>();
+
+  // Constructors
+  public BatchUpdateOrderStatusResponse() {
+  }
+
+  /**
+   * Builds the response and its counters from the per-order results.
+   */
+  public static BatchUpdateOrderStatusResponse of(OrderStatus newStatus, List<BatchStatusResult> results) {
+    BatchUpdateOrderStatusResponse response = new BatchUpdateOrderStatusResponse();
+    response.setNewStatus(newStatus);
+    response.setResults(results);
+    response.setTotal(results.size());
+    int succeeded = 0;
+    for (BatchStatusResult result : results) {
+      if (result.isSuccess()) {
+        succeeded++;
+      }
+    }
+    response.setSucceeded(succeeded);
+    response.setFailed(results.size() - succeeded);
+    return response;
+  }
+
+  // Getters and Setters
+  public OrderStatus getNewStatus() {
+    return newStatus;
+  }
+
+  public void setNewStatus(OrderStatus newStatus) {
+    this.newStatus = newStatus;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public void setTotal(int total) {
+    this.total = total;
+  }
+
+  public int getSucceeded() {
+    return succeeded;
+  }
+
+  public void setSucceeded(int succeeded) {
+    this.succeeded = succeeded;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<BatchStatusResult> getResults() {
+    return results;
+  }
+
+  public void setResults(List<BatchStatusResult> results) {
+    this.results = results;
+  }
+}
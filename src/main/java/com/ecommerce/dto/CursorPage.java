@@ -0,0 +1,67 @@
+package com.ecommerce.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of results from keyset (cursor) pagination.
+ *
+ * Unlike offset pages it carries no total count; clients follow
+ * {@code nextCursor} until {@code hasNext} is false.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ * @param <T> Type of the page content
+ */
+public class CursorPage<T> {
+
+  private List<T> content = new ArrayList<>();
+  private int size;
+  private String nextCursor;
+  private boolean hasNext;
+
+  // Constructors
+  public CursorPage() {
+  }
+
+  public CursorPage(List<T> content, int size, String nextCursor, boolean hasNext) {
+    this.content = content;
+    this.size = size;
+    this.nextCursor = nextCursor;
+    this.hasNext = hasNext;
+  }
+
+  // Getters and Setters
+  public List<T> getContent() {
+    return content;
+  }
+
+  public void setContent(List<T> content) {
+    this.content = content;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public boolean isHasNext() {
+    return hasNext;
+  }
+
+  public void setHasNext(boolean hasNext) {
+    this.hasNext = hasNext;
+  }
+}
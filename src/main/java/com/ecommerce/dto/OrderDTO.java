@@ -27,6 +27,7 @@ public class OrderDTO {
   private List<OrderItemDTO> orderItems = new ArrayList<>();
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private LocalDateTime slaBreachedAt;
 
   // Constructors
   public OrderDTO() {
@@ -104,4 +105,12 @@ public class OrderDTO {
   public void setUpdatedAt(LocalDateTime updatedAt) {
     this.updatedAt = updatedAt;
   }
+
+  public LocalDateTime getSlaBreachedAt() {
+    return slaBreachedAt;
+  }
+
+  public void setSlaBreachedAt(LocalDateTime slaBreachedAt) {
+    this.slaBreachedAt = slaBreachedAt;
+  }
 }
\ No newline at end of file
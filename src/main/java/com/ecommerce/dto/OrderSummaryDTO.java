@@ -0,0 +1,111 @@
+package com.ecommerce.dto;
+
+import com.ecommerce.entity.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight view of an order for list screens.
+ *
+ * Carries the order columns only, without items. Instances are built directly
+ * by a JPQL constructor expression in
+ * {@link com.ecommerce.repository.OrderRepository}, so listing summaries never
+ * creates Order entities or reads the order_items table.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class OrderSummaryDTO {
+
+  private Long id;
+  private String orderNumber;
+  private String customerName;
+  private String customerEmail;
+  private OrderStatus status;
+  private BigDecimal totalAmount;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  // Constructors
+  public OrderSummaryDTO() {
+  }
+
+  public OrderSummaryDTO(Long id, String orderNumber, String customerName, String customerEmail,
+                         OrderStatus status, BigDecimal totalAmount,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this.id = id;
+    this.orderNumber = orderNumber;
+    this.customerName = customerName;
+    this.customerEmail = customerEmail;
+    this.status = status;
+    this.totalAmount = totalAmount;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getOrderNumber() {
+    return orderNumber;
+  }
+
+  public void setOrderNumber(String orderNumber) {
+    this.orderNumber = orderNumber;
+  }
+
+  public String getCustomerName() {
+    return customerName;
+  }
+
+  public void setCustomerName(String customerName) {
+    this.customerName = customerName;
+  }
+
+  public String getCustomerEmail() {
+    return customerEmail;
+  }
+
+  public void setCustomerEmail(String customerEmail) {
+    this.customerEmail = customerEmail;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(OrderStatus status) {
+    this.status = status;
+  }
+
+  public BigDecimal getTotalAmount() {
+    return totalAmount;
+  }
+
+  public void setTotalAmount(BigDecimal totalAmount) {
+    this.totalAmount = totalAmount;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(LocalDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
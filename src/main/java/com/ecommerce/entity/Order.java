@@ -1,6 +1,7 @@
 package com.ecommerce.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,12 +22,21 @@ import java.util.Objects;
 @Table(name = "orders", indexes = {
   @Index(name = "idx_order_number", columnList = "order_number", unique = true),
   @Index(name = "idx_status", columnList = "status"),
-  @Index(name = "idx_created_at", columnList = "created_at")
+  @Index(name = "idx_created_at_id", columnList = "created_at, id"),
+  @Index(name = "idx_status_created_at_id", columnList = "status, created_at, id")
 })
 public class Order {
 
+  /**
+   * Pooled sequence identifier. Unlike IDENTITY columns, ids are known before
+   * the INSERT runs, so Hibernate can batch order inserts; one sequence call
+   * reserves a block of allocationSize ids. On databases without sequences,
+   * such as MySQL, Hibernate keeps the sequence in a single-row table of the
+   * same name (see schema-mysql.sql).
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+  @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "order_number", nullable = false, unique = true, length = 50)
@@ -54,6 +64,20 @@ public class Order {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  /**
+   * When the order was found still PROCESSING after its SLA; null otherwise.
+   */
+  @Column(name = "sla_breached_at")
+  private LocalDateTime slaBreachedAt;
+
+  /**
+   * Optimistic lock version. Bulk status updates increment it as well.
+   */
+  @Version
+  @ColumnDefault("0")
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   /**
    * Default constructor.
    */
@@ -180,6 +204,22 @@ public class Order {
     this.updatedAt = updatedAt;
   }
 
+  public LocalDateTime getSlaBreachedAt() {
+    return slaBreachedAt;
+  }
+
+  public void setSlaBreachedAt(LocalDateTime slaBreachedAt) {
+    this.slaBreachedAt = slaBreachedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -1,6 +1,8 @@
 package com.ecommerce.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -19,12 +21,21 @@ import java.util.Objects;
 @Table(name = "order_items")
 public class OrderItem {
 
+  /**
+   * Pooled sequence identifier, so all items of an order are inserted as one JDBC batch.
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+  @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
   private Long id;
 
+  /**
+   * Owning order. The foreign key cascades deletes, so removing an order
+   * removes its items in the same statement without loading them.
+   */
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "order_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
   private Order order;
 
   @Column(name = "product_id", nullable = false)
@@ -3,6 +3,7 @@ package com.ecommerce.exception;
 import com.ecommerce.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -94,6 +95,73 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  /**
+   * Handles IdempotencyKeyConflictException.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return Error response with HTTP 409 status
+   */
+  @ExceptionHandler(IdempotencyKeyConflictException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(
+    IdempotencyKeyConflictException ex, WebRequest request) {
+
+    logger.warn("Idempotency key conflict: {}", ex.getMessage());
+
+    ErrorResponse errorResponse = new ErrorResponse(
+      HttpStatus.CONFLICT.value(),
+      "Conflict",
+      ex.getMessage()
+    );
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+  }
+
+  /**
+   * Handles OrderCreationUnavailableException.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return Error response with HTTP 503 status
+   */
+  @ExceptionHandler(OrderCreationUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleOrderCreationUnavailableException(
+    OrderCreationUnavailableException ex, WebRequest request) {
+
+    logger.warn("Order creation unavailable: {}", ex.getMessage());
+
+    ErrorResponse errorResponse = new ErrorResponse(
+      HttpStatus.SERVICE_UNAVAILABLE.value(),
+      "Service Unavailable",
+      ex.getMessage()
+    );
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+  }
+
+  /**
+   * Handles OptimisticLockingFailureException, raised when an order was
+   * modified by another request between reading and writing it.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return Error response with HTTP 409 status
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+    OptimisticLockingFailureException ex, WebRequest request) {
+
+    logger.warn("Concurrent modification: {}", ex.getMessage());
+
+    ErrorResponse errorResponse = new ErrorResponse(
+      HttpStatus.CONFLICT.value(),
+      "Conflict",
+      "The order was modified concurrently, please retry"
+    );
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+  }
+
   /**
    * Handles MethodArgumentNotValidException (Bean Validation errors).
    *
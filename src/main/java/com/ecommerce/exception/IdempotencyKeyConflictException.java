@@ -0,0 +1,22 @@
+package com.ecommerce.exception;
+
+/**
+ * Exception thrown when an idempotency key cannot be honoured: it was used
+ * before with a different request body, or the request that first used it is
+ * still running on another instance.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class IdempotencyKeyConflictException extends BusinessException {
+
+  /**
+   * Constructs a new IdempotencyKeyConflictException with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public IdempotencyKeyConflictException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.exception;
+
+/**
+ * Exception thrown when a new order could not be written in time: the
+ * application is shutting down, its group commit did not finish within
+ * {@code order.group-commit.timeout}, or an earlier request with the same
+ * idempotency key did not finish within {@code order.idempotency.wait-timeout}.
+ * Unless the application is shutting down, the order may still be created.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class OrderCreationUnavailableException extends BusinessException {
+
+  /**
+   * Constructs a new OrderCreationUnavailableException with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public OrderCreationUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.mapper;
+
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderItemDTO;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderItem;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps order entities to their DTOs.
+ *
+ * Field-by-field copies with plain getters and setters: no reflection, no type
+ * introspection at startup and no intermediate objects beyond the DTOs
+ * themselves. Produces the same output as the ModelMapper configuration it
+ * replaces (null values leave the DTO defaults in place).
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderMapper {
+
+  /**
+   * Converts an order and its items to an OrderDTO.
+   *
+   * @param order Order entity; its items must be loaded
+   * @return Order DTO
+   */
+  public OrderDTO toDTO(Order order) {
+    OrderDTO dto = new OrderDTO();
+    dto.setId(order.getId());
+    dto.setOrderNumber(order.getOrderNumber());
+    dto.setCustomerName(order.getCustomerName());
+    dto.setCustomerEmail(order.getCustomerEmail());
+    dto.setStatus(order.getStatus());
+    dto.setTotalAmount(order.getTotalAmount());
+    dto.setCreatedAt(order.getCreatedAt());
+    dto.setUpdatedAt(order.getUpdatedAt());
+    dto.setSlaBreachedAt(order.getSlaBreachedAt());
+
+    List<OrderItem> items = order.getOrderItems();
+    if (items != null) {
+      List<OrderItemDTO> itemDTOs = new ArrayList<>(items.size());
+      for (OrderItem item : items) {
+        itemDTOs.add(toDTO(item));
+      }
+      dto.setOrderItems(itemDTOs);
+    }
+    return dto;
+  }
+
+  /**
+   * Converts an order item to an OrderItemDTO.
+   *
+   * @param item Order item entity
+   * @return Order item DTO
+   */
+  public OrderItemDTO toDTO(OrderItem item) {
+    OrderItemDTO dto = new OrderItemDTO();
+    dto.setId(item.getId());
+    dto.setProductId(item.getProductId());
+    dto.setProductName(item.getProductName());
+    dto.setQuantity(item.getQuantity());
+    dto.setPrice(item.getPrice());
+    dto.setCreatedAt(item.getCreatedAt());
+    return dto;
+  }
+}
@@ -0,0 +1,205 @@
+package com.ecommerce.metrics;
+
+import com.ecommerce.entity.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the order business metrics in the Micrometer registry.
+ *
+ * Meters:
+ * - {@code orders.created} and {@code orders.cancelled} counters
+ * - {@code orders.status.transitions} counter tagged {@code from} and {@code to}
+ * - {@code order.scheduler.run} timer tagged {@code outcome}
+ * - {@code order.scheduler.rows} summary of orders promoted per run
+ * - {@code order.outbox.relayed} counter, whose rate is the relay throughput
+ * - {@code order.outbox.lag} timer of the oldest event age per relayed batch
+ * - {@code order.outbox.backlog} gauge of events waiting after the last relay run
+ * - {@code order.promotion.drained} counter of orders promoted from the promotion queue
+ * - {@code order.promotion.lag} timer of the time from commit to PROCESSING per
+ *   batch promoted from the promotion queue
+ * - {@code order.promotion.dropped} counter of new orders left to the scheduled job
+ * - {@code order.deadlines.cancelled} and {@code order.deadlines.sla.breached}
+ *   counters, and the {@code order.deadlines.scheduled} gauge
+ * - {@code order.group.commit.size} summary of orders per group commit
+ * - {@code order.group.commit.wait} timer of the time the first order of each
+ *   group waited before it was written
+ *
+ * The order cache counters are published by {@link OrderCacheMetrics}.
+ *
+ * Counters are resolved once up front so recording an event is a single
+ * lock-free increment.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class MicrometerOrderMetrics implements OrderMetrics {
+
+  private final Counter created;
+  private final Counter cancelled;
+  private final Map<OrderStatus, Map<OrderStatus, Counter>> transitions = new EnumMap<>(OrderStatus.class);
+  private final Timer schedulerSucceeded;
+  private final Timer schedulerFailed;
+  private final DistributionSummary schedulerRows;
+  private final Counter outboxRelayed;
+  private final Timer outboxLag;
+  private final AtomicLong outboxBacklog = new AtomicLong();
+  private final Counter promotionDrained;
+  private final Timer promotionLag;
+  private final Counter promotionDropped;
+  private final Counter staleCancelled;
+  private final Counter slaBreached;
+  private final AtomicLong deadlinesScheduled = new AtomicLong();
+  private final DistributionSummary groupCommitSize;
+  private final Timer groupCommitWait;
+
+  public MicrometerOrderMetrics(MeterRegistry registry) {
+    this.created = Counter.builder("orders.created")
+      .description("Orders created")
+      .register(registry);
+    this.cancelled = Counter.builder("orders.cancelled")
+      .description("Orders cancelled")
+      .register(registry);
+
+    for (OrderStatus from : OrderStatus.values()) {
+      Map<OrderStatus, Counter> byTarget = new EnumMap<>(OrderStatus.class);
+      for (OrderStatus to : OrderStatus.values()) {
+        byTarget.put(to, Counter.builder("orders.status.transitions")
+          .description("Orders moved between statuses")
+          .tag("from", from.name())
+          .tag("to", to.name())
+          .register(registry));
+      }
+      transitions.put(from, byTarget);
+    }
+
+    this.schedulerSucceeded = schedulerTimer(registry, "success");
+    this.schedulerFailed = schedulerTimer(registry, "failure");
+    this.schedulerRows = DistributionSummary.builder("order.scheduler.rows")
+      .description("Orders promoted per scheduler run")
+      .baseUnit("orders")
+      .register(registry);
+
+    this.outboxRelayed = Counter.builder("order.outbox.relayed")
+      .description("Order events relayed from the outbox")
+      .register(registry);
+    this.outboxLag = Timer.builder("order.outbox.lag")
+      .description("Age of the oldest event of each relayed outbox batch")
+      .register(registry);
+    Gauge.builder("order.outbox.backlog", outboxBacklog, AtomicLong::get)
+      .description("Order events waiting in the outbox")
+      .register(registry);
+
+    this.promotionDrained = Counter.builder("order.promotion.drained")
+      .description("Orders promoted from the promotion queue")
+      .register(registry);
+    this.promotionLag = Timer.builder("order.promotion.lag")
+      .description("Time the oldest order of each queued promotion batch waited after its commit")
+      .register(registry);
+    this.promotionDropped = Counter.builder("order.promotion.dropped")
+      .description("New orders not queued for promotion because the queue was full")
+      .register(registry);
+
+    this.staleCancelled = Counter.builder("order.deadlines.cancelled")
+      .description("PENDING orders cancelled because nobody changed them in time")
+      .register(registry);
+    this.slaBreached = Counter.builder("order.deadlines.sla.breached")
+      .description("PROCESSING orders flagged as past their SLA")
+      .register(registry);
+    Gauge.builder("order.deadlines.scheduled", deadlinesScheduled, AtomicLong::get)
+      .description("Order deadlines held in memory")
+      .register(registry);
+
+    this.groupCommitSize = DistributionSummary.builder("order.group.commit.size")
+      .description("Orders written per group commit")
+      .baseUnit("orders")
+      .register(registry);
+    this.groupCommitWait = Timer.builder("order.group.commit.wait")
+      .description("Time the first order of each group waited before it was written")
+      .register(registry);
+  }
+
+  @Override
+  public void ordersCreated(int count) {
+    created.increment(count);
+  }
+
+  @Override
+  public void orderCancelled() {
+    cancelled.increment();
+  }
+
+  @Override
+  public void statusChanged(OrderStatus from, OrderStatus to, int count) {
+    transitions.get(from).get(to).increment(count);
+  }
+
+  @Override
+  public void schedulerRun(long durationNanos, long rowsProcessed, boolean succeeded) {
+    (succeeded ? schedulerSucceeded : schedulerFailed).record(durationNanos, TimeUnit.NANOSECONDS);
+    schedulerRows.record(rowsProcessed);
+  }
+
+  @Override
+  public void outboxRelayed(int count, Duration lag) {
+    outboxRelayed.increment(count);
+    outboxLag.record(lag);
+  }
+
+  @Override
+  public void outboxBacklog(long pending) {
+    outboxBacklog.set(pending);
+  }
+
+  @Override
+  public void promotionDrained(int count, Duration lag) {
+    promotionDrained.increment(count);
+    promotionLag.record(lag);
+  }
+
+  @Override
+  public void promotionDropped(int count) {
+    promotionDropped.increment(count);
+  }
+
+  @Override
+  public void staleOrdersCancelled(int count) {
+    cancelled.increment(count);
+    staleCancelled.increment(count);
+  }
+
+  @Override
+  public void slaBreached(int count) {
+    slaBreached.increment(count);
+  }
+
+  @Override
+  public void deadlinesScheduled(long scheduled) {
+    deadlinesScheduled.set(scheduled);
+  }
+
+  @Override
+  public void groupCommitted(int count, Duration wait) {
+    groupCommitSize.record(count);
+    groupCommitWait.record(wait);
+  }
+
+  private static Timer schedulerTimer(MeterRegistry registry, String outcome) {
+    return Timer.builder("order.scheduler.run")
+      .description("Duration of pending order scheduler runs")
+      .tag("outcome", outcome)
+      .register(registry);
+  }
+}
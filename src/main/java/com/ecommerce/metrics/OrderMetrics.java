@@ -0,0 +1,130 @@
+package com.ecommerce.metrics;
+
+import com.ecommerce.entity.OrderStatus;
+
+import java.time.Duration;
+
+/**
+ * Business metrics recorded by the order services and the scheduler.
+ *
+ * The application bean is {@link MicrometerOrderMetrics}, exported with the
+ * rest of the Micrometer registry at /actuator/prometheus. {@link #NOOP} serves
+ * tests and benchmarks that run without a registry.
+ *
+ * Events are recorded once the service call that caused them has succeeded.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface OrderMetrics {
+
+  /**
+   * Implementation that records nothing.
+   */
+  OrderMetrics NOOP = new OrderMetrics() {
+  };
+
+  /**
+   * Records newly created orders.
+   *
+   * @param count Number of orders created
+   */
+  default void ordersCreated(int count) {
+  }
+
+  /**
+   * Records a cancelled order.
+   */
+  default void orderCancelled() {
+  }
+
+  /**
+   * Records orders moved from one status to another.
+   *
+   * @param from Previous status
+   * @param to New status
+   * @param count Number of orders moved
+   */
+  default void statusChanged(OrderStatus from, OrderStatus to, int count) {
+  }
+
+  /**
+   * Records one run of the pending order scheduler.
+   *
+   * @param durationNanos Wall-clock duration of the run
+   * @param rowsProcessed Number of orders promoted by the run
+   * @param succeeded Whether the run finished without an error
+   */
+  default void schedulerRun(long durationNanos, long rowsProcessed, boolean succeeded) {
+  }
+
+  /**
+   * Records a batch of events relayed from the outbox.
+   *
+   * @param count Number of events relayed
+   * @param lag Age of the oldest event in the batch when it was published
+   */
+  default void outboxRelayed(int count, Duration lag) {
+  }
+
+  /**
+   * Records the number of events waiting in the outbox after a relay run;
+   * zero once a run has drained it.
+   *
+   * @param pending Number of events not relayed yet
+   */
+  default void outboxBacklog(long pending) {
+  }
+
+  /**
+   * Records a batch of new orders promoted from the promotion queue.
+   *
+   * @param count Number of orders promoted
+   * @param lag Time the oldest order of the batch waited after its commit
+   */
+  default void promotionDrained(int count, Duration lag) {
+  }
+
+  /**
+   * Records new orders that found the promotion queue full and are left to
+   * the scheduled job.
+   *
+   * @param count Number of orders not queued
+   */
+  default void promotionDropped(int count) {
+  }
+
+  /**
+   * Records PENDING orders cancelled because nobody changed them in time.
+   *
+   * @param count Number of orders cancelled
+   */
+  default void staleOrdersCancelled(int count) {
+  }
+
+  /**
+   * Records PROCESSING orders flagged as past their SLA.
+   *
+   * @param count Number of orders flagged
+   */
+  default void slaBreached(int count) {
+  }
+
+  /**
+   * Records the number of order deadlines held in memory.
+   *
+   * @param scheduled Number of orders with a deadline
+   */
+  default void deadlinesScheduled(long scheduled) {
+  }
+
+  /**
+   * Records a group of new orders written in one transaction.
+   *
+   * @param count Number of orders in the group
+   * @param wait Time the first order of the group waited before it was written
+   */
+  default void groupCommitted(int count, Duration wait) {
+  }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.outbox;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a local file as NDJSON, one event per line.
+ *
+ * Each batch is written with one open/append/close of the file. Lines carry
+ * the event fields, with the payload of creations embedded as a JSON object.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class FileOrderEventSink implements OrderEventSink {
+
+  private final Path file;
+  private final ObjectMapper objectMapper;
+
+  public FileOrderEventSink(Path file, ObjectMapper objectMapper) {
+    this.file = file;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public synchronized void publish(List<OrderEvent> events) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+         JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+      generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      for (OrderEvent event : events) {
+        writeEvent(generator, event);
+        generator.writeRaw('\n');
+      }
+    }
+  }
+
+  private static void writeEvent(JsonGenerator generator, OrderEvent event) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", event.id());
+    generator.writeStringField("type", event.type().name());
+    generator.writeNumberField("orderId", event.orderId());
+    if (event.previousStatus() != null) {
+      generator.writeStringField("previousStatus", event.previousStatus().name());
+    }
+    if (event.status() != null) {
+      generator.writeStringField("status", event.status().name());
+    }
+    generator.writeStringField("occurredAt", event.occurredAt().toString());
+    if (event.payload() != null) {
+      generator.writeFieldName("order");
+      generator.writeRawValue(event.payload());
+    }
+    generator.writeEndObject();
+  }
+
+  public Path getFile() {
+    return file;
+  }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps published events in memory. Meant for tests and local runs
+ * ({@code order.outbox.sink=memory}); nothing is ever discarded.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class InMemoryOrderEventSink implements OrderEventSink {
+
+  private final List<OrderEvent> events = new ArrayList<>();
+
+  @Override
+  public synchronized void publish(List<OrderEvent> batch) {
+    events.addAll(batch);
+  }
+
+  /**
+   * @return Copy of the events published so far, in publication order
+   */
+  public synchronized List<OrderEvent> getEvents() {
+    return new ArrayList<>(events);
+  }
+
+  /**
+   * Forgets the events published so far.
+   */
+  public synchronized void clear() {
+    events.clear();
+  }
+}
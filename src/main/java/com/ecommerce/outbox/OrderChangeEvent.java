@@ -0,0 +1,28 @@
+package com.ecommerce.outbox;
+
+import com.ecommerce.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring application event published by the {@link OrderOutbox} for every
+ * change it records. Listeners that react to committed changes only, such as
+ * the order status stream and the order deadlines, receive it with
+ * {@code @TransactionalEventListener} once the change has committed.
+ *
+ * @param type Kind of change
+ * @param orderIds IDs of the changed orders
+ * @param previousStatus Status before the change, or null for created orders
+ * @param status Status after the change, or null for cancelled orders
+ * @param customerEmails Customer email by order ID where the caller had it at hand
+ * @param occurredAt When the change was made
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record OrderChangeEvent(OrderEventType type, List<Long> orderIds, OrderStatus previousStatus,
+                               OrderStatus status, Map<Long, String> customerEmails, LocalDateTime occurredAt) {
+}
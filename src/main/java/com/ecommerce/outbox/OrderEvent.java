@@ -0,0 +1,23 @@
+package com.ecommerce.outbox;
+
+import com.ecommerce.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * An order lifecycle event stored in the outbox.
+ *
+ * @param id Outbox sequence number, increasing in insertion order
+ * @param type Kind of event
+ * @param orderId ID of the order the event is about
+ * @param previousStatus Status before the change (status changes only)
+ * @param status Status after the event (null for cancellations)
+ * @param payload The created order as JSON in the OrderDTO shape (creations only)
+ * @param occurredAt When the event was written
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record OrderEvent(long id, OrderEventType type, Long orderId, OrderStatus previousStatus,
+                         OrderStatus status, String payload, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the order events relayed from the outbox, such as a message
+ * broker, a file or, in tests, memory.
+ *
+ * Delivery is at least once: a batch whose publication fails, or that was
+ * published just before the relay stopped, is published again. Consumers
+ * recognise repeats by the event id.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public interface OrderEventSink {
+
+  /**
+   * Publishes a batch of events in outbox order. Returns only once the events
+   * are durably accepted; throwing leaves the whole batch in the outbox.
+   *
+   * @param events Events to publish, never empty
+   * @throws Exception if the events could not be published
+   */
+  void publish(List<OrderEvent> events) throws Exception;
+}
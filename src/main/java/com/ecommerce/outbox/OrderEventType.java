@@ -0,0 +1,15 @@
+package com.ecommerce.outbox;
+
+/**
+ * Kinds of order lifecycle events published through the outbox.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public enum OrderEventType {
+  ORDER_CREATED,
+  STATUS_CHANGED,
+  ORDER_CANCELLED,
+  SLA_BREACHED
+}
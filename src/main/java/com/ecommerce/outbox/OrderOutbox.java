@@ -0,0 +1,195 @@
+package com.ecommerce.outbox;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records order lifecycle events in the outbox and publishes each change as
+ * an {@link OrderChangeEvent} for in-process listeners, such as the order
+ * status stream and the order deadlines.
+ *
+ * Every method must be called inside the transaction that makes the change,
+ * so an event is stored, and delivered to transactional listeners, if and
+ * only if its change commits. Several orders changed together are written as
+ * one JDBC batch.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderOutbox {
+
+  private final OrderOutboxRepository outboxRepository;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+
+  public OrderOutbox(OrderOutboxRepository outboxRepository, ObjectMapper objectMapper,
+                     ApplicationEventPublisher eventPublisher, OrderProperties orderProperties) {
+    this.outboxRepository = outboxRepository;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.enabled = orderProperties.getOutbox().isEnabled();
+  }
+
+  /**
+   * Records newly created orders, with each order as payload.
+   *
+   * @param orders Created orders
+   */
+  public void ordersCreated(List<OrderDTO> orders) {
+    if (orders.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> orderIds = new ArrayList<>(orders.size());
+    Map<Long, String> customerEmails = new HashMap<>();
+    for (OrderDTO order : orders) {
+      orderIds.add(order.getId());
+      customerEmails.put(order.getId(), order.getCustomerEmail());
+    }
+    eventPublisher.publishEvent(new OrderChangeEvent(OrderEventType.ORDER_CREATED, orderIds, null,
+      OrderStatus.PENDING, customerEmails, now));
+
+    if (enabled) {
+      List<OrderEvent> events = new ArrayList<>(orders.size());
+      for (OrderDTO order : orders) {
+        events.add(new OrderEvent(0L, OrderEventType.ORDER_CREATED, order.getId(), null, order.getStatus(),
+          toJson(order), now));
+      }
+      outboxRepository.append(events);
+    }
+  }
+
+  /**
+   * Records orders moved from one status to another.
+   *
+   * @param orderIds IDs of the orders
+   * @param from Previous status
+   * @param to New status
+   */
+  public void statusChanged(Collection<Long> orderIds, OrderStatus from, OrderStatus to) {
+    statusChanged(orderIds, from, to, Map.of());
+  }
+
+  /**
+   * Records orders moved from one status to another, with the customer
+   * emails the caller already read for stream filters.
+   *
+   * @param orderIds IDs of the orders
+   * @param from Previous status
+   * @param to New status
+   * @param customerEmails Customer email by order ID; orders not in it are streamed without
+   */
+  public void statusChanged(Collection<Long> orderIds, OrderStatus from, OrderStatus to,
+                            Map<Long, String> customerEmails) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    eventPublisher.publishEvent(new OrderChangeEvent(OrderEventType.STATUS_CHANGED, List.copyOf(orderIds), from,
+      to, customerEmails, now));
+
+    if (enabled) {
+      List<OrderEvent> events = new ArrayList<>(orderIds.size());
+      for (Long orderId : orderIds) {
+        events.add(new OrderEvent(0L, OrderEventType.STATUS_CHANGED, orderId, from, to, null, now));
+      }
+      outboxRepository.append(events);
+    }
+  }
+
+  /**
+   * Records a cancelled order.
+   *
+   * @param orderId ID of the order
+   * @param previousStatus Status the order had when it was cancelled
+   * @param customerEmail Customer email of the order for stream filters, or null if not known
+   */
+  public void orderCancelled(Long orderId, OrderStatus previousStatus, String customerEmail) {
+    LocalDateTime now = LocalDateTime.now();
+    Map<Long, String> customerEmails = new HashMap<>();
+    customerEmails.put(orderId, customerEmail);
+    eventPublisher.publishEvent(new OrderChangeEvent(OrderEventType.ORDER_CANCELLED, List.of(orderId),
+      previousStatus, null, customerEmails, now));
+
+    if (enabled) {
+      outboxRepository.append(List.of(new OrderEvent(0L, OrderEventType.ORDER_CANCELLED, orderId, previousStatus,
+        null, null, now)));
+    }
+  }
+
+  /**
+   * Records several cancelled orders.
+   *
+   * @param orderIds IDs of the orders
+   * @param previousStatus Status the orders had when they were cancelled
+   * @param customerEmails Customer email by order ID for stream filters; orders not in it are streamed without
+   */
+  public void ordersCancelled(Collection<Long> orderIds, OrderStatus previousStatus,
+                              Map<Long, String> customerEmails) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    eventPublisher.publishEvent(new OrderChangeEvent(OrderEventType.ORDER_CANCELLED, List.copyOf(orderIds),
+      previousStatus, null, customerEmails, now));
+
+    if (enabled) {
+      List<OrderEvent> events = new ArrayList<>(orderIds.size());
+      for (Long orderId : orderIds) {
+        events.add(new OrderEvent(0L, OrderEventType.ORDER_CANCELLED, orderId, previousStatus, null, null, now));
+      }
+      outboxRepository.append(events);
+    }
+  }
+
+  /**
+   * Records PROCESSING orders flagged as past their SLA. Their status does
+   * not change.
+   *
+   * @param orderIds IDs of the orders
+   */
+  public void slaBreached(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    eventPublisher.publishEvent(new OrderChangeEvent(OrderEventType.SLA_BREACHED, List.copyOf(orderIds),
+      OrderStatus.PROCESSING, OrderStatus.PROCESSING, Map.of(), now));
+
+    if (enabled) {
+      List<OrderEvent> events = new ArrayList<>(orderIds.size());
+      for (Long orderId : orderIds) {
+        events.add(new OrderEvent(0L, OrderEventType.SLA_BREACHED, orderId, OrderStatus.PROCESSING,
+          OrderStatus.PROCESSING, null, now));
+      }
+      outboxRepository.append(events);
+    }
+  }
+
+  private String toJson(OrderDTO order) {
+    try {
+      return objectMapper.writeValueAsString(order);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Cannot serialize order " + order.getId(), ex);
+    }
+  }
+}
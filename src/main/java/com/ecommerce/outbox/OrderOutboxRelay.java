@@ -0,0 +1,135 @@
+package com.ecommerce.outbox;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.repository.OrderOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves events from the outbox to the {@link OrderEventSink} in batches.
+ *
+ * Each batch is claimed oldest first, published with one sink call and then
+ * deleted with one JDBC batch, all in one transaction. A failed publication
+ * rolls the claim back and leaves the batch in the outbox for the next run,
+ * so delivery is at least once.
+ *
+ * {@link com.ecommerce.task.OutboxRelayTask} runs the relay on every
+ * application instance. Claimed rows stay locked until their batch is
+ * deleted and other relays skip them, so each event is published by one
+ * instance only. Events keep their order within a batch; batches of
+ * different instances may reach the sink interleaved.
+ *
+ * A run that drains the outbox reports an empty backlog without counting it.
+ * A run stopped by a failed publication counts the waiting events, at most
+ * once per {@code order.outbox.backlog-sample-interval}, so a sink that keeps
+ * failing does not add a table scan to every run.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderOutboxRelay {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+  private final OrderOutboxRepository outboxRepository;
+  private final OrderEventSink sink;
+  private final OrderMetrics orderMetrics;
+  private final PlatformTransactionManager transactionManager;
+  private final int batchSize;
+  private final long backlogSampleIntervalNanos;
+  private long lastBacklogSampleNanos;
+  private boolean backlogSampled;
+
+  public OrderOutboxRelay(OrderOutboxRepository outboxRepository, OrderEventSink sink,
+                          OrderMetrics orderMetrics, PlatformTransactionManager transactionManager,
+                          OrderProperties orderProperties) {
+    this.outboxRepository = outboxRepository;
+    this.sink = sink;
+    this.orderMetrics = orderMetrics;
+    this.transactionManager = transactionManager;
+    this.batchSize = Math.max(1, orderProperties.getOutbox().getBatchSize());
+    this.backlogSampleIntervalNanos = orderProperties.getOutbox().getBacklogSampleInterval().toNanos();
+  }
+
+  /**
+   * Relays batches until the outbox is drained, then records the backlog.
+   *
+   * @return Number of events relayed
+   * @throws Exception if the sink rejected a batch; earlier batches stay relayed
+   */
+  public int relayPending() throws Exception {
+    int relayed = 0;
+    boolean drained = false;
+    try {
+      List<OrderEvent> batch;
+      do {
+        batch = relayBatch();
+        if (batch.isEmpty()) {
+          break;
+        }
+        relayed += batch.size();
+
+        Duration lag = Duration.between(batch.get(0).occurredAt(), LocalDateTime.now());
+        orderMetrics.outboxRelayed(batch.size(), lag);
+        logger.debug("Relayed {} order events up to id {}, lag {} ms",
+          batch.size(), batch.get(batch.size() - 1).id(), lag.toMillis());
+      } while (batch.size() == batchSize);
+      drained = true;
+    } finally {
+      recordBacklog(drained);
+    }
+    return relayed;
+  }
+
+  /**
+   * Reports an empty backlog after a drained run; otherwise counts the
+   * waiting events unless they were counted within the sample interval.
+   */
+  private synchronized void recordBacklog(boolean drained) {
+    if (drained) {
+      orderMetrics.outboxBacklog(0);
+      return;
+    }
+    long now = System.nanoTime();
+    if (backlogSampled && now - lastBacklogSampleNanos < backlogSampleIntervalNanos) {
+      return;
+    }
+    backlogSampled = true;
+    lastBacklogSampleNanos = now;
+    orderMetrics.outboxBacklog(outboxRepository.count());
+  }
+
+  /**
+   * Claims, publishes and deletes one batch in its own transaction.
+   *
+   * @return The relayed events; empty when no unclaimed events remain
+   */
+  private List<OrderEvent> relayBatch() throws Exception {
+    TransactionStatus transaction = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+    try {
+      List<OrderEvent> batch = outboxRepository.claimOldest(batchSize);
+      if (!batch.isEmpty()) {
+        sink.publish(batch);
+        outboxRepository.delete(batch);
+      }
+      transactionManager.commit(transaction);
+      return batch;
+    } catch (Throwable ex) {
+      if (!transaction.isCompleted()) {
+        transactionManager.rollback(transaction);
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores idempotency keys of order creation requests in the
+ * {@code idempotency_keys} table.
+ *
+ * A key is inserted in the same transaction as the order it creates, so the
+ * primary key makes every other instance that tries to use the same key wait
+ * for that transaction and then fail with a duplicate key. Rows are looked up
+ * by primary key only.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO idempotency_keys (idempotency_key, request_hash, order_id, expires_at) VALUES (?, ?, NULL, ?)";
+  private static final String SET_ORDER_SQL =
+    "UPDATE idempotency_keys SET order_id = ?, response = ? WHERE idempotency_key = ?";
+  private static final String SELECT_SQL =
+    "SELECT request_hash, order_id, response, expires_at FROM idempotency_keys WHERE idempotency_key = ?";
+  private static final String DELETE_EXPIRED_KEY_SQL =
+    "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?";
+  private static final String DELETE_EXPIRED_SQL =
+    "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Claims a key for a request that has not created its order yet. Runs in
+   * the caller's transaction.
+   *
+   * @param key Idempotency key
+   * @param requestHash Fingerprint of the request body
+   * @param expiresAt When the key may be forgotten
+   * @return true if the key was claimed, false if a row for it already exists
+   */
+  public boolean claim(String key, String requestHash, LocalDateTime expiresAt) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, key, requestHash, expiresAt);
+      return true;
+    } catch (DuplicateKeyException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Records the order created for a claimed key and the response returned
+   * for it.
+   *
+   * @param key Idempotency key
+   * @param orderId ID of the created order
+   * @param response Created order as JSON, returned again to retries
+   */
+  public void complete(String key, Long orderId, String response) {
+    jdbcTemplate.update(SET_ORDER_SQL, orderId, response, key);
+  }
+
+  /**
+   * Looks up a key.
+   *
+   * @param key Idempotency key
+   * @return The stored key, if any
+   */
+  public Optional<StoredKey> find(String key) {
+    List<StoredKey> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new StoredKey(
+      rs.getString("request_hash"),
+      rs.getObject("order_id", Long.class),
+      rs.getString("response"),
+      rs.getObject("expires_at", LocalDateTime.class)), key);
+    return rows.stream().findFirst();
+  }
+
+  /**
+   * Deletes a key if it has expired.
+   *
+   * @param key Idempotency key
+   * @param now Current time
+   * @return true if a row was deleted
+   */
+  public boolean deleteIfExpired(String key, LocalDateTime now) {
+    return jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, now) > 0;
+  }
+
+  /**
+   * Deletes all expired keys.
+   *
+   * @param now Current time
+   * @return Number of rows deleted
+   */
+  public int deleteExpired(LocalDateTime now) {
+    return jdbcTemplate.update(DELETE_EXPIRED_SQL, now);
+  }
+
+  /**
+   * A stored idempotency key.
+   *
+   * @param requestHash Fingerprint of the request that used the key first
+   * @param orderId ID of the created order; null while that request is still running
+   * @param response Created order as JSON, as first returned; null while that request is still running
+   * @param expiresAt When the key may be forgotten
+   */
+  public record StoredKey(String requestHash, Long orderId, String response, LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+      return !expiresAt.isAfter(now);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases blocks of order numbers from the {@code order_number_blocks} table.
+ *
+ * The table holds one row per counter with the next value that has not been
+ * handed out yet. A lease moves that value forward by the block size in a
+ * short transaction of its own, so every application instance gets disjoint
+ * ranges and a restart continues after the last leased block. A plain table
+ * is used instead of a sequence so the same statements work on H2 and MySQL.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Repository
+public class OrderNumberBlockRepository {
+
+  static final String COUNTER_NAME = "order_number";
+
+  private static final String ADVANCE_SQL =
+    "UPDATE order_number_blocks SET next_value = next_value + ? WHERE name = ?";
+  private static final String SELECT_SQL =
+    "SELECT next_value FROM order_number_blocks WHERE name = ?";
+  private static final String INSERT_SQL =
+    "INSERT INTO order_number_blocks (name, next_value) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public OrderNumberBlockRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // Never hold the counter row lock for the duration of the caller's transaction
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Reserves the next {@code blockSize} order numbers.
+   *
+   * @param blockSize Number of values to reserve
+   * @return First value of the reserved range; the range is {@code [start, start + blockSize)}
+   */
+  public long allocateBlock(int blockSize) {
+    try {
+      return transactionTemplate.execute(status -> advance(blockSize));
+    } catch (DuplicateKeyException ex) {
+      // Another instance created the counter row at the same time; it exists now
+      return transactionTemplate.execute(status -> advance(blockSize));
+    }
+  }
+
+  private long advance(int blockSize) {
+    if (jdbcTemplate.update(ADVANCE_SQL, blockSize, COUNTER_NAME) == 0) {
+      // First lease against an empty table: create the counter with this block taken
+      jdbcTemplate.update(INSERT_SQL, COUNTER_NAME, 1L + blockSize);
+      return 1L;
+    }
+    Long next = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, COUNTER_NAME);
+    return next - blockSize;
+  }
+}
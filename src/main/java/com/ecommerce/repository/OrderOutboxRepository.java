@@ -0,0 +1,109 @@
+package com.ecommerce.repository;
+
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.outbox.OrderEvent;
+import com.ecommerce.outbox.OrderEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Stores order lifecycle events in the {@code order_outbox} table until they
+ * are relayed.
+ *
+ * Events are appended in the transaction of the order change they describe,
+ * claimed oldest first by the relay and deleted once published. Rows are
+ * deleted by id rather than up to a watermark, so an event whose transaction
+ * commits after younger events were relayed is still picked up by the next
+ * batch.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Repository
+public class OrderOutboxRepository {
+
+  private static final String INSERT_SQL =
+    "INSERT INTO order_outbox (event_type, order_id, previous_status, status, payload, created_at) " +
+      "VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String CLAIM_OLDEST_SQL =
+    "SELECT id, event_type, order_id, previous_status, status, payload, created_at " +
+      "FROM order_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+  private static final String DELETE_SQL =
+    "DELETE FROM order_outbox WHERE id = ?";
+  private static final String COUNT_SQL =
+    "SELECT COUNT(*) FROM order_outbox";
+
+  private static final RowMapper<OrderEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new OrderEvent(
+    rs.getLong("id"),
+    OrderEventType.valueOf(rs.getString("event_type")),
+    rs.getLong("order_id"),
+    toStatus(rs.getString("previous_status")),
+    toStatus(rs.getString("status")),
+    rs.getString("payload"),
+    rs.getObject("created_at", LocalDateTime.class));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public OrderOutboxRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Appends events as one JDBC batch. Runs in the caller's transaction; the
+   * ids of the given events are ignored and assigned by the database.
+   *
+   * @param events Events to store
+   */
+  public void append(List<OrderEvent> events) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+      ps.setString(1, event.type().name());
+      ps.setLong(2, event.orderId());
+      ps.setString(3, event.previousStatus() != null ? event.previousStatus().name() : null);
+      ps.setString(4, event.status() != null ? event.status().name() : null);
+      ps.setString(5, event.payload());
+      ps.setTimestamp(6, Timestamp.valueOf(event.occurredAt()));
+    });
+  }
+
+  /**
+   * Claims the oldest stored events, locking them until the end of the
+   * caller's transaction. Events locked by another transaction are skipped
+   * rather than waited for ({@code FOR UPDATE SKIP LOCKED}), so relays on
+   * several application instances take disjoint batches; see
+   * {@link OrderRepository#claimIdsByStatusInRange}.
+   *
+   * @param limit Maximum number of events
+   * @return Events in outbox order
+   */
+  public List<OrderEvent> claimOldest(int limit) {
+    return jdbcTemplate.query(CLAIM_OLDEST_SQL, EVENT_ROW_MAPPER, limit);
+  }
+
+  /**
+   * Deletes relayed events as one JDBC batch.
+   *
+   * @param events Events to delete
+   */
+  public void delete(List<OrderEvent> events) {
+    jdbcTemplate.batchUpdate(DELETE_SQL, events, events.size(),
+      (ps, event) -> ps.setLong(1, event.id()));
+  }
+
+  /**
+   * @return Number of events waiting to be relayed
+   */
+  public long count() {
+    Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+    return count != null ? count : 0L;
+  }
+
+  private static OrderStatus toStatus(String value) {
+    return value != null ? OrderStatus.valueOf(value) : null;
+  }
+}
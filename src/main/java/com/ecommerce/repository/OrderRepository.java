@@ -1,15 +1,27 @@
 package com.ecommerce.repository;
 
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.entity.Order;
 import com.ecommerce.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity.
@@ -24,6 +36,16 @@ import java.util.Optional;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+  /**
+   * JDBC fetch size for the export streams: rows are pulled from the cursor in
+   * batches of this size instead of being materialized all at once.
+   *
+   * MySQL Connector/J ignores a positive fetch size and buffers the whole
+   * result in the client unless the URL sets {@code useCursorFetch=true},
+   * which makes it read through a server-side cursor in batches of this size.
+   */
+  String EXPORT_FETCH_SIZE = "500";
+
   /**
    * Finds all orders with the specified status.
    *
@@ -35,12 +57,60 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
   /**
    * Finds an order by its unique order number.
+   * The order items are fetched in the same query.
    *
    * @param orderNumber Unique order number
    * @return Optional containing the order if found
    */
+  @EntityGraph(attributePaths = "orderItems")
   Optional<Order> findByOrderNumber(String orderNumber);
 
+  /**
+   * Finds an order by ID together with its items in a single query.
+   *
+   * @param id Order ID
+   * @return Optional containing the order if found
+   */
+  @EntityGraph(attributePaths = "orderItems")
+  Optional<Order> findWithItemsById(Long id);
+
+  /**
+   * Loads the given orders with their items in a single query.
+   *
+   * Used as the second phase of list endpoints: the page itself is selected
+   * without items, then the items of all orders on the page are fetched at once,
+   * so the number of queries does not depend on the page size.
+   *
+   * @param ids Order IDs
+   * @return Orders with initialized items, in no particular order
+   */
+  @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids")
+  List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Page of order summaries built by a constructor expression.
+   * Only the orders table is read and no entities are instantiated.
+   *
+   * @param pageable Pagination information
+   * @return Page of order summaries
+   */
+  @Query(value = "SELECT new com.ecommerce.dto.OrderSummaryDTO(o.id, o.orderNumber, o.customerName, " +
+    "o.customerEmail, o.status, o.totalAmount, o.createdAt, o.updatedAt) FROM Order o",
+    countQuery = "SELECT COUNT(o) FROM Order o")
+  Page<OrderSummaryDTO> findAllSummaries(Pageable pageable);
+
+  /**
+   * Page of summaries of orders with the given status.
+   *
+   * @param status Order status to filter by
+   * @param pageable Pagination information
+   * @return Page of order summaries matching the status
+   */
+  @Query(value = "SELECT new com.ecommerce.dto.OrderSummaryDTO(o.id, o.orderNumber, o.customerName, " +
+    "o.customerEmail, o.status, o.totalAmount, o.createdAt, o.updatedAt) FROM Order o WHERE o.status = :status",
+    countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+  Page<OrderSummaryDTO> findAllSummariesByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
   /**
    * Checks if an order exists with the given order number.
    *
@@ -74,4 +144,348 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Param("customerEmail") String customerEmail,
     Pageable pageable
   );
-}
\ No newline at end of file
+
+  /**
+   * Keyset query returning the ids of orders in a status, in id order,
+   * starting after the given id. Used to walk large backlogs in chunks
+   * without offset scans or a COUNT query.
+   *
+   * @param status Order status to filter by
+   * @param afterId Exclusive lower bound of the id range
+   * @param pageable Chunk size (the page number is ignored by callers and should be 0)
+   * @return Ids of matching orders in ascending order
+   */
+  @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId ORDER BY o.id")
+  List<Long> findIdsByStatusAfter(
+    @Param("status") OrderStatus status,
+    @Param("afterId") Long afterId,
+    Pageable pageable
+  );
+
+  /**
+   * Claims up to {@code limit} orders in the given status with ids in
+   * {@code (afterId, maxId]}, locking them until the end of the transaction
+   * so that every returned order is still in the status when it is updated.
+   *
+   * Rows already locked by another transaction are skipped rather than
+   * waited for ({@code FOR UPDATE SKIP LOCKED}), so several application
+   * instances promoting the same backlog claim disjoint chunks without lock
+   * waits. A claim lasts as long as the claiming transaction: rows of a node
+   * that dies are released with its connection and claimed by the next run.
+   * Native because Hibernate's H2 dialect does not render {@code SKIP LOCKED};
+   * the statement works on H2 2.2 and MySQL 8.
+   *
+   * @param status Order status name to filter by
+   * @param afterId Exclusive lower bound of the id range
+   * @param maxId Inclusive upper bound of the id range
+   * @param limit Maximum number of ids to claim
+   * @return Ids of claimed orders in ascending order
+   */
+  @Query(value = "SELECT id FROM orders WHERE status = :status AND id > :afterId AND id <= :maxId "
+    + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> claimIdsByStatusInRange(
+    @Param("status") String status,
+    @Param("afterId") Long afterId,
+    @Param("maxId") Long maxId,
+    @Param("limit") int limit
+  );
+
+  /**
+   * Claims the given orders that are still in the given status, like
+   * {@link #claimIdsByStatusInRange}: the rows are locked until the end of the
+   * transaction and rows locked by another transaction are skipped.
+   *
+   * @param status Order status name to filter by
+   * @param ids Order IDs
+   * @return Ids of claimed orders in ascending order
+   */
+  @Query(value = "SELECT id FROM orders WHERE status = :status AND id IN (:ids) "
+    + "ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> claimIdsByStatusIn(@Param("status") String status, @Param("ids") Collection<Long> ids);
+
+  /**
+   * Claims the given orders that are still in the given status, have not
+   * changed since the given time and are not flagged as past their SLA, like
+   * {@link #claimIdsByStatusIn}.
+   *
+   * @param status Order status name to filter by
+   * @param ids Order IDs
+   * @param updatedBefore Latest modification timestamp to include
+   * @return Ids of claimed orders in ascending order
+   */
+  @Query(value = "SELECT id FROM orders WHERE status = :status AND id IN (:ids) AND updated_at <= :updatedBefore "
+    + "AND sla_breached_at IS NULL ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> claimUnchangedIdsByStatusIn(
+    @Param("status") String status,
+    @Param("ids") Collection<Long> ids,
+    @Param("updatedBefore") LocalDateTime updatedBefore
+  );
+
+  /**
+   * Page of orders in a status that are not flagged as past their SLA, with
+   * the time they last changed, in ascending id order.
+   *
+   * @param status Order status to filter by
+   * @param afterId Id of the last order already returned (0 for the first page)
+   * @param pageable Page size (the page number must be 0)
+   * @return Id and modification timestamp of each order
+   */
+  @Query("SELECT new com.ecommerce.repository.OrderRepository$DeadlineRow(o.id, o.updatedAt) " +
+    "FROM Order o WHERE o.status = :status AND o.slaBreachedAt IS NULL AND o.id > :afterId ORDER BY o.id")
+  List<DeadlineRow> findDeadlineRowsByStatusAfter(
+    @Param("status") OrderStatus status,
+    @Param("afterId") Long afterId,
+    Pageable pageable
+  );
+
+  /**
+   * Lowest and highest id of the orders in a status.
+   *
+   * @param status Order status to filter by
+   * @return The id range; both bounds are null when no order has the status
+   */
+  @Query("SELECT new com.ecommerce.repository.OrderRepository$IdRange(MIN(o.id), MAX(o.id)) " +
+    "FROM Order o WHERE o.status = :status")
+  IdRange findIdRangeByStatus(@Param("status") OrderStatus status);
+
+  /**
+   * Current status of an order, without loading the entity.
+   *
+   * @param id Order ID
+   * @return Status, or empty if the order does not exist
+   */
+  @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+  Optional<OrderStatus> findStatusById(@Param("id") Long id);
+
+  /**
+   * Customer email of an order, without loading the entity.
+   *
+   * @param id Order ID
+   * @return Email, or empty if the order does not exist
+   */
+  @Query("SELECT o.customerEmail FROM Order o WHERE o.id = :id")
+  Optional<String> findCustomerEmailById(@Param("id") Long id);
+
+  /**
+   * Customer email of the given orders. Ids without an order are missing
+   * from the result.
+   *
+   * @param ids Order IDs
+   * @return Id and customer email of each existing order
+   */
+  @Query("SELECT new com.ecommerce.repository.OrderRepository$EmailRow(o.id, o.customerEmail) " +
+    "FROM Order o WHERE o.id IN :ids")
+  List<EmailRow> findCustomerEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Current status and customer email of the given orders, locking their
+   * rows until the end of the transaction so that they cannot change before
+   * they are updated. Ids without an order are missing from the result.
+   *
+   * @param ids Order IDs
+   * @return Id, status and customer email of each existing order
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT new com.ecommerce.repository.OrderRepository$StatusRow(o.id, o.status, o.customerEmail) " +
+    "FROM Order o WHERE o.id IN :ids")
+  List<StatusRow> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Compare-and-set status transition of a single order in one statement.
+   *
+   * @param id Order ID
+   * @param expectedStatus Status the order must currently have
+   * @param newStatus Status to set
+   * @param updatedAt Modification timestamp to set
+   * @return 1 if the order was updated, 0 if it does not exist or has another status
+   */
+  @Modifying
+  @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+    "WHERE o.id = :id AND o.status = :expectedStatus")
+  int updateStatusIfCurrent(
+    @Param("id") Long id,
+    @Param("expectedStatus") OrderStatus expectedStatus,
+    @Param("newStatus") OrderStatus newStatus,
+    @Param("updatedAt") LocalDateTime updatedAt
+  );
+
+  /**
+   * Set-based status transition for a group of orders.
+   *
+   * Only orders still in the expected status are updated, so the statement
+   * is safe to repeat and never overwrites a concurrent transition.
+   *
+   * @param ids Ids of the orders to update
+   * @param expectedStatus Status the orders must currently have
+   * @param newStatus Status to set
+   * @param updatedAt Modification timestamp to set
+   * @return Number of orders updated
+   */
+  @Modifying
+  @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+    "WHERE o.id IN :ids AND o.status = :expectedStatus")
+  int updateStatusByIds(
+    @Param("ids") Collection<Long> ids,
+    @Param("expectedStatus") OrderStatus expectedStatus,
+    @Param("newStatus") OrderStatus newStatus,
+    @Param("updatedAt") LocalDateTime updatedAt
+  );
+
+  /**
+   * Deletes an order if it has the given status, without loading it. Its items
+   * are removed by the ON DELETE CASCADE foreign key.
+   *
+   * @param id Order ID
+   * @param status Status the order must currently have
+   * @return 1 if the order was deleted, 0 if it does not exist or has another status
+   */
+  @Modifying
+  @Query("DELETE FROM Order o WHERE o.id = :id AND o.status = :status")
+  int deleteByIdAndStatus(@Param("id") Long id, @Param("status") OrderStatus status);
+
+  /**
+   * Deletes orders without loading them. Their items are removed by the
+   * ON DELETE CASCADE foreign key.
+   *
+   * @param ids Ids of the orders to delete
+   * @return Number of orders deleted
+   */
+  @Modifying
+  @Query("DELETE FROM Order o WHERE o.id IN :ids")
+  int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Flags orders as past their SLA. Their modification timestamp is kept, as
+   * the flag is not a change made to the order.
+   *
+   * @param ids Ids of the orders to flag
+   * @param breachedAt Time the breach was found
+   * @return Number of orders flagged
+   */
+  @Modifying
+  @Query("UPDATE Order o SET o.slaBreachedAt = :breachedAt, o.version = o.version + 1 WHERE o.id IN :ids")
+  int markSlaBreached(@Param("ids") Collection<Long> ids, @Param("breachedAt") LocalDateTime breachedAt);
+
+  /**
+   * First page of orders in (createdAt, id) order, without a COUNT query.
+   *
+   * @param pageable Page size (the page number must be 0)
+   * @return Orders in keyset order
+   */
+  @Query("SELECT o FROM Order o ORDER BY o.createdAt, o.id")
+  List<Order> findFirstKeysetPage(Pageable pageable);
+
+  /**
+   * Page of orders sorting after the given (createdAt, id) position.
+   * Served by the (created_at, id) index, so deep pages cost the same as the first.
+   *
+   * @param createdAt Creation timestamp of the last order already returned
+   * @param id Id of the last order already returned
+   * @param pageable Page size (the page number must be 0)
+   * @return Orders in keyset order
+   */
+  @Query("SELECT o FROM Order o WHERE o.createdAt > :createdAt " +
+    "OR (o.createdAt = :createdAt AND o.id > :id) ORDER BY o.createdAt, o.id")
+  List<Order> findKeysetPageAfter(
+    @Param("createdAt") LocalDateTime createdAt,
+    @Param("id") Long id,
+    Pageable pageable
+  );
+
+  /**
+   * First page of orders with the given status in (createdAt, id) order.
+   *
+   * @param status Order status to filter by
+   * @param pageable Page size (the page number must be 0)
+   * @return Orders in keyset order
+   */
+  @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.createdAt, o.id")
+  List<Order> findFirstKeysetPageByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+  /**
+   * Page of orders with the given status sorting after the given (createdAt, id) position.
+   * Served by the (status, created_at, id) index.
+   *
+   * @param status Order status to filter by
+   * @param createdAt Creation timestamp of the last order already returned
+   * @param id Id of the last order already returned
+   * @param pageable Page size (the page number must be 0)
+   * @return Orders in keyset order
+   */
+  @Query("SELECT o FROM Order o WHERE o.status = :status AND (o.createdAt > :createdAt " +
+    "OR (o.createdAt = :createdAt AND o.id > :id)) ORDER BY o.createdAt, o.id")
+  List<Order> findKeysetPageByStatusAfter(
+    @Param("status") OrderStatus status,
+    @Param("createdAt") LocalDateTime createdAt,
+    @Param("id") Long id,
+    Pageable pageable
+  );
+
+  /**
+   * Streams all orders with their items in id order from a forward-only cursor.
+   *
+   * Rows of one order are consecutive, so each order is complete when the
+   * stream hands it out. Entities are loaded read-only; callers must run
+   * inside a transaction, close the stream and detach orders they are done
+   * with to keep memory flat.
+   *
+   * @return Orders with initialized items, in ascending id order
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems ORDER BY o.id")
+  Stream<Order> streamAllWithItems();
+
+  /**
+   * Streams the orders with the given status and their items in id order.
+   * Same contract as {@link #streamAllWithItems()}.
+   *
+   * @param status Order status to filter by
+   * @return Orders with initialized items, in ascending id order
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.status = :status ORDER BY o.id")
+  Stream<Order> streamAllWithItemsByStatus(@Param("status") OrderStatus status);
+
+  /**
+   * Id, status and customer email of an order.
+   *
+   * @param id Order ID
+   * @param status Current status
+   * @param customerEmail Customer email
+   */
+  record StatusRow(Long id, OrderStatus status, String customerEmail) {
+  }
+
+  /**
+   * Lowest and highest id of a set of orders, as returned by {@link #findIdRangeByStatus}.
+   *
+   * @param minId Lowest id, or null for an empty set
+   * @param maxId Highest id, or null for an empty set
+   */
+  record IdRange(Long minId, Long maxId) {
+  }
+
+  /**
+   * Customer email of an order, as returned by {@link #findCustomerEmailsByIdIn}.
+   *
+   * @param id Order ID
+   * @param customerEmail Customer email
+   */
+  record EmailRow(Long id, String customerEmail) {
+  }
+
+  /**
+   * Order and the time it last changed, as returned by {@link #findDeadlineRowsByStatusAfter}.
+   *
+   * @param id Order ID
+   * @param updatedAt Modification timestamp
+   */
+  record DeadlineRow(Long id, LocalDateTime updatedAt) {
+  }
+}
@@ -0,0 +1,289 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.OrderDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-process cache of orders for the single-order lookups.
+ *
+ * Entries are keyed by order id, with a concurrent secondary index from order
+ * number to id. They are spread over stripes by id, each with its own lock,
+ * share of the maximum size and least-recently-used order, so lookups of
+ * different orders rarely wait for each other. Entries are evicted
+ * least-recently-used within their stripe once it is full, or when they are
+ * older than the configured time to live.
+ *
+ * Writers invalidate entries through {@link #evictAfterCompletion(Collection)}
+ * once their transaction has finished. To keep a lookup that read the old row
+ * just before such a change from caching it afterwards, every invalidation
+ * advances the generation of the stripes it touches; loaders take a stamp
+ * before reading and {@link #put(OrderDTO, LoadStamp)} drops the value if the
+ * generation of its stripe has moved. Changes to other stripes do not affect
+ * the load.
+ *
+ * Cached DTOs are shared between callers and must not be modified.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderCache {
+
+  // Power of two, so an id's stripe is a mask of its spread hash
+  private static final int MAX_STRIPES = 64;
+  // Fewer entries per stripe would make the least-recently-used order too coarse
+  private static final int MIN_STRIPE_SIZE = 16;
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  private final Stripe[] stripes;
+  private final Map<String, Long> idsByOrderNumber = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  @Autowired
+  public OrderCache(OrderProperties orderProperties) {
+    this(orderProperties.getCache(), Clock.systemUTC());
+  }
+
+  OrderCache(OrderProperties.Cache settings, Clock clock) {
+    this.enabled = settings.isEnabled() && settings.getMaxSize() > 0;
+    this.maxSize = settings.getMaxSize();
+    this.ttlMillis = settings.getTimeToLive().toMillis();
+    this.clock = clock;
+    int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, maxSize / MIN_STRIPE_SIZE)));
+    int stripeSize = Math.max(1, (maxSize + stripeCount - 1) / stripeCount);
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(stripeSize);
+    }
+  }
+
+  /**
+   * Looks up an order by id.
+   *
+   * @param id Order ID
+   * @return Cached order, or null if absent or expired
+   */
+  public OrderDTO getById(Long id) {
+    if (!enabled) {
+      return null;
+    }
+    return hitOrMiss(id);
+  }
+
+  /**
+   * Looks up an order by its order number.
+   *
+   * @param orderNumber Unique order number
+   * @return Cached order, or null if absent or expired
+   */
+  public OrderDTO getByOrderNumber(String orderNumber) {
+    if (!enabled) {
+      return null;
+    }
+    return hitOrMiss(idsByOrderNumber.get(orderNumber));
+  }
+
+  /**
+   * Returns the stamp a loader must pass to {@link #put(OrderDTO, LoadStamp)}.
+   * Take it before reading the order from the database.
+   */
+  public LoadStamp loadStamp() {
+    long[] generations = new long[stripes.length];
+    for (int i = 0; i < stripes.length; i++) {
+      generations[i] = stripes[i].generation;
+    }
+    return new LoadStamp(generations);
+  }
+
+  /**
+   * Caches an order loaded from the database, unless its stripe was
+   * invalidated since the stamp was taken.
+   *
+   * @param order Order to cache
+   * @param stamp Value of {@link #loadStamp()} taken before the order was read
+   */
+  public void put(OrderDTO order, LoadStamp stamp) {
+    if (!enabled || order.getId() == null) {
+      return;
+    }
+    int index = stripeIndex(order.getId());
+    Stripe stripe = stripes[index];
+    stripe.lock.lock();
+    try {
+      if (stripe.generation != stamp.generations[index]) {
+        return;
+      }
+      stripe.remove(order.getId());
+      stripe.entries.put(order.getId(), new Entry(order, clock.millis() + ttlMillis));
+      size.incrementAndGet();
+      idsByOrderNumber.put(order.getOrderNumber(), order.getId());
+      while (stripe.entries.size() > stripe.maxSize) {
+        // Iteration order is access order, so the first entry is the least recently used
+        stripe.remove(stripe.entries.keySet().iterator().next());
+        evictions.increment();
+      }
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * Evicts an order once the current transaction has completed, or right away
+   * when no transaction is active.
+   *
+   * @param id Order ID
+   */
+  public void evictAfterCompletion(Long id) {
+    evictAfterCompletion(List.of(id));
+  }
+
+  /**
+   * Evicts orders once the current transaction has completed, or right away
+   * when no transaction is active.
+   *
+   * Eviction also happens after a rollback, which is harmless: the next lookup
+   * simply reloads the order.
+   *
+   * @param ids Order IDs
+   */
+  public void evictAfterCompletion(Collection<Long> ids) {
+    if (!enabled || ids.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evictNow(ids);
+        }
+      });
+    } else {
+      evictNow(ids);
+    }
+  }
+
+  /**
+   * Returns a snapshot of the cache counters.
+   */
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), size.get(), maxSize);
+  }
+
+  private void evictNow(Collection<Long> ids) {
+    for (Long id : ids) {
+      Stripe stripe = stripes[stripeIndex(id)];
+      stripe.lock.lock();
+      try {
+        stripe.generation++;
+        stripe.remove(id);
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+  }
+
+  private OrderDTO hitOrMiss(Long id) {
+    if (id == null) {
+      misses.increment();
+      return null;
+    }
+    Stripe stripe = stripes[stripeIndex(id)];
+    stripe.lock.lock();
+    try {
+      Entry entry = stripe.entries.get(id);
+      if (entry == null) {
+        misses.increment();
+        return null;
+      }
+      if (entry.expiresAt <= clock.millis()) {
+        stripe.remove(id);
+        evictions.increment();
+        misses.increment();
+        return null;
+      }
+      hits.increment();
+      return entry.order;
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  private int stripeIndex(Long id) {
+    int hash = id.hashCode();
+    return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+  }
+
+  /**
+   * Orders whose id falls into one stripe, guarded by the stripe's lock.
+   */
+  private final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    // Advanced by every invalidation; volatile so stamps can be taken without the lock
+    private volatile long generation;
+
+    private Stripe(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    private void remove(Long id) {
+      Entry entry = entries.remove(id);
+      if (entry != null) {
+        size.decrementAndGet();
+        idsByOrderNumber.remove(entry.order.getOrderNumber(), id);
+      }
+    }
+  }
+
+  private record Entry(OrderDTO order, long expiresAt) {
+  }
+
+  /**
+   * Stripe generations seen by a loader before it read the order.
+   */
+  public static final class LoadStamp {
+
+    private final long[] generations;
+
+    private LoadStamp(long[] generations) {
+      this.generations = generations;
+    }
+  }
+
+  /**
+   * Cache counters. Evictions include both size-based and expired entries.
+   *
+   * @param hits Lookups answered from the cache
+   * @param misses Lookups that had to go to the database
+   * @param evictions Entries removed because the cache was full or they expired
+   * @param size Current number of entries
+   * @param maxSize Maximum number of entries
+   */
+  public record Stats(long hits, long misses, long evictions, int size, int maxSize) {
+  }
+}
@@ -0,0 +1,214 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.outbox.OrderChangeEvent;
+import com.ecommerce.outbox.OrderEventType;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.repository.OrderRepository.DeadlineRow;
+import com.ecommerce.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory deadlines of PENDING and PROCESSING orders.
+ *
+ * A PENDING order is due {@code order.deadlines.pending-timeout} after it
+ * last changed and a PROCESSING order {@code order.deadlines.processing-sla}
+ * after it started processing. Deadlines are held in a {@link TimingWheel}, so
+ * tracking an order takes constant time and a few dozen bytes, and finding
+ * the due orders never scans the {@code orders} table. The
+ * {@link com.ecommerce.task.OrderDeadlineTask} polls the due orders and hands
+ * them to the {@link OrderService}, which checks each order against the
+ * database before acting on it.
+ *
+ * The deadlines are loaded from the database once the application has
+ * started and kept current from the {@link OrderChangeEvent} of every
+ * committed change recorded by the {@link com.ecommerce.outbox.OrderOutbox}. Each instance only hears of the
+ * changes it makes, so an order changed elsewhere keeps its old deadline
+ * here until that deadline is found stale, or until the next restart.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderDeadlines {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderDeadlines.class);
+
+  // 4 levels of 64 buckets reach 194 days at the default tick of 1 second
+  private static final int WHEEL_BITS = 6;
+  private static final int WHEEL_LEVELS = 4;
+
+  private final OrderRepository orderRepository;
+  private final boolean enabled;
+  private final Duration pendingTimeout;
+  private final Duration processingSla;
+  private final int batchSize;
+  private final TimingWheel wheel;
+
+  public OrderDeadlines(OrderRepository orderRepository, OrderProperties orderProperties) {
+    OrderProperties.Deadlines settings = orderProperties.getDeadlines();
+    this.orderRepository = orderRepository;
+    this.enabled = settings.isEnabled();
+    this.pendingTimeout = settings.getPendingTimeout();
+    this.processingSla = settings.getProcessingSla();
+    this.batchSize = Math.max(1, settings.getBatchSize());
+    this.wheel = new TimingWheel(Math.max(1, settings.getTick().toMillis()), WHEEL_BITS, WHEEL_LEVELS,
+      System.currentTimeMillis());
+  }
+
+  /**
+   * Loads the deadlines of all PENDING orders and of the PROCESSING orders
+   * not yet flagged as past their SLA, in keyset pages of
+   * {@code order.deadlines.batch-size}. Deadlines already set by changes
+   * made in the meantime are kept.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    if (!enabled) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    int loaded = load(OrderStatus.PENDING) + load(OrderStatus.PROCESSING);
+    logger.info("Loaded {} order deadlines in {} ms", loaded, (System.nanoTime() - startNanos) / 1_000_000);
+  }
+
+  private int load(OrderStatus status) {
+    Duration timeout = timeout(status);
+    byte tag = (byte) status.ordinal();
+    int loaded = 0;
+    long afterId = 0L;
+    List<DeadlineRow> rows;
+
+    do {
+      rows = orderRepository.findDeadlineRowsByStatusAfter(status, afterId, PageRequest.of(0, batchSize));
+      synchronized (this) {
+        for (DeadlineRow row : rows) {
+          if (wheel.scheduleIfAbsent(row.id(), deadline(row.updatedAt(), timeout), tag)) {
+            loaded++;
+          }
+        }
+      }
+      if (!rows.isEmpty()) {
+        afterId = rows.get(rows.size() - 1).id();
+      }
+    } while (rows.size() == batchSize);
+    return loaded;
+  }
+
+  /**
+   * Sets or removes the deadlines of changed orders once their transaction
+   * commits, or right away without a transaction. SLA breaches leave the
+   * deadlines alone, as the breached orders have already been polled.
+   *
+   * @param change Change recorded by the outbox
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrderChange(OrderChangeEvent change) {
+    if (!enabled || change.orderIds().isEmpty() || change.type() == OrderEventType.SLA_BREACHED) {
+      return;
+    }
+    track(change.orderIds(), change.status(), change.occurredAt());
+  }
+
+  private synchronized void track(List<Long> orderIds, OrderStatus status, LocalDateTime changedAt) {
+    Duration timeout = timeout(status);
+    if (timeout == null) {
+      for (Long orderId : orderIds) {
+        wheel.cancel(orderId);
+      }
+      return;
+    }
+    long deadline = deadline(changedAt, timeout);
+    byte tag = (byte) status.ordinal();
+    for (Long orderId : orderIds) {
+      wheel.schedule(orderId, deadline, tag);
+    }
+  }
+
+  /**
+   * Removes and returns the orders whose deadlines have been reached.
+   *
+   * @param nowMillis Current time in epoch milliseconds
+   * @return Due orders by the status they were expected to leave
+   */
+  public synchronized DueOrders pollDue(long nowMillis) {
+    List<Long> pending = new ArrayList<>();
+    List<Long> processing = new ArrayList<>();
+    wheel.advance(nowMillis, (orderId, tag) ->
+      (tag == OrderStatus.PENDING.ordinal() ? pending : processing).add(orderId));
+    return new DueOrders(pending, processing);
+  }
+
+  /**
+   * Sets the deadlines of orders that could not be handled to a later time,
+   * unless a change has set new ones in the meantime.
+   *
+   * @param orderIds IDs of the orders
+   * @param status Status the orders were expected to leave
+   * @param delay Time from now until the next attempt
+   */
+  public synchronized void retryLater(Collection<Long> orderIds, OrderStatus status, Duration delay) {
+    long retryAt = System.currentTimeMillis() + delay.toMillis();
+    for (Long orderId : orderIds) {
+      wheel.scheduleIfAbsent(orderId, retryAt, (byte) status.ordinal());
+    }
+  }
+
+  /**
+   * Whether an order has a deadline.
+   *
+   * @param orderId Order ID
+   * @return Whether the order has a deadline
+   */
+  public synchronized boolean isTracked(Long orderId) {
+    return wheel.contains(orderId);
+  }
+
+  /**
+   * Number of orders with a deadline.
+   *
+   * @return Number of tracked orders
+   */
+  public synchronized int size() {
+    return wheel.size();
+  }
+
+  private Duration timeout(OrderStatus status) {
+    if (status == OrderStatus.PENDING) {
+      return pendingTimeout;
+    }
+    return status == OrderStatus.PROCESSING ? processingSla : null;
+  }
+
+  private static long deadline(LocalDateTime changedAt, Duration timeout) {
+    return changedAt.atZone(ZoneId.systemDefault()).toInstant().plus(timeout).toEpochMilli();
+  }
+
+  /**
+   * Orders whose deadlines have been reached.
+   *
+   * @param pending IDs of orders due to leave PENDING
+   * @param processing IDs of orders due to leave PROCESSING
+   */
+  public record DueOrders(List<Long> pending, List<Long> processing) {
+
+    public boolean isEmpty() {
+      return pending.isEmpty() && processing.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderItem;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.ValidationException;
+import com.ecommerce.mapper.OrderMapper;
+import com.ecommerce.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams orders with their items to an output stream as NDJSON or CSV.
+ *
+ * Orders are read from a forward-only cursor and written one at a time; each
+ * order is detached from the persistence context once it has been written, so
+ * memory use does not depend on the number of orders exported. On MySQL this
+ * needs {@code useCursorFetch=true} on the JDBC URL; without it the driver
+ * reads the whole result into memory (see
+ * {@link com.ecommerce.repository.OrderRepository#EXPORT_FETCH_SIZE}).
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Service
+public class OrderExportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderExportService.class);
+
+  private static final String CSV_HEADER = "order_id,order_number,customer_name,customer_email,status," +
+    "total_amount,created_at,updated_at,item_id,product_id,product_name,quantity,price";
+
+  private final OrderRepository orderRepository;
+  private final OrderMapper orderMapper;
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+
+  public OrderExportService(OrderRepository orderRepository, OrderMapper orderMapper,
+                            ObjectMapper objectMapper, EntityManager entityManager) {
+    this.orderRepository = orderRepository;
+    this.orderMapper = orderMapper;
+    this.objectMapper = objectMapper;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Writes all orders, optionally filtered by status, in ascending id order.
+   *
+   * The output stream is flushed but not closed.
+   *
+   * @param status Optional status filter; null for all orders
+   * @param format Output format
+   * @param out Destination of the export
+   * @return Number of orders written
+   * @throws IOException if writing to the output stream fails
+   */
+  @Transactional(readOnly = true)
+  public long exportOrders(OrderStatus status, Format format, OutputStream out) throws IOException {
+    logger.debug("Exporting orders with status: {} as {}", status, format);
+
+    long count;
+    try (Stream<Order> orders = status == null
+      ? orderRepository.streamAllWithItems()
+      : orderRepository.streamAllWithItemsByStatus(status)) {
+      count = format == Format.CSV
+        ? writeCsv(orders.iterator(), out)
+        : writeNdjson(orders.iterator(), out);
+    }
+
+    logger.info("Exported {} orders with status: {} as {}", count, status, format);
+    return count;
+  }
+
+  /**
+   * Writes one JSON object per order and line, in the same shape as OrderDTO.
+   */
+  private long writeNdjson(Iterator<Order> orders, OutputStream out) throws IOException {
+    ObjectWriter writer = objectMapper.writerFor(OrderDTO.class);
+    long count = 0;
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      while (orders.hasNext()) {
+        Order order = orders.next();
+        writer.writeValue(generator, orderMapper.toDTO(order));
+        generator.writeRaw('\n');
+        entityManager.detach(order);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Writes one row per order item, repeating the order columns. Orders
+   * without items get a single row with empty item columns.
+   */
+  private long writeCsv(Iterator<Order> orders, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+
+    long count = 0;
+    while (orders.hasNext()) {
+      Order order = orders.next();
+      if (order.getOrderItems().isEmpty()) {
+        writeCsvRow(writer, order, null);
+      }
+      for (OrderItem item : order.getOrderItems()) {
+        writeCsvRow(writer, order, item);
+      }
+      entityManager.detach(order);
+      count++;
+    }
+    writer.flush();
+    return count;
+  }
+
+  private void writeCsvRow(Writer writer, Order order, OrderItem item) throws IOException {
+    writer.write(String.valueOf(order.getId()));
+    writeCsvField(writer, order.getOrderNumber());
+    writeCsvField(writer, order.getCustomerName());
+    writeCsvField(writer, order.getCustomerEmail());
+    writeCsvField(writer, order.getStatus());
+    writeCsvField(writer, order.getTotalAmount());
+    writeCsvField(writer, order.getCreatedAt());
+    writeCsvField(writer, order.getUpdatedAt());
+    writeCsvField(writer, item == null ? null : item.getId());
+    writeCsvField(writer, item == null ? null : item.getProductId());
+    writeCsvField(writer, item == null ? null : item.getProductName());
+    writeCsvField(writer, item == null ? null : item.getQuantity());
+    writeCsvField(writer, item == null ? null : item.getPrice());
+    writer.write('\n');
+  }
+
+  /**
+   * Writes a separator and the value, quoted per RFC 4180 when it contains a
+   * comma, quote or line break. Null values are written as empty fields.
+   */
+  private void writeCsvField(Writer writer, Object value) throws IOException {
+    writer.write(',');
+    if (value == null) {
+      return;
+    }
+    String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      writer.write(text);
+      return;
+    }
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  /**
+   * Supported export formats.
+   */
+  public enum Format {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    Format(String contentType, String fileExtension) {
+      this.contentType = contentType;
+      this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public String getFileExtension() {
+      return fileExtension;
+    }
+
+    /**
+     * Parses a format request parameter, ignoring case.
+     *
+     * @throws ValidationException if the format is not supported
+     */
+    public static Format fromParameter(String value) {
+      for (Format format : values()) {
+        if (format.fileExtension.equals(value.toLowerCase(Locale.ROOT))) {
+          return format;
+        }
+      }
+      throw new ValidationException("Unsupported export format: " + value + ". Use ndjson or csv");
+    }
+  }
+}
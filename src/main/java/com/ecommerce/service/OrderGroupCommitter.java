@@ -0,0 +1,242 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.exception.OrderCreationUnavailableException;
+import com.ecommerce.metrics.OrderMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Writes concurrently created orders together, one transaction per group.
+ *
+ * Callers hand their validated request to a bounded queue and wait for it to
+ * be written. A committer thread takes the oldest waiting request and lets
+ * others join it for up to {@code order.group-commit.window}, or until
+ * {@code order.group-commit.max-size} requests have joined, then writes the
+ * whole group in one transaction: the database commits once per group
+ * instead of once per order, and each order waits at most one window longer.
+ * If a group fails, its orders are written one by one so that every caller
+ * gets its own order or its own error.
+ *
+ * Requests that find the queue full are written by their caller alone.
+ * Callers wait at most {@code order.group-commit.timeout} for their group.
+ * Once the application stops, new requests are rejected and requests still
+ * waiting fail, so no caller waits for a committer that is gone.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class OrderGroupCommitter {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderGroupCommitter.class);
+
+  private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+  private final Function<List<CreateOrderRequest>, List<OrderDTO>> writer;
+  private final OrderMetrics orderMetrics;
+  private final long windowNanos;
+  private final int maxSize;
+  private final Duration timeout;
+  private final BlockingQueue<PendingOrder> queue;
+  private final ExecutorService committers;
+  private volatile boolean stopped;
+
+  /**
+   * Creates the committer and starts its threads.
+   *
+   * @param settings Group commit settings
+   * @param writer Writes a group of orders in one transaction, returning them in request order
+   * @param orderMetrics Metrics recording the groups written
+   */
+  public OrderGroupCommitter(OrderProperties.GroupCommit settings,
+                             Function<List<CreateOrderRequest>, List<OrderDTO>> writer,
+                             OrderMetrics orderMetrics) {
+    this.writer = writer;
+    this.orderMetrics = orderMetrics;
+    this.windowNanos = Math.max(0, settings.getWindow().toNanos());
+    this.maxSize = Math.max(1, settings.getMaxSize());
+    this.timeout = settings.getTimeout();
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueSize()));
+    int committerCount = Math.max(1, settings.getCommitters());
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("order-group-commit-");
+    threadFactory.setDaemon(true);
+    this.committers = Executors.newFixedThreadPool(committerCount, threadFactory);
+    for (int i = 0; i < committerCount; i++) {
+      committers.execute(this::commitGroups);
+    }
+  }
+
+  /**
+   * Writes an order with whatever other orders are created at the same time
+   * and waits until its group has committed.
+   *
+   * @param request Validated order creation request
+   * @return Created order
+   * @throws OrderCreationUnavailableException if the application is stopping or the
+   *         group did not commit within the timeout
+   */
+  public OrderDTO submit(CreateOrderRequest request) {
+    if (stopped) {
+      throw shuttingDown();
+    }
+    PendingOrder pending = new PendingOrder(request, System.nanoTime(), new CompletableFuture<>());
+    if (!queue.offer(pending)) {
+      return writer.apply(List.of(request)).get(0);
+    }
+    if (stopped) {
+      // Queued after the committers may have taken their last requests
+      failWaiting();
+    }
+
+    try {
+      return pending.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      if (queue.remove(pending)) {
+        throw new OrderCreationUnavailableException(
+          "Order was not written within " + timeout.toMillis() + " ms, please retry");
+      }
+      throw new OrderCreationUnavailableException(
+        "Order was not confirmed within " + timeout.toMillis() + " ms and may still be created");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      queue.remove(pending);
+      throw new OrderCreationUnavailableException("Interrupted while waiting for the order to be written");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Stops the committer threads, giving a group being written a moment to
+   * commit. New requests are rejected and requests still waiting fail.
+   */
+  public void shutdown() {
+    stopped = true;
+    committers.shutdownNow();
+    try {
+      committers.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    failWaiting();
+  }
+
+  private void commitGroups() {
+    List<PendingOrder> group = new ArrayList<>(maxSize);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        PendingOrder first = queue.take();
+        group.add(first);
+        long deadline = first.submittedAtNanos() + windowNanos;
+        while (group.size() < maxSize) {
+          // Past the window this only picks up requests that are already waiting
+          PendingOrder next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          group.add(next);
+          queue.drainTo(group, maxSize - group.size());
+        }
+        commit(group);
+        group.clear();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      OrderCreationUnavailableException stopping = shuttingDown();
+      for (PendingOrder pending : group) {
+        pending.result().completeExceptionally(stopping);
+      }
+      if (stopped) {
+        failWaiting();
+      }
+    }
+  }
+
+  /**
+   * Fails every request still in the queue.
+   */
+  private void failWaiting() {
+    List<PendingOrder> waiting = new ArrayList<>();
+    queue.drainTo(waiting);
+    if (waiting.isEmpty()) {
+      return;
+    }
+    OrderCreationUnavailableException stopping = shuttingDown();
+    for (PendingOrder pending : waiting) {
+      pending.result().completeExceptionally(stopping);
+    }
+  }
+
+  private static OrderCreationUnavailableException shuttingDown() {
+    return new OrderCreationUnavailableException("Order creation is shutting down");
+  }
+
+  private void commit(List<PendingOrder> group) {
+    List<CreateOrderRequest> requests = new ArrayList<>(group.size());
+    for (PendingOrder pending : group) {
+      requests.add(pending.request());
+    }
+
+    List<OrderDTO> created;
+    try {
+      created = writer.apply(requests);
+    } catch (Throwable ex) {
+      if (group.size() == 1 || ex instanceof Error) {
+        if (ex instanceof Error) {
+          logger.error("Writing a group of {} new orders failed: ", group.size(), ex);
+        }
+        for (PendingOrder pending : group) {
+          pending.result().completeExceptionally(ex);
+        }
+        return;
+      }
+
+      logger.warn("Group of {} new orders failed, writing them one by one: {}", group.size(), ex.getMessage());
+      for (PendingOrder pending : group) {
+        commit(List.of(pending));
+      }
+      return;
+    }
+
+    // Committed; nothing below may send the orders back to be written again
+    for (int i = 0; i < group.size(); i++) {
+      group.get(i).result().complete(created.get(i));
+    }
+    orderMetrics.groupCommitted(group.size(), Duration.ofNanos(System.nanoTime() - group.get(0).submittedAtNanos()));
+  }
+
+  /**
+   * Order waiting to be written.
+   *
+   * @param request Order creation request
+   * @param submittedAtNanos {@link System#nanoTime()} when the request was queued
+   * @param result Completed with the created order or the error
+   */
+  private record PendingOrder(CreateOrderRequest request, long submittedAtNanos,
+                              CompletableFuture<OrderDTO> result) {
+  }
+}
@@ -0,0 +1,351 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.exception.IdempotencyKeyConflictException;
+import com.ecommerce.exception.OrderCreationUnavailableException;
+import com.ecommerce.exception.ValidationException;
+import com.ecommerce.repository.IdempotencyKeyRepository;
+import com.ecommerce.repository.IdempotencyKeyRepository.StoredKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates orders at most once per {@code Idempotency-Key}.
+ *
+ * Keys are kept in two places:
+ * - a bounded in-memory map from key to the (possibly still running)
+ *   creation, which answers repeated keys on this instance without a database
+ *   round trip and makes concurrent requests with the same key wait for the
+ *   first one, for up to {@code order.idempotency.wait-timeout}, instead of
+ *   inserting again; the map is split into stripes by key hash, each with its
+ *   own lock and its share of {@code order.idempotency.max-size} keys, and a
+ *   stripe forgets its least recently used keys first;
+ * - the {@code idempotency_keys} table, written in the same transaction as
+ *   the order together with the created order as JSON, which covers keys
+ *   forgotten by the map, other instances and restarts.
+ *
+ * A repeated key returns the order exactly as the first request returned it,
+ * even if the order has changed or been cancelled since. A key reused with a
+ * different request body is rejected. Failed requests do not consume their
+ * key. Keys are forgotten after the configured time to live;
+ * {@link #purgeExpired()} removes them from both stores.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Service
+public class OrderIdempotencyService {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderIdempotencyService.class);
+
+  static final int MAX_KEY_LENGTH = 255;
+
+  // Power of two, so a key's stripe is a mask of its spread hash
+  private static final int MAX_STRIPES = 64;
+
+  private final OrderService orderService;
+  private final IdempotencyKeyRepository keyRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final long ttlMillis;
+  private final long waitTimeoutNanos;
+  private final Clock clock;
+
+  private final Stripe[] stripes;
+
+  @Autowired
+  public OrderIdempotencyService(OrderService orderService, IdempotencyKeyRepository keyRepository,
+                                 ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                 OrderProperties orderProperties) {
+    this(orderService, keyRepository, objectMapper, transactionManager, orderProperties, Clock.systemDefaultZone());
+  }
+
+  OrderIdempotencyService(OrderService orderService, IdempotencyKeyRepository keyRepository,
+                          ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                          OrderProperties orderProperties, Clock clock) {
+    this.orderService = orderService;
+    this.keyRepository = keyRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttlMillis = orderProperties.getIdempotency().getTimeToLive().toMillis();
+    this.waitTimeoutNanos = orderProperties.getIdempotency().getWaitTimeout().toNanos();
+    this.clock = clock;
+    int maxSize = Math.max(1, orderProperties.getIdempotency().getMaxSize());
+    // Fewer stripes than keys would leave some stripes unable to hold a key
+    int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(maxSize));
+    int stripeSize = (maxSize + stripeCount - 1) / stripeCount;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(stripeSize);
+    }
+  }
+
+  /**
+   * Creates an order, or returns the order already created with the same key.
+   *
+   * @param key Idempotency key sent by the client
+   * @param request Order creation request
+   * @return The order and whether it was created by an earlier request
+   * @throws ValidationException if the key is blank or too long
+   * @throws IdempotencyKeyConflictException if the key was used with a different request
+   */
+  public IdempotentOrder createOrder(String key, CreateOrderRequest request) {
+    validateKey(key);
+    String requestHash = fingerprint(request);
+    long now = clock.millis();
+
+    Entry claim = new Entry(requestHash, now + ttlMillis);
+    Entry entry = claimOrGet(key, claim, now);
+    checkSameRequest(key, entry.requestHash, requestHash);
+
+    if (entry != claim) {
+      logger.debug("Idempotency key {} seen before, waiting for its order", key);
+      return new IdempotentOrder(await(key, entry), true);
+    }
+
+    try {
+      IdempotentOrder result = createOrReplay(key, requestHash, request, claim.expiresAt);
+      claim.order.complete(result.order());
+      return result;
+    } catch (RuntimeException ex) {
+      // Let the client retry with the same key
+      release(key, claim);
+      claim.order.completeExceptionally(ex);
+      throw ex;
+    }
+  }
+
+  /**
+   * Forgets expired keys.
+   *
+   * @return Number of keys deleted from the database
+   */
+  public int purgeExpired() {
+    long now = clock.millis();
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        stripe.entries.values().removeIf(entry -> entry.order.isDone() && entry.isExpired(now));
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    int deleted = keyRepository.deleteExpired(LocalDateTime.now(clock));
+    logger.debug("Purged {} expired idempotency keys", deleted);
+    return deleted;
+  }
+
+  /**
+   * Creates the order and stores the key in one transaction, unless the
+   * database already knows the key. The order is built before that
+   * transaction opens; only the claim, the insert and the stored response
+   * happen inside it.
+   */
+  private IdempotentOrder createOrReplay(String key, String requestHash, CreateOrderRequest request,
+                                         long expiresAtMillis) {
+    LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), clock.getZone());
+
+    // Leasing an order number may take a connection of its own, so it must not
+    // happen while the claim transaction holds one
+    PreparedOrder prepared = orderService.prepareOrder(request);
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      OrderDTO created = transactionTemplate.execute(status -> {
+        if (!keyRepository.claim(key, requestHash, expiresAt)) {
+          return null;
+        }
+        OrderDTO order = orderService.createOrder(prepared);
+        keyRepository.complete(key, order.getId(), toJson(order));
+        return order;
+      });
+      if (created != null) {
+        return new IdempotentOrder(created, false);
+      }
+
+      // Used on another instance or before a restart
+      StoredKey stored = keyRepository.find(key).orElse(null);
+      if (stored == null || keyRepository.deleteIfExpired(key, LocalDateTime.now(clock))) {
+        continue;
+      }
+      checkSameRequest(key, stored.requestHash(), requestHash);
+      if (stored.response() == null) {
+        throw new IdempotencyKeyConflictException(
+          "A request with idempotency key " + key + " is still being processed");
+      }
+      return new IdempotentOrder(fromJson(stored.response()), true);
+    }
+    throw new IdempotencyKeyConflictException(
+      "A request with idempotency key " + key + " is still being processed");
+  }
+
+  /**
+   * Returns the live entry of the key, or stores the claim if there is none.
+   */
+  private Entry claimOrGet(String key, Entry claim, long now) {
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      Entry existing = stripe.entries.get(key);
+      if (existing != null && !existing.isExpired(now)) {
+        return existing;
+      }
+      stripe.entries.put(key, claim);
+      return claim;
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  private void release(String key, Entry claim) {
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      stripe.entries.remove(key, claim);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  private Stripe stripeOf(String key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  /**
+   * Waits for the order of an earlier request with the same key.
+   */
+  private OrderDTO await(String key, Entry entry) {
+    try {
+      return entry.order.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      throw new OrderCreationUnavailableException("A request with idempotency key " + key
+        + " did not finish within " + TimeUnit.NANOSECONDS.toMillis(waitTimeoutNanos)
+        + " ms and may still create its order, please retry");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OrderCreationUnavailableException(
+        "Interrupted while waiting for the request with idempotency key " + key);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  private static void checkSameRequest(String key, String storedHash, String requestHash) {
+    if (!storedHash.equals(requestHash)) {
+      throw new IdempotencyKeyConflictException(
+        "Idempotency key " + key + " was already used with a different request");
+    }
+  }
+
+  private static void validateKey(String key) {
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new ValidationException(
+        "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " non-blank characters");
+    }
+  }
+
+  private String toJson(OrderDTO order) {
+    try {
+      return objectMapper.writeValueAsString(order);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Cannot serialize order " + order.getId(), ex);
+    }
+  }
+
+  private OrderDTO fromJson(String response) {
+    try {
+      return objectMapper.readValue(response, OrderDTO.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Cannot read stored order response", ex);
+    }
+  }
+
+  /**
+   * SHA-256 of the request as JSON, to recognise a key reused for another order.
+   */
+  private String fingerprint(CreateOrderRequest request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("Cannot fingerprint order request", ex);
+    }
+  }
+
+  /**
+   * Keys whose hash falls into one stripe, guarded by the stripe's lock.
+   */
+  private static final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+
+    private Stripe(int maxSize) {
+      // Iteration order is access order, so the eldest entry is the least recently used
+      this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OrderIdempotencyService.Entry> eldest) {
+          return size() > maxSize;
+        }
+      };
+    }
+  }
+
+  /**
+   * A key known to this instance.
+   */
+  private static final class Entry {
+
+    private final String requestHash;
+    private final long expiresAt;
+    // The order as returned to the first request; shared by replays, which must not modify it
+    private final CompletableFuture<OrderDTO> order = new CompletableFuture<>();
+
+    private Entry(String requestHash, long expiresAt) {
+      this.requestHash = requestHash;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return expiresAt <= now;
+    }
+  }
+
+  /**
+   * Result of an idempotent order creation.
+   *
+   * @param order The order
+   * @param replayed Whether the order was created by an earlier request with the same key
+   */
+  public record IdempotentOrder(OrderDTO order, boolean replayed) {
+  }
+}
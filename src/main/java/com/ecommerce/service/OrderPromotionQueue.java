@@ -0,0 +1,165 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.metrics.OrderMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Promotes new orders from PENDING to PROCESSING right after they commit.
+ *
+ * Created orders are handed over after their transaction commits and put on
+ * a bounded queue. Worker threads take whatever is queued, up to
+ * {@code order.promotion.batch-size} orders, and promote it in one
+ * transaction through {@link OrderPromotionService}: a lone order is promoted
+ * on its own within milliseconds, and under load the batches grow so the
+ * number of transactions stays low.
+ *
+ * The queue only lives in memory. Orders that do not fit into it, that fail
+ * to be promoted, or that were queued when the application stopped stay
+ * PENDING and are picked up by the scheduled job in
+ * {@link com.ecommerce.task.OrderSchedulerTask}.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderPromotionQueue {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderPromotionQueue.class);
+
+  private final OrderPromotionService promotionService;
+  private final OrderMetrics orderMetrics;
+  private final boolean enabled;
+  private final int workerCount;
+  private final int batchSize;
+  private final BlockingQueue<QueuedOrder> queue;
+  private final ExecutorService workers;
+  private final AtomicBoolean overflowing = new AtomicBoolean();
+
+  public OrderPromotionQueue(OrderPromotionService promotionService, OrderProperties orderProperties,
+                             OrderMetrics orderMetrics) {
+    OrderProperties.Promotion promotion = orderProperties.getPromotion();
+    this.promotionService = promotionService;
+    this.orderMetrics = orderMetrics;
+    this.enabled = promotion.isEnabled();
+    this.workerCount = Math.max(1, promotion.getWorkers());
+    this.batchSize = Math.max(1, promotion.getBatchSize());
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, promotion.getQueueSize()));
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("order-promotion-");
+    threadFactory.setDaemon(true);
+    this.workers = Executors.newFixedThreadPool(workerCount, threadFactory);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (enabled) {
+      for (int i = 0; i < workerCount; i++) {
+        workers.execute(this::drain);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdownNow();
+  }
+
+  /**
+   * Queues orders for promotion once the current transaction commits, or
+   * right away without a transaction. Orders of a rolled back transaction are
+   * never queued.
+   *
+   * @param orderIds IDs of newly created orders
+   */
+  public void enqueueAfterCommit(List<Long> orderIds) {
+    if (!enabled || orderIds.isEmpty()) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          enqueue(orderIds);
+        }
+      });
+    } else {
+      enqueue(orderIds);
+    }
+  }
+
+  private void enqueue(List<Long> orderIds) {
+    long now = System.nanoTime();
+    int dropped = 0;
+    for (Long orderId : orderIds) {
+      if (!queue.offer(new QueuedOrder(orderId, now))) {
+        dropped++;
+      }
+    }
+    if (dropped > 0) {
+      orderMetrics.promotionDropped(dropped);
+      if (overflowing.compareAndSet(false, true)) {
+        logger.warn("Order promotion queue is full, leaving new orders to the scheduled job");
+      }
+    }
+  }
+
+  private void drain() {
+    List<QueuedOrder> batch = new ArrayList<>(batchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      queue.drainTo(batch, batchSize - 1);
+      promote(batch);
+      batch.clear();
+
+      if (queue.isEmpty() && overflowing.compareAndSet(true, false)) {
+        logger.info("Order promotion queue has caught up");
+      }
+    }
+  }
+
+  private void promote(List<QueuedOrder> batch) {
+    List<Long> orderIds = new ArrayList<>(batch.size());
+    for (QueuedOrder order : batch) {
+      orderIds.add(order.orderId());
+    }
+
+    try {
+      int promoted = promotionService.promoteOrders(orderIds);
+      orderMetrics.promotionDrained(promoted, Duration.ofNanos(System.nanoTime() - batch.get(0).queuedAtNanos()));
+    } catch (RuntimeException ex) {
+      logger.warn("Could not promote {} new orders, leaving them to the scheduled job: {}",
+        orderIds.size(), ex.getMessage());
+    }
+  }
+
+  /**
+   * Order waiting for promotion.
+   *
+   * @param orderId Order ID
+   * @param queuedAtNanos {@link System#nanoTime()} when the order was queued
+   */
+  private record QueuedOrder(Long orderId, long queuedAtNanos) {
+  }
+}
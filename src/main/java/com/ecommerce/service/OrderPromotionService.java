@@ -0,0 +1,130 @@
+package com.ecommerce.service;
+
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.outbox.OrderOutbox;
+import com.ecommerce.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Promotes PENDING orders to PROCESSING with set-based updates.
+ *
+ * Each call handles one keyset chunk in its own transaction: it reads the next
+ * ids after a given id and updates them with a single UPDATE statement. The
+ * update only touches rows that are still PENDING, so a chunk can be retried
+ * safely and a job that crashed part-way resumes by simply running again.
+ * The ids are locked while they are read, so the STATUS_CHANGED events written
+ * to the {@link OrderOutbox} in the same transaction name exactly the promoted
+ * orders. Rows locked by another transaction are skipped, so several
+ * application instances can promote the same backlog at once: each claims the
+ * chunks nobody else holds. The {@link OrderPromotionQueue} promotes given
+ * orders the same way right after they are created.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Service
+public class OrderPromotionService {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderPromotionService.class);
+
+  private final OrderRepository orderRepository;
+  private final OrderCache orderCache;
+  private final OrderMetrics orderMetrics;
+  private final OrderOutbox orderOutbox;
+
+  public OrderPromotionService(OrderRepository orderRepository, OrderCache orderCache,
+                               OrderMetrics orderMetrics, OrderOutbox orderOutbox) {
+    this.orderRepository = orderRepository;
+    this.orderCache = orderCache;
+    this.orderMetrics = orderMetrics;
+    this.orderOutbox = orderOutbox;
+  }
+
+  /**
+   * Id range of the current PENDING backlog, to split it into partitions.
+   *
+   * @return Lowest and highest PENDING id, or empty when nothing is PENDING
+   */
+  @Transactional(readOnly = true)
+  public Optional<OrderRepository.IdRange> findPendingIdRange() {
+    OrderRepository.IdRange range = orderRepository.findIdRangeByStatus(OrderStatus.PENDING);
+    return range == null || range.minId() == null ? Optional.empty() : Optional.of(range);
+  }
+
+  /**
+   * Promotes the next chunk of PENDING orders whose id is greater than
+   * {@code afterId} and at most {@code maxId}, skipping orders claimed by
+   * another transaction.
+   *
+   * @param afterId Exclusive lower bound of the id range
+   * @param maxId Inclusive upper bound of the id range
+   * @param chunkSize Maximum number of orders to promote
+   * @return The chunk that was processed; empty when no unclaimed PENDING orders remain in the range
+   */
+  @Transactional
+  public PromotionChunk promoteNextChunk(long afterId, long maxId, int chunkSize) {
+    List<Long> ids = orderRepository.claimIdsByStatusInRange(
+      OrderStatus.PENDING.name(), afterId, maxId, chunkSize);
+    if (ids.isEmpty()) {
+      return PromotionChunk.empty(afterId);
+    }
+
+    int promoted = promote(ids);
+    return new PromotionChunk(ids.get(ids.size() - 1), ids.size(), promoted);
+  }
+
+  /**
+   * Promotes the given orders that are still PENDING. Orders claimed by
+   * another transaction at the moment are skipped and left PENDING.
+   *
+   * @param orderIds Order IDs
+   * @return Number of orders moved to PROCESSING
+   */
+  @Transactional
+  public int promoteOrders(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return 0;
+    }
+    List<Long> ids = orderRepository.claimIdsByStatusIn(OrderStatus.PENDING.name(), orderIds);
+    return ids.isEmpty() ? 0 : promote(ids);
+  }
+
+  private int promote(List<Long> ids) {
+    int promoted = orderRepository.updateStatusByIds(
+      ids, OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+    orderOutbox.statusChanged(ids, OrderStatus.PENDING, OrderStatus.PROCESSING);
+    orderCache.evictAfterCompletion(ids);
+    orderMetrics.statusChanged(OrderStatus.PENDING, OrderStatus.PROCESSING, promoted);
+    logger.debug("Promoted {} of {} orders with ids {}..{} from PENDING to PROCESSING",
+      promoted, ids.size(), ids.get(0), ids.get(ids.size() - 1));
+    return promoted;
+  }
+
+  /**
+   * Result of promoting one chunk.
+   *
+   * @param lastId Highest id covered by the chunk, to continue the keyset walk from
+   * @param selected Number of PENDING orders found for the chunk
+   * @param promoted Number of orders actually moved to PROCESSING
+   */
+  public record PromotionChunk(long lastId, int selected, int promoted) {
+
+    static PromotionChunk empty(long afterId) {
+      return new PromotionChunk(afterId, 0, 0);
+    }
+
+    public boolean isEmpty() {
+      return selected == 0;
+    }
+  }
+}
@@ -1,11 +1,20 @@
 package com.ecommerce.service;
 
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.BatchUpdateOrderStatusRequest;
+import com.ecommerce.dto.BatchUpdateOrderStatusResponse;
 import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.CursorPage;
 import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.entity.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Service interface for Order operations.
  *
@@ -27,6 +36,36 @@ public interface OrderService {
    */
   OrderDTO createOrder(CreateOrderRequest request);
 
+  /**
+   * Validates a creation request and builds its order, leasing the order
+   * number, without opening a transaction.
+   *
+   * @param request Order creation request containing customer and item details
+   * @return Order ready to be saved with {@link #createOrder(PreparedOrder)}
+   * @throws com.ecommerce.exception.ValidationException if request validation fails
+   */
+  PreparedOrder prepareOrder(CreateOrderRequest request);
+
+  /**
+   * Saves an order built by {@link #prepareOrder} in the caller's transaction.
+   *
+   * @param order Prepared order, saved at most once
+   * @return Created order DTO
+   */
+  OrderDTO createOrder(PreparedOrder order);
+
+  /**
+   * Creates several orders in one call.
+   *
+   * The whole batch is validated first; valid orders are then persisted in
+   * chunked transactions. An order that fails validation or persistence is
+   * reported in its own result without affecting the other orders.
+   *
+   * @param requests Order creation requests
+   * @return Per-order results in submission order, with success and failure counts
+   */
+  BatchCreateOrderResponse createOrders(List<CreateOrderRequest> requests);
+
   /**
    * Retrieves an order by its unique ID.
    *
@@ -55,6 +94,21 @@ public interface OrderService {
    */
   void updateOrderStatus(Long orderId, OrderStatus status);
 
+  /**
+   * Moves many orders to a new status with the same transition rules as
+   * {@link #updateOrderStatus(Long, OrderStatus)}.
+   *
+   * Orders are locked, checked and updated with set-based statements in
+   * chunked transactions. An order that does not exist or cannot make the
+   * transition is reported in its own result and left unchanged.
+   *
+   * @param request Orders to update, by id or by current status, and the new status
+   * @return Per-order results with success and failure counts
+   * @throws com.ecommerce.exception.ValidationException if neither or both selections are given
+   * @throws com.ecommerce.exception.InvalidOrderStatusException if orders selected by status cannot make the transition
+   */
+  BatchUpdateOrderStatusResponse updateOrderStatuses(BatchUpdateOrderStatusRequest request);
+
   /**
    * Cancels an order. Only PENDING orders can be cancelled.
    *
@@ -64,6 +118,28 @@ public interface OrderService {
    */
   void cancelOrder(Long orderId);
 
+  /**
+   * Cancels the given orders that are still PENDING and have not changed
+   * since the given time, in one transaction. Other orders are left as they
+   * are, so the call is safe to repeat and to make from several instances.
+   *
+   * @param orderIds IDs of the orders to check
+   * @param unchangedSince Latest modification time of an order to cancel
+   * @return Number of orders cancelled
+   */
+  int cancelStaleOrders(Collection<Long> orderIds, LocalDateTime unchangedSince);
+
+  /**
+   * Flags the given orders that are still PROCESSING and have not changed
+   * since the given time as past their SLA, in one transaction. Orders
+   * already flagged and other orders are left as they are.
+   *
+   * @param orderIds IDs of the orders to check
+   * @param processingSince Latest time an order to flag may have started processing
+   * @return Number of orders flagged
+   */
+  int flagOverdueOrders(Collection<Long> orderIds, LocalDateTime processingSince);
+
   /**
    * Retrieves all orders with pagination.
    *
@@ -80,4 +156,26 @@ public interface OrderService {
    * @return Page of order DTOs matching the status
    */
   Page<OrderDTO> getAllOrdersByStatus(OrderStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * Retrieves order summaries, without items, with pagination.
+   *
+   * @param status Optional status filter; null for all orders
+   * @param pageable Pagination parameters
+   * @return Page of order summaries
+   */
+  Page<OrderSummaryDTO> getOrderSummaries(OrderStatus status, Pageable pageable);
+
+  /**
+   * Retrieves orders with keyset (cursor) pagination in (createdAt, id) order.
+   *
+   * Cost does not grow with the page depth and no total count is computed.
+   *
+   * @param status Optional status filter (null for all orders)
+   * @param after Opaque cursor returned with the previous page (null for the first page)
+   * @param size Maximum number of orders to return
+   * @return Page of order DTOs with the cursor of the next page
+   * @throws com.ecommerce.exception.ValidationException if the cursor or size is invalid
+   */
+  CursorPage<OrderDTO> getOrdersAfter(OrderStatus status, String after, int size);
+}
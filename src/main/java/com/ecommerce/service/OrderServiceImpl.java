@@ -1,26 +1,57 @@
 package com.ecommerce.service;
 
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.BatchOrderResult;
+import com.ecommerce.dto.BatchStatusResult;
+import com.ecommerce.dto.BatchUpdateOrderStatusRequest;
+import com.ecommerce.dto.BatchUpdateOrderStatusResponse;
 import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.CursorPage;
 import com.ecommerce.dto.OrderDTO;
-import com.ecommerce.dto.OrderItemDTO;
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.entity.Order;
 import com.ecommerce.entity.OrderItem;
 import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.BusinessException;
 import com.ecommerce.exception.InvalidOrderStatusException;
 import com.ecommerce.exception.OrderNotFoundException;
 import com.ecommerce.exception.ValidationException;
+import com.ecommerce.mapper.OrderMapper;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.outbox.OrderOutbox;
 import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.stream.OrderStatusBroadcaster;
+import com.ecommerce.util.OrderCursor;
 import com.ecommerce.util.OrderNumberGenerator;
-import org.modelmapper.ModelMapper;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,86 +60,199 @@ import java.util.stream.Collectors;
  * Provides business logic for order management with transaction support,
  * validation, and comprehensive logging.
  *
+ * Every change is recorded in the {@link OrderOutbox} in the transaction that
+ * makes it, which also streams it to {@link OrderStatusBroadcaster} subscribers.
+ * New orders are handed to the {@link OrderPromotionQueue} once they commit.
+ * With {@code order.group-commit.enabled}, orders created at the same time
+ * share a transaction through the {@link OrderGroupCommitter}.
+ *
+ * Every public method is timed as the {@code order.service} observation,
+ * tagged with the method name.
+ *
  * @author E-Commerce Development Team
  * @version 1.0.0
  * @since 2025-11-07
  */
 @Service
 @Transactional
+@Observed(name = "order.service")
 public class OrderServiceImpl implements OrderService {
 
   private static final Logger logger = LoggerFactory.getLogger(OrderServiceImpl.class);
 
-  private final OrderRepository orderRepository;
-  private final ModelMapper modelMapper;
+  private static final int MAX_CURSOR_PAGE_SIZE = 1000;
 
-  public OrderServiceImpl(OrderRepository orderRepository, ModelMapper modelMapper) {
+  private final OrderRepository orderRepository;
+  private final OrderMapper orderMapper;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final OrderProperties orderProperties;
+  private final OrderNumberGenerator orderNumberGenerator;
+  private final OrderCache orderCache;
+  private final OrderMetrics orderMetrics;
+  private final OrderOutbox orderOutbox;
+  private final OrderStatusBroadcaster orderStatusBroadcaster;
+  private final OrderPromotionQueue orderPromotionQueue;
+  private final OrderGroupCommitter orderGroupCommitter;
+
+  public OrderServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper, Validator validator,
+                          PlatformTransactionManager transactionManager, OrderProperties orderProperties,
+                          OrderNumberGenerator orderNumberGenerator, OrderCache orderCache,
+                          OrderMetrics orderMetrics, OrderOutbox orderOutbox,
+                          OrderStatusBroadcaster orderStatusBroadcaster,
+                          OrderPromotionQueue orderPromotionQueue) {
     this.orderRepository = orderRepository;
-    this.modelMapper = modelMapper;
+    this.orderMapper = orderMapper;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.orderProperties = orderProperties;
+    this.orderNumberGenerator = orderNumberGenerator;
+    this.orderCache = orderCache;
+    this.orderMetrics = orderMetrics;
+    this.orderOutbox = orderOutbox;
+    this.orderStatusBroadcaster = orderStatusBroadcaster;
+    this.orderPromotionQueue = orderPromotionQueue;
+    this.orderGroupCommitter = orderProperties.getGroupCommit().isEnabled()
+      ? new OrderGroupCommitter(orderProperties.getGroupCommit(), this::persistGroup, orderMetrics)
+      : null;
   }
 
+  @PreDestroy
+  public void shutdown() {
+    if (orderGroupCommitter != null) {
+      orderGroupCommitter.shutdown();
+    }
+  }
+
+  /**
+   * Joins the caller's transaction if there is one, such as the one storing
+   * an idempotency key, which must contain the order. Otherwise the order
+   * commits on its own, or with the orders created at the same time when
+   * group commit is enabled.
+   */
   @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
   public OrderDTO createOrder(CreateOrderRequest request) {
     logger.debug("Creating order for customer: {}", request.getCustomerName());
 
     // Validate request
     validateCreateOrderRequest(request);
 
-    // Generate unique order number
-    String orderNumber = OrderNumberGenerator.generateOrderNumber();
-    logger.debug("Generated order number: {}", orderNumber);
+    OrderDTO orderDTO;
+    if (orderGroupCommitter == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+      Order order = buildOrder(request);
+      logger.debug("Generated order number: {}", order.getOrderNumber());
+      orderDTO = transactionTemplate.execute(status -> persistOrder(order));
+      orderMetrics.ordersCreated(1);
+    } else {
+      orderDTO = orderGroupCommitter.submit(request);
+    }
+    logger.info("Order created successfully: {} for customer: {}",
+      orderDTO.getOrderNumber(), orderDTO.getCustomerName());
 
-    // Calculate total amount
-    BigDecimal totalAmount = calculateTotalAmount(request.getOrderItems());
+    return orderDTO;
+  }
 
-    // Create order entity
-    Order order = new Order(
-      orderNumber,
-      request.getCustomerName(),
-      request.getCustomerEmail(),
-      OrderStatus.PENDING,
-      totalAmount
-    );
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PreparedOrder prepareOrder(CreateOrderRequest request) {
+    validateCreateOrderRequest(request);
+    Order order = buildOrder(request);
+    logger.debug("Generated order number: {}", order.getOrderNumber());
+    return new PreparedOrder(order);
+  }
 
-    // Create and add order items
-    for (CreateOrderRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
-      OrderItem item = new OrderItem(
-        itemRequest.getProductId(),
-        itemRequest.getProductName(),
-        itemRequest.getQuantity(),
-        itemRequest.getPrice()
-      );
-      order.addOrderItem(item);
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public OrderDTO createOrder(PreparedOrder prepared) {
+    OrderDTO orderDTO = persistOrder(prepared.order());
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        orderMetrics.ordersCreated(1);
+      }
+    });
+    logger.info("Order created successfully: {} for customer: {}",
+      orderDTO.getOrderNumber(), orderDTO.getCustomerName());
+
+    return orderDTO;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public BatchCreateOrderResponse createOrders(List<CreateOrderRequest> requests) {
+    logger.debug("Creating batch of {} orders", requests.size());
+
+    BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+    List<Integer> accepted = new ArrayList<>(requests.size());
+
+    // Validate the whole batch up front so rejected orders never reach the database
+    for (int index = 0; index < requests.size(); index++) {
+      String error = validateBatchEntry(requests.get(index));
+      if (error != null) {
+        results[index] = BatchOrderResult.error(index, error);
+      } else {
+        accepted.add(index);
+      }
     }
 
-    // Save order
-    Order savedOrder = orderRepository.save(order);
-    logger.info("Order created successfully: {} for customer: {}",
-      savedOrder.getOrderNumber(), savedOrder.getCustomerName());
+    // Persist accepted orders in chunks, each in its own transaction
+    int chunkSize = Math.max(1, orderProperties.getBatch().getChunkSize());
+    for (int from = 0; from < accepted.size(); from += chunkSize) {
+      List<Integer> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+      persistChunk(requests, chunk, results);
+    }
 
-    return convertToDTO(savedOrder);
+    BatchCreateOrderResponse response = BatchCreateOrderResponse.of(Arrays.asList(results));
+    logger.info("Batch order creation completed: {} created, {} failed",
+      response.getSucceeded(), response.getFailed());
+    return response;
   }
 
+  /**
+   * Served from {@link OrderCache} when possible. Runs without a transaction of
+   * its own so that cache hits never acquire a database connection; on a miss
+   * the repository query runs in its own read-only transaction.
+   */
   @Override
-  @Transactional(readOnly = true)
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
   public OrderDTO getOrderById(Long orderId) {
     logger.debug("Fetching order by ID: {}", orderId);
 
-    Order order = orderRepository.findById(orderId)
+    OrderDTO cached = orderCache.getById(orderId);
+    if (cached != null) {
+      logger.debug("Order found in cache: {}", cached.getOrderNumber());
+      return cached;
+    }
+
+    OrderCache.LoadStamp stamp = orderCache.loadStamp();
+    Order order = orderRepository.findWithItemsById(orderId)
       .orElseThrow(() -> {
         logger.error("Order not found with ID: {}", orderId);
         return new OrderNotFoundException("Order not found with id: " + orderId);
       });
 
     logger.debug("Order found: {}", order.getOrderNumber());
-    return convertToDTO(order);
+    OrderDTO orderDTO = convertToDTO(order);
+    orderCache.put(orderDTO, stamp);
+    return orderDTO;
   }
 
+  /**
+   * Served from {@link OrderCache} when possible, like {@link #getOrderById(Long)}.
+   */
   @Override
-  @Transactional(readOnly = true)
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
   public OrderDTO getOrderByOrderNumber(String orderNumber) {
     logger.debug("Fetching order by order number: {}", orderNumber);
 
+    OrderDTO cached = orderCache.getByOrderNumber(orderNumber);
+    if (cached != null) {
+      logger.debug("Order found in cache: {}", cached.getOrderNumber());
+      return cached;
+    }
+
+    OrderCache.LoadStamp stamp = orderCache.loadStamp();
     Order order = orderRepository.findByOrderNumber(orderNumber)
       .orElseThrow(() -> {
         logger.error("Order not found with order number: {}", orderNumber);
@@ -116,53 +260,173 @@ public class OrderServiceImpl implements OrderService {
       });
 
     logger.debug("Order found: {}", order.getOrderNumber());
-    return convertToDTO(order);
+    OrderDTO orderDTO = convertToDTO(order);
+    orderCache.put(orderDTO, stamp);
+    return orderDTO;
   }
 
   @Override
   public void updateOrderStatus(Long orderId, OrderStatus newStatus) {
     logger.debug("Updating order status for order ID: {} to {}", orderId, newStatus);
 
-    Order order = orderRepository.findById(orderId)
-      .orElseThrow(() -> {
-        logger.error("Order not found with ID: {}", orderId);
-        return new OrderNotFoundException("Order not found with id: " + orderId);
-      });
+    // Single compare-and-set UPDATE; the order is only read when it fails
+    OrderStatus expectedStatus = previousStatus(newStatus);
+    int updated = expectedStatus == null ? 0 : orderRepository.updateStatusIfCurrent(
+      orderId, expectedStatus, newStatus, LocalDateTime.now());
+
+    if (updated == 0) {
+      OrderStatus currentStatus = orderRepository.findStatusById(orderId)
+        .orElseThrow(() -> {
+          logger.error("Order not found with ID: {}", orderId);
+          return new OrderNotFoundException("Order not found with id: " + orderId);
+        });
 
-    OrderStatus currentStatus = order.getStatus();
+      // Validate status transition
+      validateStatusTransition(currentStatus, newStatus);
 
-    // Validate status transition
-    validateStatusTransition(currentStatus, newStatus);
+      // Valid now, so the status changed between the UPDATE and the read
+      throw new InvalidOrderStatusException(
+        String.format("Status of order %d changed concurrently, it is now %s", orderId, currentStatus)
+      );
+    }
 
-    order.setStatus(newStatus);
-    orderRepository.save(order);
+    orderOutbox.statusChanged(List.of(orderId), expectedStatus, newStatus);
+    orderCache.evictAfterCompletion(orderId);
+    orderMetrics.statusChanged(expectedStatus, newStatus, 1);
 
-    logger.info("Order {} status updated from {} to {}",
-      order.getOrderNumber(), currentStatus, newStatus);
+    logger.info("Order {} status updated from {} to {}", orderId, expectedStatus, newStatus);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public BatchUpdateOrderStatusResponse updateOrderStatuses(BatchUpdateOrderStatusRequest request) {
+    OrderStatus newStatus = request.getStatus();
+    List<Long> orderIds = request.getOrderIds();
+    boolean byId = orderIds != null && !orderIds.isEmpty();
+    if (byId == (request.getCurrentStatus() != null)) {
+      throw new ValidationException("Either orderIds or currentStatus must be given");
+    }
+
+    int chunkSize = Math.max(1, orderProperties.getBatch().getStatusChunkSize());
+    List<BatchStatusResult> results = new ArrayList<>();
+
+    if (byId) {
+      Set<Long> uniqueIds = new LinkedHashSet<>(orderIds);
+      if (uniqueIds.contains(null)) {
+        throw new ValidationException("Order ids must not be null");
+      }
+      logger.debug("Updating status of {} orders to {}", uniqueIds.size(), newStatus);
+
+      List<Long> distinctIds = new ArrayList<>(uniqueIds);
+      for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+        List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+        results.addAll(updateStatusChunk(chunk, newStatus));
+      }
+    } else {
+      OrderStatus currentStatus = request.getCurrentStatus();
+      int limit = request.getLimit() != null ? request.getLimit() : BatchUpdateOrderStatusRequest.MAX_ORDERS;
+      logger.debug("Updating status of up to {} {} orders to {}", limit, currentStatus, newStatus);
+
+      // None of the selected orders could make any other transition
+      validateStatusTransition(currentStatus, newStatus);
+
+      long afterId = 0L;
+      while (results.size() < limit) {
+        List<Long> chunk = orderRepository.findIdsByStatusAfter(
+          currentStatus, afterId, PageRequest.of(0, Math.min(chunkSize, limit - results.size())));
+        if (chunk.isEmpty()) {
+          break;
+        }
+        results.addAll(updateStatusChunk(chunk, newStatus));
+        afterId = chunk.get(chunk.size() - 1);
+      }
+    }
+
+    BatchUpdateOrderStatusResponse response = BatchUpdateOrderStatusResponse.of(newStatus, results);
+    logger.info("Batch status update to {} completed: {} updated, {} failed",
+      newStatus, response.getSucceeded(), response.getFailed());
+    return response;
   }
 
   @Override
   public void cancelOrder(Long orderId) {
     logger.debug("Cancelling order with ID: {}", orderId);
 
-    Order order = orderRepository.findById(orderId)
-      .orElseThrow(() -> {
-        logger.error("Order not found with ID: {}", orderId);
-        return new OrderNotFoundException("Order not found with id: " + orderId);
-      });
+    // Stream subscribers filtering by customer cannot look the order up once it is gone
+    String customerEmail = orderStatusBroadcaster.hasSubscribers()
+      ? orderRepository.findCustomerEmailById(orderId).orElse(null)
+      : null;
+
+    // Only PENDING orders can be cancelled; the database removes the items
+    int deleted = orderRepository.deleteByIdAndStatus(orderId, OrderStatus.PENDING);
 
-    // Only PENDING orders can be cancelled
-    if (order.getStatus() != OrderStatus.PENDING) {
-      logger.error("Cannot cancel order {} with status: {}",
-        order.getOrderNumber(), order.getStatus());
+    if (deleted == 0) {
+      OrderStatus currentStatus = orderRepository.findStatusById(orderId)
+        .orElseThrow(() -> {
+          logger.error("Order not found with ID: {}", orderId);
+          return new OrderNotFoundException("Order not found with id: " + orderId);
+        });
+
+      logger.error("Cannot cancel order {} with status: {}", orderId, currentStatus);
       throw new InvalidOrderStatusException(
-        "Cannot cancel order. Only PENDING orders can be cancelled. Current status: " +
-          order.getStatus()
+        "Cannot cancel order. Only PENDING orders can be cancelled. Current status: " + currentStatus
       );
     }
 
-    orderRepository.delete(order);
-    logger.info("Order {} cancelled successfully", order.getOrderNumber());
+    orderOutbox.orderCancelled(orderId, OrderStatus.PENDING, customerEmail);
+    orderCache.evictAfterCompletion(orderId);
+    orderMetrics.orderCancelled();
+
+    logger.info("Order {} cancelled successfully", orderId);
+  }
+
+  @Override
+  public int cancelStaleOrders(Collection<Long> orderIds, LocalDateTime unchangedSince) {
+    if (orderIds.isEmpty()) {
+      return 0;
+    }
+    List<Long> stale = orderRepository.claimUnchangedIdsByStatusIn(
+      OrderStatus.PENDING.name(), orderIds, unchangedSince);
+    if (stale.isEmpty()) {
+      return 0;
+    }
+
+    // Stream subscribers filtering by customer cannot look the orders up once they are gone
+    Map<Long, String> customerEmails = new HashMap<>();
+    if (orderStatusBroadcaster.hasSubscribers()) {
+      for (OrderRepository.EmailRow row : orderRepository.findCustomerEmailsByIdIn(stale)) {
+        customerEmails.put(row.id(), row.customerEmail());
+      }
+    }
+
+    // The rows are locked, so every claimed order is still PENDING
+    orderRepository.deleteByIdIn(stale);
+    orderOutbox.ordersCancelled(stale, OrderStatus.PENDING, customerEmails);
+    orderCache.evictAfterCompletion(stale);
+    orderMetrics.staleOrdersCancelled(stale.size());
+
+    logger.info("Cancelled {} PENDING orders unchanged since {}", stale.size(), unchangedSince);
+    return stale.size();
+  }
+
+  @Override
+  public int flagOverdueOrders(Collection<Long> orderIds, LocalDateTime processingSince) {
+    if (orderIds.isEmpty()) {
+      return 0;
+    }
+    List<Long> overdue = orderRepository.claimUnchangedIdsByStatusIn(
+      OrderStatus.PROCESSING.name(), orderIds, processingSince);
+    if (overdue.isEmpty()) {
+      return 0;
+    }
+
+    orderRepository.markSlaBreached(overdue, LocalDateTime.now());
+    orderOutbox.slaBreached(overdue);
+    orderCache.evictAfterCompletion(overdue);
+    orderMetrics.slaBreached(overdue.size());
+
+    logger.warn("{} orders PROCESSING since before {} are past their SLA", overdue.size(), processingSince);
+    return overdue.size();
   }
 
   @Override
@@ -174,7 +438,7 @@ public class OrderServiceImpl implements OrderService {
     Page<Order> orders = orderRepository.findAll(pageable);
     logger.debug("Found {} orders", orders.getTotalElements());
 
-    return orders.map(this::convertToDTO);
+    return toDTOPage(orders);
   }
 
   @Override
@@ -186,7 +450,254 @@ public class OrderServiceImpl implements OrderService {
     Page<Order> orders = orderRepository.findAllByStatus(status, pageable);
     logger.debug("Found {} orders with status: {}", orders.getTotalElements(), status);
 
-    return orders.map(this::convertToDTO);
+    return toDTOPage(orders);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<OrderSummaryDTO> getOrderSummaries(OrderStatus status, Pageable pageable) {
+    logger.debug("Fetching order summaries with status: {} and pagination: page={}, size={}",
+      status, pageable.getPageNumber(), pageable.getPageSize());
+
+    Page<OrderSummaryDTO> summaries = status == null
+      ? orderRepository.findAllSummaries(pageable)
+      : orderRepository.findAllSummariesByStatus(status, pageable);
+    logger.debug("Found {} order summaries", summaries.getTotalElements());
+
+    return summaries;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<OrderDTO> getOrdersAfter(OrderStatus status, String after, int size) {
+    logger.debug("Fetching orders with status: {} after cursor: {} size: {}", status, after, size);
+
+    if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+      throw new ValidationException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // Fetch one extra row to learn whether another page exists without counting
+    PageRequest limit = PageRequest.of(0, size + 1);
+    List<Order> orders;
+    if (after == null || after.isBlank()) {
+      orders = status == null
+        ? orderRepository.findFirstKeysetPage(limit)
+        : orderRepository.findFirstKeysetPageByStatus(status, limit);
+    } else {
+      OrderCursor cursor = OrderCursor.decode(after);
+      orders = status == null
+        ? orderRepository.findKeysetPageAfter(cursor.createdAt(), cursor.id(), limit)
+        : orderRepository.findKeysetPageByStatusAfter(status, cursor.createdAt(), cursor.id(), limit);
+    }
+
+    boolean hasNext = orders.size() > size;
+    List<Order> pageOrders = hasNext ? orders.subList(0, size) : orders;
+    String nextCursor = null;
+    if (hasNext) {
+      Order last = pageOrders.get(pageOrders.size() - 1);
+      nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    List<OrderDTO> content = convertAllToDTO(pageOrders);
+    logger.debug("Found {} orders, hasNext: {}", content.size(), hasNext);
+
+    return new CursorPage<>(content, size, nextCursor, hasNext);
+  }
+
+  /**
+   * Persists one chunk of a batch in a single transaction.
+   *
+   * If the chunk cannot be committed, its orders are retried one by one so that
+   * a single bad order only fails itself.
+   */
+  private void persistChunk(List<CreateOrderRequest> requests, List<Integer> chunk,
+                            BatchOrderResult[] results) {
+    List<CreateOrderRequest> chunkRequests = new ArrayList<>(chunk.size());
+    for (Integer index : chunk) {
+      chunkRequests.add(requests.get(index));
+    }
+
+    try {
+      List<OrderDTO> created = persistGroup(chunkRequests);
+      for (int i = 0; i < chunk.size(); i++) {
+        results[chunk.get(i)] = BatchOrderResult.success(chunk.get(i), created.get(i));
+      }
+    } catch (RuntimeException ex) {
+      if (chunk.size() == 1) {
+        Integer index = chunk.get(0);
+        logger.error("Failed to create order at batch index {}: {}", index, ex.getMessage());
+        results[index] = BatchOrderResult.error(index, describeFailure(ex));
+        return;
+      }
+
+      logger.warn("Batch chunk of {} orders failed, retrying individually: {}", chunk.size(), ex.getMessage());
+      for (Integer index : chunk) {
+        persistChunk(requests, List.of(index), results);
+      }
+    }
+  }
+
+  /**
+   * Moves one chunk of orders to the new status in its own transaction: one
+   * statement locks the rows and reads their status, one updates every order
+   * that may make the transition.
+   */
+  private List<BatchStatusResult> updateStatusChunk(List<Long> ids, OrderStatus newStatus) {
+    List<Long> updatable = new ArrayList<>(ids.size());
+    List<BatchStatusResult> results = transactionTemplate.execute(status -> {
+      Map<Long, OrderStatus> currentStatuses = new HashMap<>();
+      Map<Long, String> customerEmails = new HashMap<>();
+      for (OrderRepository.StatusRow row : orderRepository.lockStatusesByIdIn(ids)) {
+        currentStatuses.put(row.id(), row.status());
+        customerEmails.put(row.id(), row.customerEmail());
+      }
+
+      List<BatchStatusResult> chunkResults = new ArrayList<>(ids.size());
+      for (Long id : ids) {
+        OrderStatus currentStatus = currentStatuses.get(id);
+        if (currentStatus == null) {
+          chunkResults.add(BatchStatusResult.error(id, "Order not found with id: " + id));
+        } else if (!isValidTransition(currentStatus, newStatus)) {
+          chunkResults.add(BatchStatusResult.error(id, invalidTransitionMessage(currentStatus, newStatus)));
+        } else {
+          updatable.add(id);
+          chunkResults.add(BatchStatusResult.success(id));
+        }
+      }
+
+      if (!updatable.isEmpty()) {
+        // The rows are locked, so every updatable order is still in the expected status
+        orderRepository.updateStatusByIds(updatable, previousStatus(newStatus), newStatus, LocalDateTime.now());
+        orderOutbox.statusChanged(updatable, previousStatus(newStatus), newStatus, customerEmails);
+        orderCache.evictAfterCompletion(updatable);
+      }
+      return chunkResults;
+    });
+
+    if (!updatable.isEmpty()) {
+      orderMetrics.statusChanged(previousStatus(newStatus), newStatus, updatable.size());
+    }
+    return results;
+  }
+
+  /**
+   * Saves a single new order in the current transaction.
+   */
+  private OrderDTO persistOrder(Order order) {
+    Order savedOrder = orderRepository.save(order);
+    OrderDTO orderDTO = convertToDTO(savedOrder);
+    orderOutbox.ordersCreated(List.of(orderDTO));
+    orderPromotionQueue.enqueueAfterCommit(List.of(savedOrder.getId()));
+    return orderDTO;
+  }
+
+  /**
+   * Saves a group of new orders in one transaction of their own, used for
+   * batch chunks and by the {@link OrderGroupCommitter}.
+   *
+   * @return Created orders in request order
+   */
+  private List<OrderDTO> persistGroup(List<CreateOrderRequest> requests) {
+    List<Order> orders = new ArrayList<>(requests.size());
+    for (CreateOrderRequest request : requests) {
+      orders.add(buildOrder(request));
+    }
+
+    List<OrderDTO> created = transactionTemplate.execute(status -> persistOrders(orders));
+    orderMetrics.ordersCreated(created.size());
+    return created;
+  }
+
+  /**
+   * Saves new orders in the current transaction, flushing them as JDBC
+   * batches.
+   */
+  private List<OrderDTO> persistOrders(List<Order> orders) {
+    List<Order> savedOrders = orderRepository.saveAll(orders);
+    orderRepository.flush();
+
+    List<OrderDTO> dtos = new ArrayList<>(savedOrders.size());
+    List<Long> ids = new ArrayList<>(savedOrders.size());
+    for (Order savedOrder : savedOrders) {
+      dtos.add(convertToDTO(savedOrder));
+      ids.add(savedOrder.getId());
+    }
+    orderOutbox.ordersCreated(dtos);
+    orderPromotionQueue.enqueueAfterCommit(ids);
+    return dtos;
+  }
+
+  /**
+   * Validates a single batch entry.
+   *
+   * @return Error message, or null if the entry is valid
+   */
+  private String validateBatchEntry(CreateOrderRequest request) {
+    if (request == null) {
+      return "Order request must not be null";
+    }
+
+    Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+    }
+
+    try {
+      validateCreateOrderRequest(request);
+      return null;
+    } catch (ValidationException ex) {
+      return ex.getMessage();
+    }
+  }
+
+  /**
+   * Converts a persistence failure into a message that is safe to return to clients.
+   */
+  private String describeFailure(RuntimeException ex) {
+    if (ex instanceof BusinessException) {
+      return ex.getMessage();
+    }
+    return "Order could not be persisted";
+  }
+
+  /**
+   * Builds a new PENDING order entity with its items from a creation request.
+   *
+   * Called before the transaction that saves the order is opened: leasing a
+   * new block of order numbers takes a connection of its own, and callers
+   * holding connections while they wait for that lease can use up the pool.
+   */
+  private Order buildOrder(CreateOrderRequest request) {
+    // Generate unique order number
+    String orderNumber = orderNumberGenerator.generateOrderNumber();
+
+    // Calculate total amount
+    BigDecimal totalAmount = calculateTotalAmount(request.getOrderItems());
+
+    // Create order entity
+    Order order = new Order(
+      orderNumber,
+      request.getCustomerName(),
+      request.getCustomerEmail(),
+      OrderStatus.PENDING,
+      totalAmount
+    );
+
+    // Create and add order items
+    for (CreateOrderRequest.OrderItemRequest itemRequest : request.getOrderItems()) {
+      OrderItem item = new OrderItem(
+        itemRequest.getProductId(),
+        itemRequest.getProductName(),
+        itemRequest.getQuantity(),
+        itemRequest.getPrice()
+      );
+      order.addOrderItem(item);
+    }
+
+    return order;
   }
 
   /**
@@ -209,43 +720,88 @@ public class OrderServiceImpl implements OrderService {
 
   /**
    * Calculates total amount from order items.
+   * Package-private so the benchmarks can measure it in isolation.
    */
-  private BigDecimal calculateTotalAmount(List<CreateOrderRequest.OrderItemRequest> items) {
+  static BigDecimal calculateTotalAmount(List<CreateOrderRequest.OrderItemRequest> items) {
     return items.stream()
       .map(item -> item.getPrice().multiply(new BigDecimal(item.getQuantity())))
       .reduce(BigDecimal.ZERO, BigDecimal::add);
   }
 
+  /**
+   * The only status from which an order may move to the given status, or null
+   * if no transition leads to it.
+   */
+  private OrderStatus previousStatus(OrderStatus newStatus) {
+    return switch (newStatus) {
+      case PENDING -> null;
+      case PROCESSING -> OrderStatus.PENDING;
+      case SHIPPED -> OrderStatus.PROCESSING;
+      case DELIVERED -> OrderStatus.SHIPPED;
+    };
+  }
+
   /**
    * Validates order status transition.
    */
   private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
-    boolean isValidTransition = switch (currentStatus) {
+    if (!isValidTransition(currentStatus, newStatus)) {
+      throw new InvalidOrderStatusException(invalidTransitionMessage(currentStatus, newStatus));
+    }
+  }
+
+  private boolean isValidTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+    return switch (currentStatus) {
       case PENDING -> newStatus == OrderStatus.PROCESSING;
       case PROCESSING -> newStatus == OrderStatus.SHIPPED;
       case SHIPPED -> newStatus == OrderStatus.DELIVERED;
       case DELIVERED -> false;
     };
+  }
 
-    if (!isValidTransition) {
-      throw new InvalidOrderStatusException(
-        String.format("Invalid status transition from %s to %s", currentStatus, newStatus)
-      );
+  private static String invalidTransitionMessage(OrderStatus currentStatus, OrderStatus newStatus) {
+    return String.format("Invalid status transition from %s to %s", currentStatus, newStatus);
+  }
+
+  /**
+   * Converts a page of orders, loading the items of all orders on the page
+   * with one query instead of one query per order.
+   */
+  private Page<OrderDTO> toDTOPage(Page<Order> orders) {
+    List<OrderDTO> content = convertAllToDTO(orders.getContent());
+    return new PageImpl<>(content, orders.getPageable(), orders.getTotalElements());
+  }
+
+  /**
+   * Converts orders to DTOs, preserving their order. The items of all orders are
+   * fetched in a single query (second phase after the orders were selected).
+   */
+  private List<OrderDTO> convertAllToDTO(List<Order> orders) {
+    if (orders.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<Long> ids = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      ids.add(order.getId());
+    }
+
+    Map<Long, Order> withItems = new HashMap<>();
+    for (Order order : orderRepository.findAllWithItemsByIdIn(ids)) {
+      withItems.put(order.getId(), order);
     }
+
+    List<OrderDTO> dtos = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      dtos.add(convertToDTO(withItems.getOrDefault(order.getId(), order)));
+    }
+    return dtos;
   }
 
   /**
    * Converts Order entity to OrderDTO.
    */
   private OrderDTO convertToDTO(Order order) {
-    OrderDTO dto = modelMapper.map(order, OrderDTO.class);
-
-    // Map order items
-    List<OrderItemDTO> itemDTOs = order.getOrderItems().stream()
-      .map(item -> modelMapper.map(item, OrderItemDTO.class))
-      .collect(Collectors.toList());
-    dto.setOrderItems(itemDTOs);
-
-    return dto;
+    return orderMapper.toDTO(order);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.service;
+
+import com.ecommerce.entity.Order;
+
+/**
+ * A validated order that has its order number but has not been saved yet.
+ *
+ * Returned by {@link OrderService#prepareOrder} so that callers which save
+ * the order inside a transaction of their own can lease the order number
+ * before opening it.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public final class PreparedOrder {
+
+  private final Order order;
+
+  PreparedOrder(Order order) {
+    this.order = order;
+  }
+
+  public String getOrderNumber() {
+    return order.getOrderNumber();
+  }
+
+  Order order() {
+    return order;
+  }
+}
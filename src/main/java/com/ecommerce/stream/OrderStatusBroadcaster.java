@@ -0,0 +1,582 @@
+package com.ecommerce.stream;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.outbox.OrderChangeEvent;
+import com.ecommerce.outbox.OrderEventType;
+import com.ecommerce.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed order changes out to Server-Sent Events subscribers.
+ *
+ * Changes are handed over after their transaction commits and queued for a
+ * lookup thread and then a single dispatcher thread, so request and scheduler
+ * threads never wait for subscribers and the dispatcher never waits for the
+ * database. The dispatcher numbers the events, keeps the most recent ones for
+ * clients resuming with {@code Last-Event-ID}, and copies each event into the
+ * bounded buffer of every matching subscriber. A small pool of writer threads
+ * empties the buffers into the connections; idle subscribers hold a
+ * connection but no thread.
+ *
+ * A subscriber whose buffer is full is disconnected rather than slowing down
+ * the others; it can reconnect and resume. So is a subscriber whose write
+ * blocks for longer than {@code order.stream.write-timeout}: a watchdog
+ * disconnects it and adds a writer thread until the blocked one returns, so
+ * clients that stop reading cannot take every writer. When events could not be kept
+ * (the dispatch queue overflowed, or a client resumes from an event that is
+ * no longer kept or from before a restart) subscribers get a {@code resync}
+ * event and should reload the orders they show.
+ *
+ * Events carry the customer email when the code that made the change had it
+ * at hand. The others only get it looked up, on the lookup thread, while
+ * someone subscribes by customer email, and when such a subscriber resumes
+ * from events kept without one.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderStatusBroadcaster {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderStatusBroadcaster.class);
+
+  private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+  private static final Object HEARTBEAT = new Object();
+  private static final Object RESYNC = new Object();
+
+  // Send start times of a subscriber that is not writing, and of one disconnected while writing
+  private static final long SEND_IDLE = Long.MIN_VALUE;
+  private static final long SEND_STALLED = Long.MAX_VALUE;
+
+  private final OrderRepository orderRepository;
+  private final int bufferSize;
+  private final int replaySize;
+  private final long timeoutMillis;
+  private final long writeTimeoutNanos;
+  private final ThreadPoolExecutor lookups;
+  private final ThreadPoolExecutor dispatcher;
+  private final ThreadPoolExecutor writers;
+  private final ScheduledExecutorService watchdog;
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  // Subscribers a writer is draining, watched for stalled writes even once disconnected
+  private final Set<Subscriber> writing = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger emailSubscribers = new AtomicInteger();
+  private final AtomicBoolean eventsDropped = new AtomicBoolean();
+
+  // Only used by the dispatcher thread
+  private final ArrayDeque<OrderStatusEvent> replay = new ArrayDeque<>();
+  private long lastEventId;
+
+  public OrderStatusBroadcaster(OrderRepository orderRepository, OrderProperties orderProperties) {
+    OrderProperties.Stream stream = orderProperties.getStream();
+    this.orderRepository = orderRepository;
+    this.bufferSize = Math.max(1, stream.getBufferSize());
+    this.replaySize = Math.max(0, stream.getReplaySize());
+    this.timeoutMillis = stream.getTimeout().toMillis();
+    this.writeTimeoutNanos = stream.getWriteTimeout().toNanos();
+    this.lookups = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, stream.getDispatchQueueSize())), daemonThreads("order-stream-lookup-"));
+    this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, stream.getDispatchQueueSize())), daemonThreads("order-stream-dispatcher-"));
+    int writerThreads = Math.max(1, stream.getWriterThreads());
+    this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(), daemonThreads("order-stream-writer-"));
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("order-stream-watchdog-"));
+    long checkMillis = Math.max(10, stream.getWriteTimeout().toMillis() / 2);
+    watchdog.scheduleWithFixedDelay(this::disconnectStalledSubscribers, checkMillis, checkMillis,
+      TimeUnit.MILLISECONDS);
+    // Ids of earlier runs stay below ours, so their clients are told to resync
+    this.lastEventId = System.currentTimeMillis() * 1000;
+  }
+
+  /**
+   * Opens a subscription.
+   *
+   * @param filter Events to send
+   * @param lastEventId Id of the last event the client received, or null for new events only
+   * @return Emitter to return from the controller
+   */
+  public SseEmitter subscribe(OrderStreamFilter filter, Long lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(emitter, filter);
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(ex -> subscriber.close());
+
+    try {
+      if (filter.customerEmail() == null) {
+        dispatcher.execute(() -> register(subscriber, lastEventId));
+      } else {
+        // Counted on the lookup thread, so every event dispatched after the
+        // registration was looked up or is in the replay it resumes from
+        lookups.execute(() -> {
+          subscriber.countByEmail();
+          try {
+            dispatcher.execute(() -> register(subscriber, lastEventId));
+          } catch (RejectedExecutionException ex) {
+            refuse(subscriber);
+          }
+        });
+      }
+    } catch (RejectedExecutionException ex) {
+      refuse(subscriber);
+    }
+    return emitter;
+  }
+
+  /**
+   * Sends a recorded order change to subscribers once its transaction
+   * commits, or right away without a transaction. Changes of a rolled back
+   * transaction are never sent.
+   *
+   * @param change Change recorded by the outbox
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrderChange(OrderChangeEvent change) {
+    if (change.orderIds().isEmpty()) {
+      return;
+    }
+    List<OrderStatusEvent> events = new ArrayList<>(change.orderIds().size());
+    for (Long orderId : change.orderIds()) {
+      events.add(new OrderStatusEvent(0L, change.type(), orderId, change.customerEmails().get(orderId),
+        change.previousStatus(), change.status(), change.occurredAt()));
+    }
+    publish(events);
+  }
+
+  /**
+   * Sends a comment to every subscriber, which keeps proxies from closing
+   * idle connections and detects clients that went away.
+   */
+  public void heartbeat() {
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.buffer.offer(HEARTBEAT)) {
+        subscriber.scheduleDrain();
+      }
+    }
+  }
+
+  /**
+   * @return Whether anyone is subscribed
+   */
+  public boolean hasSubscribers() {
+    return !subscribers.isEmpty();
+  }
+
+  /**
+   * @return Number of open subscriptions
+   */
+  public int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    watchdog.shutdownNow();
+    lookups.shutdownNow();
+    dispatcher.shutdownNow();
+    for (Subscriber subscriber : subscribers) {
+      subscriber.close();
+      subscriber.emitter.complete();
+    }
+    writers.shutdownNow();
+  }
+
+  private void refuse(Subscriber subscriber) {
+    logger.warn("Order status stream is overloaded, refusing subscription");
+    subscriber.close();
+    subscriber.emitter.complete();
+  }
+
+  private void publish(List<OrderStatusEvent> events) {
+    try {
+      lookups.execute(() -> lookUpAndDispatch(events));
+    } catch (RejectedExecutionException ex) {
+      dropped(events.size());
+    }
+  }
+
+  /**
+   * Runs on the lookup thread, which hands events to the dispatcher in the
+   * order they were published.
+   */
+  private void lookUpAndDispatch(List<OrderStatusEvent> events) {
+    List<OrderStatusEvent> resolved = emailSubscribers.get() > 0 ? withCustomerEmails(events) : events;
+    try {
+      dispatcher.execute(() -> dispatch(resolved));
+    } catch (RejectedExecutionException ex) {
+      dropped(resolved.size());
+    }
+  }
+
+  private void dropped(int count) {
+    eventsDropped.set(true);
+    logger.warn("Order status stream is falling behind, dropped {} events", count);
+  }
+
+  private void dispatch(List<OrderStatusEvent> events) {
+    if (eventsDropped.getAndSet(false)) {
+      for (Subscriber subscriber : subscribers) {
+        subscriber.offer(RESYNC);
+      }
+    }
+
+    for (OrderStatusEvent event : events) {
+      OrderStatusEvent numbered = event.withId(++lastEventId);
+      replay.addLast(numbered);
+      if (replay.size() > replaySize) {
+        replay.removeFirst();
+      }
+      for (Subscriber subscriber : subscribers) {
+        if (subscriber.filter.matches(numbered)) {
+          subscriber.offer(numbered);
+        }
+      }
+    }
+  }
+
+  /**
+   * Replays the events the client missed, then starts sending new ones. Runs
+   * on the dispatcher thread, so no event is sent twice or skipped in between.
+   */
+  private void register(Subscriber subscriber, Long resumeAfter) {
+    if (resumeAfter != null) {
+      long oldestKept = replay.isEmpty() ? lastEventId + 1 : replay.peekFirst().id();
+      if (resumeAfter < oldestKept - 1 || resumeAfter > lastEventId) {
+        subscriber.offer(RESYNC);
+      } else {
+        List<OrderStatusEvent> missed = new ArrayList<>();
+        for (Iterator<OrderStatusEvent> it = replay.descendingIterator(); it.hasNext(); ) {
+          OrderStatusEvent event = it.next();
+          if (event.id() <= resumeAfter) {
+            break;
+          }
+          missed.add(event);
+        }
+        Collections.reverse(missed);
+        if (subscriber.filter.customerEmail() != null) {
+          // Kept while nobody subscribed by customer email: new events wait in
+          // the buffer until the missed ones have been looked up and sent
+          subscriber.hold();
+          List<OrderStatusEvent> kept = missed;
+          try {
+            lookups.execute(() -> subscriber.release(withCustomerEmails(kept)));
+          } catch (RejectedExecutionException ex) {
+            subscriber.release(null);
+          }
+        } else {
+          for (OrderStatusEvent event : missed) {
+            if (subscriber.filter.matches(event) && !subscriber.offer(event)) {
+              return;
+            }
+          }
+        }
+      }
+    }
+
+    subscribers.add(subscriber);
+    if (subscriber.closed) {
+      // Completed while waiting for the dispatcher
+      subscriber.close();
+    }
+  }
+
+  /**
+   * Fills in the customer email of events that were recorded without one,
+   * with one query per chunk of orders. Cancelled orders are gone and keep
+   * the email they were recorded with.
+   */
+  private List<OrderStatusEvent> withCustomerEmails(List<OrderStatusEvent> events) {
+    List<Long> missing = new ArrayList<>();
+    for (OrderStatusEvent event : events) {
+      if (event.customerEmail() == null && event.orderId() != null
+        && event.type() != OrderEventType.ORDER_CANCELLED) {
+        missing.add(event.orderId());
+      }
+    }
+    if (missing.isEmpty()) {
+      return events;
+    }
+
+    Map<Long, String> emails = new HashMap<>();
+    try {
+      for (int from = 0; from < missing.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+        List<Long> chunk = missing.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, missing.size()));
+        for (OrderRepository.EmailRow row : orderRepository.findCustomerEmailsByIdIn(chunk)) {
+          emails.put(row.id(), row.customerEmail());
+        }
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Could not look up customer emails for order events: {}", ex.getMessage());
+    }
+
+    List<OrderStatusEvent> resolved = new ArrayList<>(events.size());
+    for (OrderStatusEvent event : events) {
+      String email = event.customerEmail() == null ? emails.get(event.orderId()) : null;
+      resolved.add(email == null ? event : event.withCustomerEmail(email));
+    }
+    return resolved;
+  }
+
+  /**
+   * Disconnects subscribers whose current write has been blocked for longer
+   * than the write timeout, and adds a writer for each blocked one.
+   */
+  private void disconnectStalledSubscribers() {
+    long now = System.nanoTime();
+    for (Subscriber subscriber : writing) {
+      long startedAt = subscriber.sendStartedAt.get();
+      if (startedAt != SEND_IDLE && startedAt != SEND_STALLED && now - startedAt > writeTimeoutNanos
+        && subscriber.sendStartedAt.compareAndSet(startedAt, SEND_STALLED)) {
+        logger.info("Disconnecting order stream subscriber {} whose write blocked for over {} ms",
+          subscriber.filter, TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos));
+        subscriber.close();
+        resizeWriters(1);
+      }
+    }
+  }
+
+  /**
+   * Grows the writer pool by one for each writer blocked in a stalled write,
+   * and shrinks it again once the write returns.
+   */
+  private void resizeWriters(int delta) {
+    synchronized (writers) {
+      if (delta > 0) {
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() + delta);
+        writers.setCorePoolSize(writers.getCorePoolSize() + delta);
+      } else {
+        writers.setCorePoolSize(writers.getCorePoolSize() + delta);
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() + delta);
+      }
+    }
+  }
+
+  private static CustomizableThreadFactory daemonThreads(String prefix) {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  /**
+   * One open connection with its buffer of events not written yet.
+   */
+  private final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final OrderStreamFilter filter;
+    // Bounded but not preallocated, so idle subscribers stay small
+    private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>(bufferSize);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean countedByEmail = new AtomicBoolean();
+    private final AtomicLong sendStartedAt = new AtomicLong(SEND_IDLE);
+    // Missed events sent before the buffer once they have been looked up
+    private volatile List<Object> replayed;
+    private volatile boolean held;
+    private volatile boolean closed;
+
+    private Subscriber(SseEmitter emitter, OrderStreamFilter filter) {
+      this.emitter = emitter;
+      this.filter = filter;
+    }
+
+    /**
+     * Queues an event, disconnecting the subscriber if its buffer is full.
+     *
+     * @return Whether the subscriber is still connected
+     */
+    private boolean offer(Object item) {
+      if (closed) {
+        return false;
+      }
+      if (!buffer.offer(item)) {
+        logger.info("Disconnecting order stream subscriber {} that fell {} events behind", filter, bufferSize);
+        close();
+        completeLater();
+        return false;
+      }
+      scheduleDrain();
+      return true;
+    }
+
+    private void countByEmail() {
+      if (!closed && countedByEmail.compareAndSet(false, true)) {
+        emailSubscribers.incrementAndGet();
+      }
+    }
+
+    /**
+     * Keeps new events in the buffer until {@link #release} supplies the
+     * missed events to send first.
+     */
+    private void hold() {
+      held = true;
+    }
+
+    /**
+     * Sends the missed events, then the buffer.
+     *
+     * @param missed Missed events with their customer emails, or null if they could not be looked up
+     */
+    private void release(List<OrderStatusEvent> missed) {
+      List<Object> items = new ArrayList<>();
+      if (missed == null) {
+        items.add(RESYNC);
+      } else {
+        for (OrderStatusEvent event : missed) {
+          if (filter.matches(event)) {
+            items.add(event);
+          }
+        }
+      }
+      if (items.size() > bufferSize) {
+        logger.info("Disconnecting order stream subscriber {} that fell {} events behind", filter, bufferSize);
+        close();
+        completeLater();
+        return;
+      }
+      replayed = items;
+      held = false;
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        try {
+          writers.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+          draining.set(false);
+        }
+      }
+    }
+
+    private void drain() {
+      writing.add(this);
+      try {
+        if (held) {
+          return;
+        }
+        List<Object> missed = replayed;
+        if (missed != null) {
+          replayed = null;
+          for (Object item : missed) {
+            if (closed) {
+              return;
+            }
+            send(item);
+          }
+        }
+        Object item;
+        while (!closed && (item = buffer.poll()) != null) {
+          send(item);
+        }
+      } catch (Exception ex) {
+        // The client went away or the emitter was completed
+        logger.debug("Order stream subscriber {} disconnected: {}", filter, ex.getMessage());
+        close();
+      } finally {
+        writing.remove(this);
+        draining.set(false);
+      }
+      if (closed) {
+        // Disconnected while a write was under way, see completeLater
+        complete();
+      } else if (!held && (replayed != null || !buffer.isEmpty())) {
+        scheduleDrain();
+      }
+    }
+
+    /**
+     * Writes one item, watched by the watchdog while it blocks.
+     */
+    private void send(Object item) throws IOException {
+      sendStartedAt.set(System.nanoTime());
+      try {
+        emitter.send(toSseEvent(item));
+      } finally {
+        if (sendStartedAt.getAndSet(SEND_IDLE) == SEND_STALLED) {
+          // Disconnected by the watchdog while this write was blocked
+          resizeWriters(-1);
+        }
+      }
+    }
+
+    /**
+     * Completes the emitter on a writer thread; the dispatcher must not wait
+     * for a writer that is blocked sending to this subscriber. A subscriber
+     * being drained is completed by its writer once the write returns.
+     */
+    private void completeLater() {
+      if (draining.get()) {
+        return;
+      }
+      try {
+        writers.execute(this::complete);
+      } catch (RejectedExecutionException ex) {
+        // Shutting down
+      }
+    }
+
+    private void complete() {
+      try {
+        emitter.complete();
+      } catch (RuntimeException ex) {
+        logger.debug("Could not complete order stream subscriber {}: {}", filter, ex.getMessage());
+      }
+    }
+
+    private void close() {
+      closed = true;
+      subscribers.remove(this);
+      if (countedByEmail.compareAndSet(true, false)) {
+        emailSubscribers.decrementAndGet();
+      }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(Object item) {
+      if (item == HEARTBEAT) {
+        return SseEmitter.event().comment("heartbeat");
+      }
+      if (item == RESYNC) {
+        return SseEmitter.event().name("resync").data("Events were missed, reload the orders");
+      }
+      OrderStatusEvent event = (OrderStatusEvent) item;
+      return SseEmitter.event()
+        .id(Long.toString(event.id()))
+        .name(event.type().name())
+        .data(event, MediaType.APPLICATION_JSON);
+    }
+  }
+}
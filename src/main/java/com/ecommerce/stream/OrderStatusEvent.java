@@ -0,0 +1,36 @@
+package com.ecommerce.stream;
+
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.outbox.OrderEventType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed order change as sent to stream subscribers.
+ *
+ * The customer email is only used to match subscriptions and is not sent.
+ *
+ * @param id Stream sequence number, sent as the SSE event id (0 until dispatched)
+ * @param type Kind of change
+ * @param orderId ID of the order
+ * @param customerEmail Customer email of the order, or null if unknown
+ * @param previousStatus Status before the change, or null for a created order
+ * @param status Status after the change, or null for a cancelled order
+ * @param occurredAt When the change was made
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record OrderStatusEvent(long id, OrderEventType type, Long orderId, @JsonIgnore String customerEmail,
+                               OrderStatus previousStatus, OrderStatus status, LocalDateTime occurredAt) {
+
+  OrderStatusEvent withId(long sequence) {
+    return new OrderStatusEvent(sequence, type, orderId, customerEmail, previousStatus, status, occurredAt);
+  }
+
+  OrderStatusEvent withCustomerEmail(String email) {
+    return new OrderStatusEvent(id, type, orderId, email, previousStatus, status, occurredAt);
+  }
+}
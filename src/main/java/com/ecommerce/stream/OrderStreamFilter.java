@@ -0,0 +1,24 @@
+package com.ecommerce.stream;
+
+import com.ecommerce.entity.OrderStatus;
+
+/**
+ * Selects the events a stream subscriber receives. Every given criterion must
+ * match; with none given every event matches.
+ *
+ * @param orderId Only events of this order, or null
+ * @param customerEmail Only events of orders of this customer (case-insensitive), or null
+ * @param status Only events moving an order into this status, or null
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record OrderStreamFilter(Long orderId, String customerEmail, OrderStatus status) {
+
+  public boolean matches(OrderStatusEvent event) {
+    return (orderId == null || orderId.equals(event.orderId()))
+      && (customerEmail == null || customerEmail.equalsIgnoreCase(event.customerEmail()))
+      && (status == null || status == event.status());
+  }
+}
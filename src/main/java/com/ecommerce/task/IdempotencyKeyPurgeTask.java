@@ -0,0 +1,43 @@
+package com.ecommerce.task;
+
+import com.ecommerce.service.OrderIdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled task that forgets expired idempotency keys.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class IdempotencyKeyPurgeTask {
+
+  private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyPurgeTask.class);
+
+  private final OrderIdempotencyService idempotencyService;
+
+  public IdempotencyKeyPurgeTask(OrderIdempotencyService idempotencyService) {
+    this.idempotencyService = idempotencyService;
+  }
+
+  /**
+   * Purges expired keys every {@code order.idempotency.purge-interval}
+   * (10 minutes by default).
+   */
+  @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT10M}",
+    initialDelayString = "${order.idempotency.purge-interval:PT10M}")
+  public void purgeExpiredKeys() {
+    try {
+      int purged = idempotencyService.purgeExpired();
+      if (purged > 0) {
+        logger.info("Purged {} expired idempotency keys", purged);
+      }
+    } catch (Exception e) {
+      logger.error("Error occurred while purging expired idempotency keys: ", e);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.task;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.service.OrderDeadlines;
+import com.ecommerce.service.OrderDeadlines.DueOrders;
+import com.ecommerce.service.OrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Scheduled task that acts on order deadlines as they are reached.
+ *
+ * PENDING orders nobody changed within {@code order.deadlines.pending-timeout}
+ * are cancelled, and orders still PROCESSING after
+ * {@code order.deadlines.processing-sla} are flagged as past their SLA. Due
+ * orders come from the in-memory {@link OrderDeadlines} and are handed to the
+ * {@link OrderService} in batches of {@code order.deadlines.batch-size}, one
+ * transaction each.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderDeadlineTask {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderDeadlineTask.class);
+
+  private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+  private final OrderDeadlines orderDeadlines;
+  private final OrderService orderService;
+  private final OrderProperties orderProperties;
+  private final OrderMetrics orderMetrics;
+
+  public OrderDeadlineTask(OrderDeadlines orderDeadlines, OrderService orderService,
+                           OrderProperties orderProperties, OrderMetrics orderMetrics) {
+    this.orderDeadlines = orderDeadlines;
+    this.orderService = orderService;
+    this.orderProperties = orderProperties;
+    this.orderMetrics = orderMetrics;
+  }
+
+  /**
+   * Handles the orders whose deadlines have been reached, every
+   * {@code order.deadlines.tick} (1 second by default) after the previous
+   * run finished. A batch that fails is tried again a minute later.
+   */
+  @Scheduled(fixedDelayString = "${order.deadlines.tick:PT1S}")
+  public void fireDeadlines() {
+    DueOrders due = orderDeadlines.pollDue(System.currentTimeMillis());
+    orderMetrics.deadlinesScheduled(orderDeadlines.size());
+    if (due.isEmpty()) {
+      return;
+    }
+
+    OrderProperties.Deadlines settings = orderProperties.getDeadlines();
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime unchangedSince = now.minus(settings.getPendingTimeout());
+    LocalDateTime processingSince = now.minus(settings.getProcessingSla());
+
+    int cancelled = fire(due.pending(), OrderStatus.PENDING,
+      batch -> orderService.cancelStaleOrders(batch, unchangedSince));
+    int flagged = fire(due.processing(), OrderStatus.PROCESSING,
+      batch -> orderService.flagOverdueOrders(batch, processingSince));
+
+    logger.debug("Order deadlines reached: {} PENDING ({} cancelled), {} PROCESSING ({} flagged)",
+      due.pending().size(), cancelled, due.processing().size(), flagged);
+  }
+
+  private int fire(List<Long> orderIds, OrderStatus status, ToIntFunction<List<Long>> action) {
+    int batchSize = Math.max(1, orderProperties.getDeadlines().getBatchSize());
+    int handled = 0;
+    for (int from = 0; from < orderIds.size(); from += batchSize) {
+      List<Long> batch = orderIds.subList(from, Math.min(from + batchSize, orderIds.size()));
+      try {
+        handled += action.applyAsInt(batch);
+      } catch (Exception e) {
+        logger.error("Error occurred while handling {} {} order deadlines, retrying in {}: ",
+          batch.size(), status, RETRY_DELAY, e);
+        orderDeadlines.retryLater(batch, status, RETRY_DELAY);
+      }
+    }
+    return handled;
+  }
+}
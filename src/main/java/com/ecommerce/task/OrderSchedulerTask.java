@@ -1,20 +1,37 @@
 package com.ecommerce.task;
 
-import com.ecommerce.entity.Order;
-import com.ecommerce.entity.OrderStatus;
-import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.repository.OrderRepository.IdRange;
+import com.ecommerce.service.OrderPromotionService;
+import com.ecommerce.service.OrderPromotionService.PromotionChunk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduled task for automatic order processing.
  *
  * This task runs periodically to update PENDING orders to PROCESSING status.
+ * New orders are normally promoted right after they commit by the
+ * {@link com.ecommerce.service.OrderPromotionQueue}; this job catches up on
+ * orders it missed, such as those queued when the application stopped or
+ * created while the queue was full.
  *
  * @author E-Commerce Development Team
  * @version 1.0.0
@@ -25,59 +42,149 @@ public class OrderSchedulerTask {
 
   private static final Logger logger = LoggerFactory.getLogger(OrderSchedulerTask.class);
 
-  private final OrderRepository orderRepository;
+  private final OrderPromotionService promotionService;
+  private final OrderProperties orderProperties;
+  private final OrderMetrics orderMetrics;
+  private final TaskExecutor taskExecutor;
 
-  public OrderSchedulerTask(OrderRepository orderRepository) {
-    this.orderRepository = orderRepository;
+  public OrderSchedulerTask(OrderPromotionService promotionService, OrderProperties orderProperties,
+                            OrderMetrics orderMetrics, @Qualifier("orderPromotionExecutor") TaskExecutor taskExecutor) {
+    this.promotionService = promotionService;
+    this.orderProperties = orderProperties;
+    this.orderMetrics = orderMetrics;
+    this.taskExecutor = taskExecutor;
   }
 
   /**
    * Processes pending orders every 5 minutes (300,000 milliseconds).
    *
    * Updates all PENDING orders to PROCESSING status automatically.
-   * Uses pagination to handle large datasets efficiently.
+   * The id range of the backlog is split into {@code order.scheduler.partitions}
+   * ranges, which up to {@code order.scheduler.concurrency} workers take one
+   * after another: this thread and the others from the partition executor,
+   * which is separate from the scheduler pool. Each range is walked in keyset
+   * chunks of ascending id; every chunk is promoted with one UPDATE and
+   * committed on its own, so the run never holds a large transaction and a
+   * crashed run is resumed by the next one. A failing range does not stop the
+   * others.
+   *
+   * Every application instance runs this job at the same time. Chunks are
+   * claimed with {@code SKIP LOCKED}, so instances split the backlog between
+   * them without promoting an order twice or waiting on each other's locks,
+   * and each run starts at a random partition so that instances mostly walk
+   * different ranges.
    */
   @Scheduled(fixedRate = 300000) // 5 minutes
-  @Transactional
   public void processPendingOrders() {
     logger.info("Starting scheduled task: Process pending orders");
 
+    OrderProperties.Scheduler settings = orderProperties.getScheduler();
+    int chunkSize = Math.max(1, settings.getChunkSize());
+    long startNanos = System.nanoTime();
+    Progress progress = new Progress();
+
     try {
-      int pageSize = 50;
-      int pageNumber = 0;
-      long totalProcessed = 0;
-
-      Page<Order> pendingOrders;
-
-      do {
-        // Fetch pending orders in batches
-        pendingOrders = orderRepository.findAllByStatus(
-          OrderStatus.PENDING,
-          PageRequest.of(pageNumber, pageSize)
-        );
-
-        // Update each order status
-        for (Order order : pendingOrders.getContent()) {
-          order.setStatus(OrderStatus.PROCESSING);
-          orderRepository.save(order);
-          totalProcessed++;
-
-          logger.debug("Order {} updated from PENDING to PROCESSING",
-            order.getOrderNumber());
+      Optional<IdRange> backlog = promotionService.findPendingIdRange();
+      if (backlog.isPresent()) {
+        Queue<Partition> partitions = split(backlog.get(), Math.max(1, settings.getPartitions()),
+          ThreadLocalRandom.current().nextInt(Math.max(1, settings.getPartitions())));
+        int workers = Math.min(Math.max(1, settings.getConcurrency()), partitions.size());
+
+        List<CompletableFuture<Void>> helpers = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+          helpers.add(CompletableFuture.runAsync(() -> promotePartitions(partitions, chunkSize, progress),
+            taskExecutor));
         }
+        promotePartitions(partitions, chunkSize, progress);
+        CompletableFuture.allOf(helpers.toArray(CompletableFuture[]::new)).join();
+      }
+    } catch (Exception e) {
+      progress.failed.set(true);
+      logger.error("Error occurred during scheduled order processing after {} orders: ",
+        progress.processed.get(), e);
+    }
 
-        pageNumber++;
-      } while (pendingOrders.hasNext());
+    long totalProcessed = progress.processed.get();
+    long elapsedNanos = System.nanoTime() - startNanos;
+    orderMetrics.schedulerRun(elapsedNanos, totalProcessed, !progress.failed.get());
 
-      if (totalProcessed > 0) {
-        logger.info("Scheduled task completed: {} orders updated from PENDING to PROCESSING",
-          totalProcessed);
-      } else {
-        logger.debug("Scheduled task completed: No pending orders to process");
+    long elapsedMillis = Math.max(1, elapsedNanos / 1_000_000);
+    if (totalProcessed > 0) {
+      logger.info("Scheduled task completed: {} orders updated from PENDING to PROCESSING " +
+          "in {} chunks, {} ms ({} rows/s)",
+        totalProcessed, progress.chunks.get(), elapsedMillis, totalProcessed * 1000 / elapsedMillis);
+    } else {
+      logger.debug("Scheduled task completed: No pending orders to process");
+    }
+  }
+
+  /**
+   * Takes partitions from the shared queue until it is empty.
+   */
+  private void promotePartitions(Queue<Partition> partitions, int chunkSize, Progress progress) {
+    Partition partition;
+    while ((partition = partitions.poll()) != null) {
+      try {
+        long lastId = partition.afterId();
+        PromotionChunk chunk;
+
+        do {
+          chunk = promotionService.promoteNextChunk(lastId, partition.maxId(), chunkSize);
+          progress.processed.addAndGet(chunk.promoted());
+          lastId = chunk.lastId();
+          if (!chunk.isEmpty()) {
+            progress.chunks.incrementAndGet();
+          }
+        } while (chunk.selected() == chunkSize);
+
+      } catch (Exception e) {
+        progress.failed.set(true);
+        logger.error("Error occurred while processing pending orders with ids {}..{}: ",
+          partition.afterId() + 1, partition.maxId(), e);
       }
+    }
+  }
 
-    } catch (Exception e) {
-      logger.error("Error occurred during scheduled order processing: ", e);
+  /**
+   * Splits an id range into consecutive ranges of equal width.
+   */
+  static Queue<Partition> split(IdRange range, int count) {
+    return split(range, count, 0);
+  }
+
+  /**
+   * Splits an id range into consecutive ranges of equal width, queued from
+   * the range at index {@code start} onwards and wrapping around.
+   */
+  static Queue<Partition> split(IdRange range, int count, int start) {
+    long minId = range.minId();
+    long maxId = range.maxId();
+    long width = Math.max(1, (maxId - minId) / count + 1);
+
+    List<Partition> ranges = new ArrayList<>(count);
+    for (long afterId = minId - 1; afterId < maxId; afterId += width) {
+      ranges.add(new Partition(afterId, Math.min(afterId + width, maxId)));
     }
+    Collections.rotate(ranges, -(start % ranges.size()));
+    return new ConcurrentLinkedQueue<>(ranges);
+  }
+
+  /**
+   * Range of ids promoted by one worker.
+   *
+   * @param afterId Exclusive lower bound
+   * @param maxId Inclusive upper bound
+   */
+  record Partition(long afterId, long maxId) {
+  }
+
+  /**
+   * Counters shared by the workers of one run.
+   */
+  private static final class Progress {
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicInteger chunks = new AtomicInteger();
+    private final AtomicBoolean failed = new AtomicBoolean();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.task;
+
+import com.ecommerce.stream.OrderStatusBroadcaster;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled task that keeps order stream connections alive.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OrderStreamHeartbeatTask {
+
+  private final OrderStatusBroadcaster broadcaster;
+
+  public OrderStreamHeartbeatTask(OrderStatusBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+  }
+
+  /**
+   * Sends a heartbeat to every subscriber every
+   * {@code order.stream.heartbeat-interval} (30 seconds by default).
+   */
+  @Scheduled(fixedRateString = "${order.stream.heartbeat-interval:PT30S}",
+    initialDelayString = "${order.stream.heartbeat-interval:PT30S}")
+  public void sendHeartbeats() {
+    broadcaster.heartbeat();
+  }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.task;
+
+import com.ecommerce.outbox.OrderOutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled task that relays order events from the outbox to the sink.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+@Component
+public class OutboxRelayTask {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboxRelayTask.class);
+
+  private final OrderOutboxRelay relay;
+
+  public OutboxRelayTask(OrderOutboxRelay relay) {
+    this.relay = relay;
+  }
+
+  /**
+   * Drains the outbox {@code order.outbox.relay-interval} (1 second by
+   * default) after the previous run finished.
+   */
+  @Scheduled(fixedDelayString = "${order.outbox.relay-interval:PT1S}")
+  public void relayEvents() {
+    try {
+      int relayed = relay.relayPending();
+      if (relayed > 0) {
+        logger.debug("Relayed {} order events", relayed);
+      }
+    } catch (Exception e) {
+      logger.error("Error occurred while relaying order events: ", e);
+    }
+  }
+}
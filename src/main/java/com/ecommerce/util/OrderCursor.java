@@ -0,0 +1,60 @@
+package com.ecommerce.util;
+
+import com.ecommerce.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over the (createdAt, id) ordering of orders.
+ *
+ * The cursor identifies the last order of a page; the next page starts with
+ * the first order that sorts after it. Clients treat the encoded form as an
+ * opaque token.
+ *
+ * @param createdAt Creation timestamp of the last order returned
+ * @param id Id of the last order returned, breaking ties on createdAt
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public record OrderCursor(LocalDateTime createdAt, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  /**
+   * Encodes this cursor as a URL-safe token.
+   *
+   * @return Opaque cursor token
+   */
+  public String encode() {
+    String raw = createdAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token produced by {@link #encode()}.
+   *
+   * @param token Opaque cursor token
+   * @return Decoded cursor
+   * @throws ValidationException if the token is malformed
+   */
+  public static OrderCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new ValidationException("Invalid cursor: " + token);
+      }
+      return new OrderCursor(
+        LocalDateTime.parse(raw.substring(0, separator)),
+        Long.parseLong(raw.substring(separator + 1))
+      );
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new ValidationException("Invalid cursor: " + token, ex);
+    }
+  }
+}
@@ -1,55 +1,170 @@
 package com.ecommerce.util;
 
-import java.time.LocalDateTime;
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.repository.OrderNumberBlockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Utility class for generating unique order numbers.
+ * Generates unique order numbers.
  *
  * Format: ORD-YYYYMMDD-XXXXX
  * Example: ORD-20251107-00001
  *
+ * The numeric suffix comes from blocks leased from the database through
+ * {@link OrderNumberBlockRepository}, so numbers stay unique across restarts
+ * and across application instances. Within a block, numbers are handed out
+ * with a single atomic increment; only the thread that exhausts a block goes
+ * to the database for the next one.
+ *
+ * The suffix is a running counter rather than a per-day one: it is at least
+ * five digits wide and simply grows longer past 99,999. Numbers left in a
+ * block when the application stops are never reused, which leaves gaps.
+ *
  * @author E-Commerce Development Team
  * @version 1.0.0
  * @since 2025-11-07
  */
+@Component
 public class OrderNumberGenerator {
 
+  private static final Logger logger = LoggerFactory.getLogger(OrderNumberGenerator.class);
+
   private static final String PREFIX = "ORD";
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
-  private static final AtomicInteger counter = new AtomicInteger(0);
-  private static String currentDate = "";
+  private static final int MIN_SUFFIX_DIGITS = 5;
+
+  private final OrderNumberBlockRepository blockRepository;
+  private final int blockSize;
+  private final Clock clock;
+
+  private final AtomicReference<Block> currentBlock = new AtomicReference<>(new Block(0, 0));
+  private final ReentrantLock refillLock = new ReentrantLock();
+  private volatile DatePrefix datePrefix;
+
+  @Autowired
+  public OrderNumberGenerator(OrderNumberBlockRepository blockRepository, OrderProperties orderProperties) {
+    this(blockRepository, orderProperties.getNumber().getBlockSize(), Clock.systemDefaultZone());
+  }
+
+  OrderNumberGenerator(OrderNumberBlockRepository blockRepository, int blockSize, Clock clock) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Order number block size must be positive: " + blockSize);
+    }
+    this.blockRepository = blockRepository;
+    this.blockSize = blockSize;
+    this.clock = clock;
+    this.datePrefix = DatePrefix.of(LocalDate.now(clock), clock);
+  }
 
   /**
    * Generates a unique order number.
    *
-   * Thread-safe implementation using AtomicInteger.
-   * Counter resets daily.
+   * Thread-safe and lock-free unless the current block is used up.
    *
    * @return Unique order number in format ORD-YYYYMMDD-XXXXX
    */
-  public static synchronized String generateOrderNumber() {
-    LocalDateTime now = LocalDateTime.now();
-    String dateStr = now.format(DATE_FORMATTER);
+  public String generateOrderNumber() {
+    long value = nextValue();
+    String prefix = currentPrefix();
+
+    int digits = digitCount(value);
+    StringBuilder orderNumber = new StringBuilder(prefix.length() + Math.max(digits, MIN_SUFFIX_DIGITS));
+    orderNumber.append(prefix);
+    for (int i = digits; i < MIN_SUFFIX_DIGITS; i++) {
+      orderNumber.append('0');
+    }
+    return orderNumber.append(value).toString();
+  }
+
+  /**
+   * Takes the next value from the current block, leasing a new block when it runs out.
+   */
+  private long nextValue() {
+    while (true) {
+      Block block = currentBlock.get();
+      long value = block.next.getAndIncrement();
+      if (value < block.end) {
+        return value;
+      }
+      refill(block);
+    }
+  }
+
+  /**
+   * Replaces an exhausted block. Threads that lose the race wait for the
+   * winner instead of leasing blocks of their own.
+   */
+  private void refill(Block exhausted) {
+    refillLock.lock();
+    try {
+      if (currentBlock.get() == exhausted) {
+        long start = blockRepository.allocateBlock(blockSize);
+        currentBlock.set(new Block(start, start + blockSize));
+        logger.debug("Leased order numbers {}..{}", start, start + blockSize - 1);
+      }
+    } finally {
+      refillLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the "ORD-YYYYMMDD-" prefix for the current day, rebuilding it only
+   * when the day changes.
+   */
+  private String currentPrefix() {
+    DatePrefix prefix = datePrefix;
+    long now = clock.millis();
+    if (now < prefix.validFrom() || now >= prefix.validUntil()) {
+      prefix = DatePrefix.of(LocalDate.now(clock), clock);
+      datePrefix = prefix;
+    }
+    return prefix.value();
+  }
 
-    // Reset counter if date has changed
-    if (!dateStr.equals(currentDate)) {
-      currentDate = dateStr;
-      counter.set(0);
+  private static int digitCount(long value) {
+    int digits = 1;
+    while (value >= 10) {
+      value /= 10;
+      digits++;
     }
+    return digits;
+  }
 
-    // Increment counter and format with leading zeros
-    int orderNumber = counter.incrementAndGet();
-    String formattedNumber = String.format("%05d", orderNumber);
+  /**
+   * A leased range of values {@code [next, end)}.
+   */
+  private static final class Block {
 
-    return String.format("%s-%s-%s", PREFIX, dateStr, formattedNumber);
+    final AtomicLong next;
+    final long end;
+
+    Block(long start, long end) {
+      this.next = new AtomicLong(start);
+      this.end = end;
+    }
   }
 
   /**
-   * Private constructor to prevent instantiation.
+   * Cached order number prefix together with the time range it applies to.
    */
-  private OrderNumberGenerator() {
-    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  private record DatePrefix(String value, long validFrom, long validUntil) {
+
+    static DatePrefix of(LocalDate date, Clock clock) {
+      ZonedDateTime start = date.atStartOfDay(clock.getZone());
+      ZonedDateTime end = date.plusDays(1).atStartOfDay(clock.getZone());
+      return new DatePrefix(PREFIX + "-" + date.format(DATE_FORMATTER) + "-",
+        start.toInstant().toEpochMilli(), end.toInstant().toEpochMilli());
+    }
   }
-}
\ No newline at end of file
+}
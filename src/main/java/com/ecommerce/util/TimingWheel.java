@@ -0,0 +1,367 @@
+package com.ecommerce.util;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel of deadlines keyed by a long id, such as an
+ * order id.
+ *
+ * Time advances in ticks of fixed length. The wheel has several levels of
+ * {@code 2^bits} buckets; a bucket of level {@code k} covers
+ * {@code 2^(bits*k)} ticks. A deadline goes into the lowest level whose range
+ * reaches it and moves down a level each time the level below wraps around,
+ * until it lands in a level 0 bucket and expires. Scheduling, rescheduling
+ * and cancelling take constant time whatever the number of deadlines;
+ * advancing costs one step per tick plus the deadlines it moves or expires.
+ * Deadlines beyond the range of the top level wait in its last bucket and are
+ * placed again whenever it comes round.
+ *
+ * Each key holds at most one deadline, with a small tag saying what it is for.
+ * Deadlines are kept in parallel primitive arrays linked into per-bucket
+ * lists, with an open-addressing index from key to slot, so one deadline
+ * costs a few dozen bytes and no objects.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author E-Commerce Development Team
+ * @version 1.0.0
+ * @since 2025-11-07
+ */
+public class TimingWheel {
+
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final long tickMillis;
+  private final int bits;
+  private final int levels;
+  private final int mask;
+  private final int bucketCount;
+  private final long maxDelta;
+
+  /**
+   * Next tick to expire.
+   */
+  private long currentTick;
+
+  // Slots 0..bucketCount-1 are the heads of the circular bucket lists
+  private long[] keys;
+  private long[] deadlines;
+  private int[] next;
+  private int[] prev;
+  private byte[] tags;
+  private int highWater;
+  private int freeList = NONE;
+  private int size;
+
+  private final SlotIndex index = new SlotIndex();
+
+  /**
+   * Creates an empty wheel.
+   *
+   * @param tickMillis Length of a tick in milliseconds, the resolution of deadlines
+   * @param bits Buckets per level as a power of two
+   * @param levels Number of levels
+   * @param startMillis Current time in epoch milliseconds
+   */
+  public TimingWheel(long tickMillis, int bits, int levels, long startMillis) {
+    if (tickMillis <= 0 || bits <= 0 || levels <= 0 || bits * levels > 62) {
+      throw new IllegalArgumentException("Invalid timing wheel geometry");
+    }
+    this.tickMillis = tickMillis;
+    this.bits = bits;
+    this.levels = levels;
+    this.mask = (1 << bits) - 1;
+    this.bucketCount = levels << bits;
+    this.maxDelta = (1L << (bits * levels)) - 1;
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+
+    int capacity = bucketCount + INITIAL_CAPACITY;
+    keys = new long[capacity];
+    deadlines = new long[capacity];
+    next = new int[capacity];
+    prev = new int[capacity];
+    tags = new byte[capacity];
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      next[bucket] = bucket;
+      prev[bucket] = bucket;
+    }
+    highWater = bucketCount;
+  }
+
+  /**
+   * Sets the deadline of a key, replacing any deadline it already has.
+   *
+   * A deadline that has passed expires on the next {@link #advance}.
+   *
+   * @param key Key, such as an order id
+   * @param deadlineMillis Deadline in epoch milliseconds
+   * @param tag What the deadline is for, returned when it expires
+   */
+  public void schedule(long key, long deadlineMillis, byte tag) {
+    int slot = index.get(key);
+    if (slot == NONE) {
+      slot = allocate();
+      keys[slot] = key;
+      index.put(key, slot);
+      size++;
+    } else {
+      unlink(slot);
+    }
+    // Round up so that a deadline never expires early
+    deadlines[slot] = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+    tags[slot] = tag;
+    place(slot);
+  }
+
+  /**
+   * Sets the deadline of a key unless it already has one.
+   *
+   * @param key Key, such as an order id
+   * @param deadlineMillis Deadline in epoch milliseconds
+   * @param tag What the deadline is for, returned when it expires
+   * @return Whether the deadline was set
+   */
+  public boolean scheduleIfAbsent(long key, long deadlineMillis, byte tag) {
+    if (index.get(key) != NONE) {
+      return false;
+    }
+    schedule(key, deadlineMillis, tag);
+    return true;
+  }
+
+  /**
+   * Removes the deadline of a key.
+   *
+   * @param key Key, such as an order id
+   * @return Whether the key had a deadline
+   */
+  public boolean cancel(long key) {
+    int slot = index.remove(key);
+    if (slot == NONE) {
+      return false;
+    }
+    unlink(slot);
+    release(slot);
+    return true;
+  }
+
+  /**
+   * Whether a key has a deadline.
+   *
+   * @param key Key, such as an order id
+   * @return Whether the key has a deadline
+   */
+  public boolean contains(long key) {
+    return index.get(key) != NONE;
+  }
+
+  /**
+   * Number of deadlines in the wheel.
+   *
+   * @return Number of keys with a deadline
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Moves the wheel forward to the given time and removes every deadline
+   * that has been reached, handing it to the handler. The handler must not
+   * change the wheel.
+   *
+   * @param nowMillis Current time in epoch milliseconds
+   * @param handler Receives the expired deadlines, earliest tick first
+   * @return Number of expired deadlines
+   */
+  public int advance(long nowMillis, ExpiryHandler handler) {
+    long targetTick = Math.floorDiv(nowMillis, tickMillis);
+    int expired = 0;
+    while (currentTick <= targetTick) {
+      int bucket = (int) (currentTick & mask);
+      if (bucket == 0) {
+        // Level 0 wrapped: move the deadlines of the next higher buckets down
+        for (int level = 1; level < levels; level++) {
+          int levelBucket = (int) ((currentTick >>> (bits * level)) & mask);
+          cascade((level << bits) + levelBucket);
+          if (levelBucket != 0) {
+            break;
+          }
+        }
+      }
+
+      int slot = next[bucket];
+      while (slot != bucket) {
+        int following = next[slot];
+        handler.expired(keys[slot], tags[slot]);
+        index.remove(keys[slot]);
+        release(slot);
+        expired++;
+        slot = following;
+      }
+      next[bucket] = bucket;
+      prev[bucket] = bucket;
+      currentTick++;
+    }
+    return expired;
+  }
+
+  private void cascade(int bucket) {
+    int slot = next[bucket];
+    next[bucket] = bucket;
+    prev[bucket] = bucket;
+    while (slot != bucket) {
+      int following = next[slot];
+      place(slot);
+      slot = following;
+    }
+  }
+
+  private void place(int slot) {
+    long expires = deadlines[slot];
+    long delta = expires - currentTick;
+    int bucket;
+    if (delta < 0) {
+      bucket = (int) (currentTick & mask);
+    } else {
+      if (delta > maxDelta) {
+        expires = currentTick + maxDelta;
+        delta = maxDelta;
+      }
+      int level = 0;
+      while (delta >>> (bits * (level + 1)) != 0) {
+        level++;
+      }
+      bucket = (level << bits) + (int) ((expires >>> (bits * level)) & mask);
+    }
+    int last = prev[bucket];
+    next[last] = slot;
+    prev[slot] = last;
+    next[slot] = bucket;
+    prev[bucket] = slot;
+  }
+
+  private void unlink(int slot) {
+    next[prev[slot]] = next[slot];
+    prev[next[slot]] = prev[slot];
+  }
+
+  private int allocate() {
+    if (freeList != NONE) {
+      int slot = freeList;
+      freeList = next[slot];
+      return slot;
+    }
+    if (highWater == keys.length) {
+      int capacity = keys.length + (keys.length >> 1);
+      keys = Arrays.copyOf(keys, capacity);
+      deadlines = Arrays.copyOf(deadlines, capacity);
+      next = Arrays.copyOf(next, capacity);
+      prev = Arrays.copyOf(prev, capacity);
+      tags = Arrays.copyOf(tags, capacity);
+    }
+    return highWater++;
+  }
+
+  private void release(int slot) {
+    next[slot] = freeList;
+    freeList = slot;
+    size--;
+  }
+
+  /**
+   * Receives expired deadlines.
+   */
+  @FunctionalInterface
+  public interface ExpiryHandler {
+
+    /**
+     * Called for each expired deadline.
+     *
+     * @param key Key of the deadline
+     * @param tag Tag it was scheduled with
+     */
+    void expired(long key, byte tag);
+  }
+
+  /**
+   * Open-addressing hash map from key to slot with linear probing.
+   */
+  private static final class SlotIndex {
+
+    private long[] keys = new long[INITIAL_CAPACITY * 2];
+    // Slot + 1, so that 0 marks an empty entry
+    private int[] values = new int[INITIAL_CAPACITY * 2];
+    private int size;
+
+    int get(long key) {
+      int mask = keys.length - 1;
+      for (int i = hash(key, mask); values[i] != 0; i = (i + 1) & mask) {
+        if (keys[i] == key) {
+          return values[i] - 1;
+        }
+      }
+      return NONE;
+    }
+
+    void put(long key, int slot) {
+      if (size + 1 > keys.length * 3 / 4) {
+        resize();
+      }
+      int mask = keys.length - 1;
+      int i = hash(key, mask);
+      while (values[i] != 0 && keys[i] != key) {
+        i = (i + 1) & mask;
+      }
+      if (values[i] == 0) {
+        size++;
+      }
+      keys[i] = key;
+      values[i] = slot + 1;
+    }
+
+    int remove(long key) {
+      int mask = keys.length - 1;
+      int i = hash(key, mask);
+      while (values[i] != 0 && keys[i] != key) {
+        i = (i + 1) & mask;
+      }
+      if (values[i] == 0) {
+        return NONE;
+      }
+      int slot = values[i] - 1;
+      size--;
+
+      // Shift later entries of the probe run back so that lookups need no tombstones
+      int gap = i;
+      for (int j = (i + 1) & mask; values[j] != 0; j = (j + 1) & mask) {
+        int home = hash(keys[j], mask);
+        if (((j - home) & mask) >= ((j - gap) & mask)) {
+          keys[gap] = keys[j];
+          values[gap] = values[j];
+          gap = j;
+        }
+      }
+      values[gap] = 0;
+      return slot;
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = new long[oldKeys.length * 2];
+      values = new int[oldValues.length * 2];
+      size = 0;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] != 0) {
+          put(oldKeys[i], oldValues[i] - 1);
+        }
+      }
+    }
+
+    private static int hash(long key, int mask) {
+      long mixed = key * 0x9E3779B97F4A7C15L;
+      return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+-- MySQL schema, run with spring.sql.init.schema-locations=classpath:schema-mysql.sql (see application-prod.properties).
+-- Every statement can be run again on an existing schema.
+
+-- Id sequences. MySQL has no sequences, so Hibernate keeps each one as a
+-- single-row table and reserves a block of 50 ids per update (pooled)
+CREATE TABLE IF NOT EXISTS orders_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO orders_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM orders_seq);
+
+CREATE TABLE IF NOT EXISTS order_items_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO order_items_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM order_items_seq);
+
+-- Create orders table
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT PRIMARY KEY,
+    order_number VARCHAR(50) NOT NULL UNIQUE,
+    customer_name VARCHAR(100) NOT NULL,
+    customer_email VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(10, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    sla_breached_at DATETIME(6),
+    version BIGINT DEFAULT 0 NOT NULL,
+    INDEX idx_status (status),
+    -- Composite keyset indexes for cursor pagination over (created_at, id)
+    INDEX idx_created_at_id (created_at, id),
+    INDEX idx_status_created_at_id (status, created_at, id),
+    INDEX idx_customer_email (customer_email)
+);
+
+-- Create order_items table
+CREATE TABLE IF NOT EXISTS order_items (
+    id BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INT NOT NULL,
+    price DECIMAL(10, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE
+);
+
+-- Order number counter; each application instance leases blocks of numbers from it
+CREATE TABLE IF NOT EXISTS order_number_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+-- Idempotency keys of order creation requests; rows are purged once expired
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash CHAR(64) NOT NULL,
+    order_id BIGINT,
+    response TEXT,
+    expires_at DATETIME(6) NOT NULL
+);
+
+-- Outbox of order lifecycle events, written with the order change; rows are deleted once relayed
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    order_id BIGINT NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20),
+    payload TEXT,
+    created_at DATETIME(6) NOT NULL
+);
@@ -1,18 +1,25 @@
+-- Create id sequences (pooled: each call reserves a block of 50 ids).
+-- MySQL has no sequences; schema-mysql.sql creates the tables Hibernate uses there instead
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq START WITH 1 INCREMENT BY 50;
+
 -- Create orders table
 CREATE TABLE IF NOT EXISTS orders (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     order_number VARCHAR(50) NOT NULL UNIQUE,
     customer_name VARCHAR(100) NOT NULL,
     customer_email VARCHAR(100) NOT NULL,
     status VARCHAR(20) NOT NULL,
     total_amount DECIMAL(10, 2) NOT NULL,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    sla_breached_at TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL
 );
 
 -- Create order_items table
 CREATE TABLE IF NOT EXISTS order_items (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     order_id BIGINT NOT NULL,
     product_id BIGINT NOT NULL,
     product_name VARCHAR(200) NOT NULL,
@@ -22,12 +29,42 @@ CREATE TABLE IF NOT EXISTS order_items (
     FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE
 );
 
+-- Order number counter; each application instance leases blocks of numbers from it
+CREATE TABLE IF NOT EXISTS order_number_blocks (
+    name VARCHAR(50) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+-- Idempotency keys of order creation requests; rows are purged once expired
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash CHAR(64) NOT NULL,
+    order_id BIGINT,
+    response TEXT,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Outbox of order lifecycle events, written with the order change; rows are deleted once relayed
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    order_id BIGINT NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20),
+    payload TEXT,
+    created_at TIMESTAMP NOT NULL
+);
+
 DROP INDEX IF EXISTS idx_status;
 DROP INDEX IF EXISTS idx_created_at;
+DROP INDEX IF EXISTS idx_created_at_id;
+DROP INDEX IF EXISTS idx_status_created_at_id;
 DROP INDEX IF EXISTS idx_customer_email;
 DROP INDEX IF EXISTS idx_order_number;
 -- Create indexes
 CREATE INDEX idx_order_number ON orders(order_number);
 CREATE INDEX idx_status ON orders(status);
-CREATE INDEX idx_created_at ON orders(created_at);
+-- Composite keyset indexes for cursor pagination over (created_at, id)
+CREATE INDEX idx_created_at_id ON orders(created_at, id);
+CREATE INDEX idx_status_created_at_id ON orders(status, created_at, id);
 CREATE INDEX idx_customer_email ON orders(customer_email);
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.ecommerce.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for JsonLineEncoder.
+ *
+ * Checks that every event is one line of valid JSON with the expected fields.
+ */
+public class JsonLineEncoderTest {
+
+  private final LoggerContext context = new LoggerContext();
+  private final JsonLineEncoder encoder = new JsonLineEncoder();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Encode - One JSON Line With Formatted Message")
+  void testEncode_Fields() throws Exception {
+    // Arrange
+    LoggingEvent event = new LoggingEvent("fqcn", context.getLogger("com.ecommerce.Test"), Level.INFO,
+      "Order {} created for \"{}\"\n\ttab\u0001", null, new Object[] {"ORD-1", "Doe \\ John"});
+    event.setThreadName("http-nio-1");
+    event.setTimeStamp(1762509600000L);
+    event.setMDCPropertyMap(Map.of("requestId", "abc"));
+
+    // Act
+    String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+    // Assert
+    assertTrue(line.endsWith("\n"));
+    assertEquals(1, line.split("\n").length);
+    JsonNode json = objectMapper.readTree(line);
+    assertEquals(1762509600000L, json.get("timestamp").asLong());
+    assertEquals("INFO", json.get("level").asText());
+    assertEquals("http-nio-1", json.get("thread").asText());
+    assertEquals("com.ecommerce.Test", json.get("logger").asText());
+    assertEquals("Order ORD-1 created for \"Doe \\ John\"\n\ttab\u0001", json.get("message").asText());
+    assertEquals("abc", json.get("mdc").get("requestId").asText());
+    assertNull(json.get("exception"));
+  }
+
+  @Test
+  @DisplayName("Encode - Exception Stack Trace")
+  void testEncode_Exception() throws Exception {
+    // Arrange
+    LoggingEvent event = new LoggingEvent("fqcn", context.getLogger("com.ecommerce.Test"), Level.ERROR,
+      "Failed", new IllegalStateException("boom"), null);
+    event.setMDCPropertyMap(Map.of());
+
+    // Act
+    JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+    // Assert
+    assertTrue(json.get("exception").asText().startsWith("java.lang.IllegalStateException: boom"));
+    assertNull(json.get("mdc"));
+  }
+}
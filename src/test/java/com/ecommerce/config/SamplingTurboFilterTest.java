@@ -0,0 +1,84 @@
+package com.ecommerce.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for SamplingTurboFilter.
+ *
+ * Tests which events are sampled and the sampling rate.
+ */
+public class SamplingTurboFilterTest {
+
+  private LoggerContext context;
+  private SamplingTurboFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    context.getLogger("com.ecommerce").setLevel(Level.DEBUG);
+
+    filter = new SamplingTurboFilter();
+    filter.setContext(context);
+    filter.setCategory("com.ecommerce.controller");
+    filter.setLevel("INFO");
+    filter.setKeepOneIn(10);
+    filter.start();
+  }
+
+  @Test
+  @DisplayName("Decide - Keeps About One In N Events Of The Category")
+  void testDecide_SamplesCategory() {
+    // Arrange
+    Logger logger = context.getLogger("com.ecommerce.controller.OrderController");
+
+    // Act
+    int kept = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.decide(null, logger, Level.INFO, "msg", null, null) == FilterReply.NEUTRAL) {
+        kept++;
+      }
+    }
+
+    // Assert
+    assertTrue(kept > 700 && kept < 1300, "kept " + kept);
+  }
+
+  @Test
+  @DisplayName("Decide - Warnings, Other Categories And Disabled Levels Pass Through")
+  void testDecide_PassesThrough() {
+    Logger controller = context.getLogger("com.ecommerce.controller.OrderController");
+    Logger service = context.getLogger("com.ecommerce.service.OrderServiceImpl");
+    context.getLogger("com.ecommerce.controller").setLevel(Level.INFO);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(FilterReply.NEUTRAL, filter.decide(null, controller, Level.WARN, "msg", null, null));
+      assertEquals(FilterReply.NEUTRAL, filter.decide(null, controller, Level.ERROR, "msg", null, null));
+      assertEquals(FilterReply.NEUTRAL, filter.decide(null, controller, Level.DEBUG, "msg", null, null));
+      assertEquals(FilterReply.NEUTRAL, filter.decide(null, service, Level.INFO, "msg", null, null));
+    }
+  }
+
+  @Test
+  @DisplayName("Start - Rejects Missing Category And Invalid Rate")
+  void testStart_InvalidConfiguration() {
+    SamplingTurboFilter noCategory = new SamplingTurboFilter();
+    noCategory.setContext(context);
+    noCategory.start();
+    assertFalse(noCategory.isStarted());
+
+    SamplingTurboFilter zeroRate = new SamplingTurboFilter();
+    zeroRate.setContext(context);
+    zeroRate.setCategory("com.ecommerce");
+    zeroRate.setKeepOneIn(0);
+    zeroRate.start();
+    assertFalse(zeroRate.isStarted());
+  }
+}
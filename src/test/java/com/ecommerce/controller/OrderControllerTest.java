@@ -1,15 +1,30 @@
 package com.ecommerce.controller;
 
 import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.BatchCreateOrderRequest;
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.BatchOrderResult;
+import com.ecommerce.dto.BatchStatusResult;
+import com.ecommerce.dto.BatchUpdateOrderStatusRequest;
+import com.ecommerce.dto.BatchUpdateOrderStatusResponse;
 import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.CursorPage;
 import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.dto.UpdateOrderStatusRequest;
 import com.ecommerce.entity.OrderItem;
 import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.IdempotencyKeyConflictException;
 import com.ecommerce.exception.InvalidOrderStatusException;
 import com.ecommerce.exception.OrderNotFoundException;
 import com.ecommerce.exception.ValidationException;
+import com.ecommerce.service.OrderCache;
+import com.ecommerce.service.OrderExportService;
+import com.ecommerce.service.OrderIdempotencyService;
+import com.ecommerce.service.OrderIdempotencyService.IdempotentOrder;
 import com.ecommerce.service.OrderService;
+import com.ecommerce.stream.OrderStatusBroadcaster;
+import com.ecommerce.stream.OrderStreamFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +37,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,6 +48,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -57,6 +75,18 @@ public class OrderControllerTest {
   @MockBean
   private OrderService orderService;
 
+  @MockBean
+  private OrderCache orderCache;
+
+  @MockBean
+  private OrderExportService orderExportService;
+
+  @MockBean
+  private OrderIdempotencyService orderIdempotencyService;
+
+  @MockBean
+  private OrderStatusBroadcaster orderStatusBroadcaster;
+
   private OrderDTO testOrderDTO;
   private CreateOrderRequest createRequest;
   private UpdateOrderStatusRequest updateRequest;
@@ -110,6 +140,42 @@ public class OrderControllerTest {
       .andExpect(jsonPath("$.data.status").value("PENDING"));
 
     verify(orderService).createOrder(any(CreateOrderRequest.class));
+    verifyNoInteractions(orderIdempotencyService);
+  }
+
+  @Test
+  @DisplayName("Create Order - Idempotency Key Replayed - 201")
+  void testCreateOrder_IdempotencyKeyReplayed() throws Exception {
+    // Arrange
+    when(orderIdempotencyService.createOrder(eq("key-1"), any(CreateOrderRequest.class)))
+      .thenReturn(new IdempotentOrder(testOrderDTO, true));
+
+    // Act & Assert
+    mockMvc.perform(post("/api/v1/orders")
+        .header("Idempotency-Key", "key-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(createRequest)))
+      .andExpect(status().isCreated())
+      .andExpect(header().string("Idempotent-Replayed", "true"))
+      .andExpect(jsonPath("$.data.id").value(1));
+
+    verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Idempotency Key Conflict - 409")
+  void testCreateOrder_IdempotencyKeyConflict() throws Exception {
+    // Arrange
+    when(orderIdempotencyService.createOrder(eq("key-1"), any(CreateOrderRequest.class)))
+      .thenThrow(new IdempotencyKeyConflictException("Idempotency key key-1 was already used with a different request"));
+
+    // Act & Assert
+    mockMvc.perform(post("/api/v1/orders")
+        .header("Idempotency-Key", "key-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(createRequest)))
+      .andExpect(status().isConflict())
+      .andExpect(jsonPath("$.error").value("Conflict"));
   }
 
   @Test
@@ -157,6 +223,64 @@ public class OrderControllerTest {
     verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
   }
 
+  @Test
+  @DisplayName("Create Orders Batch - All Created - 201")
+  void testCreateOrders_AllCreated() throws Exception {
+    // Arrange
+    BatchCreateOrderRequest batchRequest = new BatchCreateOrderRequest();
+    batchRequest.setOrders(List.of(createRequest, createRequest));
+    BatchCreateOrderResponse batchResponse = BatchCreateOrderResponse.of(List.of(
+      BatchOrderResult.success(0, testOrderDTO), BatchOrderResult.success(1, testOrderDTO)));
+
+    when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+    // Act & Assert
+    mockMvc.perform(post("/api/v1/orders/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(batchRequest)))
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.status").value("success"))
+      .andExpect(jsonPath("$.data.succeeded").value(2))
+      .andExpect(jsonPath("$.data.results", hasSize(2)))
+      .andExpect(jsonPath("$.data.results[0].order.orderNumber").value("ORD-20251107-00001"));
+
+    verify(orderService).createOrders(anyList());
+  }
+
+  @Test
+  @DisplayName("Create Orders Batch - Partial Failure - 207")
+  void testCreateOrders_PartialFailure() throws Exception {
+    // Arrange
+    BatchCreateOrderRequest batchRequest = new BatchCreateOrderRequest();
+    batchRequest.setOrders(List.of(createRequest, createRequest));
+    BatchCreateOrderResponse batchResponse = BatchCreateOrderResponse.of(List.of(
+      BatchOrderResult.success(0, testOrderDTO),
+      BatchOrderResult.error(1, "Order must contain at least one item")));
+
+    when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+    // Act & Assert
+    mockMvc.perform(post("/api/v1/orders/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(batchRequest)))
+      .andExpect(status().isMultiStatus())
+      .andExpect(jsonPath("$.data.failed").value(1))
+      .andExpect(jsonPath("$.data.results[1].status").value("error"))
+      .andExpect(jsonPath("$.data.results[1].error").value("Order must contain at least one item"));
+  }
+
+  @Test
+  @DisplayName("Create Orders Batch - Empty Batch - 400")
+  void testCreateOrders_EmptyBatch() throws Exception {
+    // Act & Assert
+    mockMvc.perform(post("/api/v1/orders/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(new BatchCreateOrderRequest())))
+      .andExpect(status().isBadRequest());
+
+    verify(orderService, never()).createOrders(anyList());
+  }
+
   @Test
   @DisplayName("Get Order - Success - 200")
   void testGetOrder_Success() throws Exception {
@@ -211,6 +335,29 @@ public class OrderControllerTest {
     verify(orderService).getAllOrders(any());
   }
 
+  @Test
+  @DisplayName("GET /api/v1/orders/summary - Success")
+  void testGetOrderSummaries_Success() throws Exception {
+    // Arrange
+    OrderSummaryDTO summary = new OrderSummaryDTO(1L, "ORD-20251107-00001", "John Doe",
+      "john.doe@example.com", OrderStatus.PENDING, new BigDecimal("1299.99"),
+      LocalDateTime.now(), LocalDateTime.now());
+    Page<OrderSummaryDTO> summaryPage = new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1);
+
+    when(orderService.getOrderSummaries(eq(OrderStatus.PENDING), any())).thenReturn(summaryPage);
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/summary")
+        .param("status", "PENDING"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("success"))
+      .andExpect(jsonPath("$.data.content", hasSize(1)))
+      .andExpect(jsonPath("$.data.content[0].orderNumber").value("ORD-20251107-00001"))
+      .andExpect(jsonPath("$.data.content[0].orderItems").doesNotExist());
+
+    verify(orderService).getOrderSummaries(eq(OrderStatus.PENDING), any());
+  }
+
   @Test
   @DisplayName("Get All Orders - With Pagination")
   void testGetAllOrders_WithPagination() throws Exception {
@@ -230,6 +377,41 @@ public class OrderControllerTest {
     verify(orderService).getAllOrders(any());
   }
 
+  @Test
+  @DisplayName("Get Orders By Cursor - Success - 200")
+  void testGetOrdersByCursor_Success() throws Exception {
+    // Arrange
+    CursorPage<OrderDTO> cursorPage = new CursorPage<>(List.of(testOrderDTO), 1, "next-token", true);
+
+    when(orderService.getOrdersAfter(OrderStatus.PENDING, "token", 1)).thenReturn(cursorPage);
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/cursor")
+        .param("status", "PENDING")
+        .param("after", "token")
+        .param("size", "1"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.data.content", hasSize(1)))
+      .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+      .andExpect(jsonPath("$.data.hasNext").value(true))
+      .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+    verify(orderService).getOrdersAfter(OrderStatus.PENDING, "token", 1);
+  }
+
+  @Test
+  @DisplayName("Get Orders By Cursor - Invalid Cursor - 400")
+  void testGetOrdersByCursor_InvalidCursor() throws Exception {
+    // Arrange
+    when(orderService.getOrdersAfter(null, "bad", 10))
+      .thenThrow(new ValidationException("Invalid cursor: bad"));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/cursor").param("after", "bad"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value(containsString("Invalid cursor")));
+  }
+
   @Test
   @DisplayName("Update Status - Success - 200")
   void testUpdateOrderStatus_Success() throws Exception {
@@ -295,6 +477,42 @@ public class OrderControllerTest {
     verify(orderService).updateOrderStatus(999L, OrderStatus.PROCESSING);
   }
 
+  @Test
+  @DisplayName("Update Status Batch - Partial Failure - 207")
+  void testUpdateOrderStatuses_PartialFailure() throws Exception {
+    // Arrange
+    BatchUpdateOrderStatusRequest batchRequest =
+      BatchUpdateOrderStatusRequest.forIds(List.of(1L, 999L), OrderStatus.SHIPPED);
+    BatchUpdateOrderStatusResponse batchResponse = BatchUpdateOrderStatusResponse.of(OrderStatus.SHIPPED, List.of(
+      BatchStatusResult.success(1L),
+      BatchStatusResult.error(999L, "Order not found with id: 999")));
+
+    when(orderService.updateOrderStatuses(any(BatchUpdateOrderStatusRequest.class))).thenReturn(batchResponse);
+
+    // Act & Assert
+    mockMvc.perform(patch("/api/v1/orders/batch/status")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(batchRequest)))
+      .andExpect(status().isMultiStatus())
+      .andExpect(jsonPath("$.data.newStatus").value("SHIPPED"))
+      .andExpect(jsonPath("$.data.succeeded").value(1))
+      .andExpect(jsonPath("$.data.results[0].orderId").value(1))
+      .andExpect(jsonPath("$.data.results[1].status").value("error"))
+      .andExpect(jsonPath("$.data.results[1].error").value("Order not found with id: 999"));
+  }
+
+  @Test
+  @DisplayName("Update Status Batch - Missing Status - 400")
+  void testUpdateOrderStatuses_MissingStatus() throws Exception {
+    // Act & Assert
+    mockMvc.perform(patch("/api/v1/orders/batch/status")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"orderIds\": [1, 2]}"))
+      .andExpect(status().isBadRequest());
+
+    verify(orderService, never()).updateOrderStatuses(any());
+  }
+
   @Test
   @DisplayName("Cancel Order - Success - 200")
   void testCancelOrder_Success() throws Exception {
@@ -339,4 +557,82 @@ public class OrderControllerTest {
 
     verify(orderService).cancelOrder(999L);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("GET /api/v1/orders/export - CSV Streamed As Attachment")
+  void testExportOrders_Csv() throws Exception {
+    // Arrange
+    when(orderExportService.exportOrders(eq(OrderStatus.SHIPPED), eq(OrderExportService.Format.CSV), any()))
+      .thenAnswer(invocation -> {
+        invocation.<OutputStream>getArgument(2).write("order_id\n1\n".getBytes());
+        return 1L;
+      });
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/export")
+        .param("status", "SHIPPED")
+        .param("format", "csv"))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith("text/csv"))
+      .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.csv\""))
+      .andExpect(content().string("order_id\n1\n"));
+  }
+
+  @Test
+  @DisplayName("GET /api/v1/orders/export - Unsupported Format - 400")
+  void testExportOrders_UnsupportedFormat() throws Exception {
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/export")
+        .param("format", "xml"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value(containsString("Unsupported export format")));
+
+    verifyNoInteractions(orderExportService);
+  }
+
+  @Test
+  @DisplayName("GET /api/v1/orders/stream - Filters And Last-Event-ID Passed To Broadcaster")
+  void testStreamOrderChanges_Resume() throws Exception {
+    // Arrange
+    OrderStreamFilter filter = new OrderStreamFilter(7L, "john.doe@example.com", OrderStatus.SHIPPED);
+    when(orderStatusBroadcaster.subscribe(filter, 41L)).thenReturn(new SseEmitter());
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/stream")
+        .param("orderId", "7")
+        .param("customerEmail", "john.doe@example.com")
+        .param("status", "SHIPPED")
+        .header("Last-Event-ID", "41"))
+      .andExpect(request().asyncStarted());
+
+    verify(orderStatusBroadcaster).subscribe(filter, 41L);
+  }
+
+  @Test
+  @DisplayName("GET /api/v1/orders/stream - Invalid Last-Event-ID - 400")
+  void testStreamOrderChanges_InvalidLastEventId() throws Exception {
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/stream")
+        .header("Last-Event-ID", "not-a-number"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.message").value(containsString("Last-Event-ID")));
+
+    verifyNoInteractions(orderStatusBroadcaster);
+  }
+
+  @Test
+  @DisplayName("GET /api/v1/orders/cache/stats - Success")
+  void testGetCacheStats_Success() throws Exception {
+    // Arrange
+    when(orderCache.stats()).thenReturn(new OrderCache.Stats(95, 5, 2, 40, 10000));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/orders/cache/stats"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("success"))
+      .andExpect(jsonPath("$.data.hits").value(95))
+      .andExpect(jsonPath("$.data.misses").value(5))
+      .andExpect(jsonPath("$.data.evictions").value(2))
+      .andExpect(jsonPath("$.data.size").value(40));
+  }
+}
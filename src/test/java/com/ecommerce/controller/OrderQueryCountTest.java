@@ -0,0 +1,163 @@
+package com.ecommerce.controller;
+
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.service.OrderPromotionQueue;
+import com.ecommerce.service.OrderService;
+import com.ecommerce.task.OrderSchedulerTask;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * SQL statement-count tests for the order read endpoints.
+ *
+ * Runs each endpoint against the embedded database with Hibernate statistics
+ * enabled and asserts the number of JDBC statements, for a small and a large
+ * page, so that an N+1 regression fails the build.
+ *
+ * Test Methods: 6
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+public class OrderQueryCountTest {
+
+  private static final int ORDER_COUNT = 30;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  // Keep the background jobs from issuing statements while counting
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private Statistics statistics;
+  private BatchCreateOrderResponse created;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    List<CreateOrderRequest> requests = new ArrayList<>();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      requests.add(createRequest(i));
+    }
+    created = orderService.createOrders(requests);
+    assertEquals(ORDER_COUNT, created.getSucceeded());
+  }
+
+  @Test
+  @DisplayName("Get All Orders - Page, Count And One Item Query")
+  void testGetAllOrders_ConstantStatements() throws Exception {
+    assertStatements(3, get("/api/v1/orders").param("size", "5"));
+    assertStatements(3, get("/api/v1/orders").param("size", "25"));
+  }
+
+  @Test
+  @DisplayName("Get All Orders By Status - Page, Count And One Item Query")
+  void testGetAllOrdersByStatus_ConstantStatements() throws Exception {
+    assertStatements(3, get("/api/v1/orders").param("status", "PENDING").param("size", "5"));
+    assertStatements(3, get("/api/v1/orders").param("status", "PENDING").param("size", "25"));
+  }
+
+  @Test
+  @DisplayName("Get Orders By Cursor - Page And One Item Query")
+  void testGetOrdersByCursor_ConstantStatements() throws Exception {
+    assertStatements(2, get("/api/v1/orders/cursor").param("size", "5"));
+    assertStatements(2, get("/api/v1/orders/cursor").param("size", "25"));
+    assertStatements(2, get("/api/v1/orders/cursor").param("status", "PENDING").param("size", "25"));
+  }
+
+  @Test
+  @DisplayName("Get Order Summaries - Page And Count Query, No Entities")
+  void testGetOrderSummaries_NoItemsOrEntities() throws Exception {
+    for (String size : List.of("5", "25")) {
+      statistics.clear();
+      mockMvc.perform(get("/api/v1/orders/summary").param("status", "PENDING").param("size", size))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content", hasSize(Integer.parseInt(size))))
+        .andExpect(jsonPath("$.data.content[0].orderNumber").exists())
+        .andExpect(jsonPath("$.data.content[0].orderItems").doesNotExist());
+
+      assertEquals(2, statistics.getPrepareStatementCount());
+      assertEquals(0, statistics.getEntityLoadCount());
+    }
+  }
+
+  @Test
+  @DisplayName("Get Order By ID - Single Query")
+  void testGetOrderById_SingleStatement() throws Exception {
+    Long id = created.getResults().get(0).getOrder().getId();
+
+    statistics.clear();
+    mockMvc.perform(get("/api/v1/orders/" + id))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.data.orderItems", hasSize(3)));
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("Get Order By Order Number - Single Query")
+  void testGetOrderByOrderNumber_SingleStatement() {
+    String orderNumber = created.getResults().get(0).getOrder().getOrderNumber();
+
+    statistics.clear();
+    assertEquals(3, orderService.getOrderByOrderNumber(orderNumber).getOrderItems().size());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  private void assertStatements(long expected, RequestBuilder request) throws Exception {
+    statistics.clear();
+    mockMvc.perform(request)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.data.content[0].orderItems", hasSize(3)));
+    assertEquals(expected, statistics.getPrepareStatementCount());
+  }
+
+  private CreateOrderRequest createRequest(int index) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Customer " + index);
+    request.setCustomerEmail("customer" + index + "@example.com");
+
+    List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("19.99"));
+      items.add(item);
+    }
+    request.setOrderItems(items);
+    return request;
+  }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.mapper;
+
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderItemDTO;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderItem;
+import com.ecommerce.entity.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OrderMapper.
+ * <p>
+ * Checks field parity with the ModelMapper configuration the mapper replaced.
+ * <p>
+ * Test Methods: 3
+ */
+public class OrderMapperTest {
+
+  private final OrderMapper orderMapper = new OrderMapper();
+  private ModelMapper modelMapper;
+
+  @BeforeEach
+  void setUp() {
+    // Same configuration as the former ApplicationConfig bean
+    modelMapper = new ModelMapper();
+    modelMapper.getConfiguration()
+      .setSkipNullEnabled(true)
+      .setAmbiguityIgnored(true);
+  }
+
+  @Test
+  @DisplayName("To DTO - Matches ModelMapper Output")
+  void testToDTO_MatchesModelMapper() {
+    // Arrange
+    Order order = createOrder(3);
+
+    // Act
+    OrderDTO expected = modelMapper.map(order, OrderDTO.class);
+    OrderDTO actual = orderMapper.toDTO(order);
+
+    // Assert
+    assertOrderEquals(expected, actual);
+    assertEquals(expected.getOrderItems().size(), actual.getOrderItems().size());
+    for (int i = 0; i < expected.getOrderItems().size(); i++) {
+      assertItemEquals(expected.getOrderItems().get(i), actual.getOrderItems().get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("To DTO - Null Fields Left Unset")
+  void testToDTO_NullFields() {
+    // Arrange
+    Order order = new Order();
+    order.setOrderItems(null);
+
+    // Act
+    OrderDTO expected = modelMapper.map(order, OrderDTO.class);
+    OrderDTO actual = orderMapper.toDTO(order);
+
+    // Assert
+    assertOrderEquals(expected, actual);
+    assertNotNull(actual.getOrderItems());
+    assertTrue(actual.getOrderItems().isEmpty());
+  }
+
+  @Test
+  @DisplayName("To DTO - Item Mapping")
+  void testToDTO_Item() {
+    // Arrange
+    OrderItem item = createOrder(1).getOrderItems().get(0);
+
+    // Act
+    OrderItemDTO dto = orderMapper.toDTO(item);
+
+    // Assert
+    assertItemEquals(modelMapper.map(item, OrderItemDTO.class), dto);
+  }
+
+  private Order createOrder(int itemCount) {
+    Order order = new Order();
+    order.setId(7L);
+    order.setOrderNumber("ORD-20251107-00001");
+    order.setCustomerName("John Doe");
+    order.setCustomerEmail("john.doe@example.com");
+    order.setStatus(OrderStatus.PROCESSING);
+    order.setTotalAmount(new BigDecimal("59.97"));
+    order.setCreatedAt(LocalDateTime.of(2025, 11, 7, 10, 0));
+    order.setUpdatedAt(LocalDateTime.of(2025, 11, 7, 10, 5));
+    order.setOrderItems(new ArrayList<>());
+
+    for (int i = 0; i < itemCount; i++) {
+      OrderItem item = new OrderItem();
+      item.setId(100L + i);
+      item.setProductId(200L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(i + 1);
+      item.setPrice(new BigDecimal("19.99"));
+      item.setCreatedAt(LocalDateTime.of(2025, 11, 7, 10, 0));
+      order.addOrderItem(item);
+    }
+    return order;
+  }
+
+  private void assertOrderEquals(OrderDTO expected, OrderDTO actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getOrderNumber(), actual.getOrderNumber());
+    assertEquals(expected.getCustomerName(), actual.getCustomerName());
+    assertEquals(expected.getCustomerEmail(), actual.getCustomerEmail());
+    assertEquals(expected.getStatus(), actual.getStatus());
+    assertEquals(expected.getTotalAmount(), actual.getTotalAmount());
+    assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+    assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+  }
+
+  private void assertItemEquals(OrderItemDTO expected, OrderItemDTO actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getProductId(), actual.getProductId());
+    assertEquals(expected.getProductName(), actual.getProductName());
+    assertEquals(expected.getQuantity(), actual.getQuantity());
+    assertEquals(expected.getPrice(), actual.getPrice());
+    assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+  }
+}
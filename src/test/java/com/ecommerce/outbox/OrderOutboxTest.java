@@ -0,0 +1,224 @@
+package com.ecommerce.outbox;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.repository.OrderOutboxRepository;
+import com.ecommerce.service.OrderPromotionQueue;
+import com.ecommerce.service.OrderPromotionService;
+import com.ecommerce.service.OrderService;
+import com.ecommerce.task.OrderSchedulerTask;
+import com.ecommerce.task.OutboxRelayTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for the order outbox.
+ *
+ * Runs against the embedded database with the in-memory sink and checks that
+ * events are written with their change, and that the relay drains them in
+ * batches without publishing events claimed by another relay.
+ *
+ * Test Methods: 5
+ */
+@SpringBootTest(properties = {"order.outbox.sink=memory", "order.outbox.batch-size=2"})
+public class OrderOutboxTest {
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderPromotionService promotionService;
+
+  @Autowired
+  private OrderOutboxRelay relay;
+
+  @Autowired
+  private OrderOutboxRepository outboxRepository;
+
+  @SpyBean
+  private InMemoryOrderEventSink sink;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  // Relay and promote only when a test asks for it
+  @MockBean
+  private OutboxRelayTask outboxRelayTask;
+
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    relay.relayPending();
+    sink.clear();
+    clearInvocations(sink);
+  }
+
+  @Test
+  @DisplayName("Outbox - Lifecycle Changes Relayed In Order")
+  void testLifecycleEvents() throws Exception {
+    // Arrange
+    OrderDTO shipped = orderService.createOrder(createRequest("Lifecycle Customer"));
+    orderService.updateOrderStatus(shipped.getId(), OrderStatus.PROCESSING);
+    OrderDTO cancelled = orderService.createOrder(createRequest("Cancelling Customer"));
+    orderService.cancelOrder(cancelled.getId());
+
+    // Act
+    int relayed = relay.relayPending();
+
+    // Assert
+    List<OrderEvent> events = sink.getEvents();
+    assertEquals(4, relayed);
+    assertEquals(List.of(OrderEventType.ORDER_CREATED, OrderEventType.STATUS_CHANGED,
+      OrderEventType.ORDER_CREATED, OrderEventType.ORDER_CANCELLED), events.stream().map(OrderEvent::type).toList());
+    assertEquals(List.of(shipped.getId(), shipped.getId(), cancelled.getId(), cancelled.getId()),
+      events.stream().map(OrderEvent::orderId).toList());
+    assertTrue(events.get(0).payload().contains(shipped.getOrderNumber()));
+    assertEquals(OrderStatus.PENDING, events.get(1).previousStatus());
+    assertEquals(OrderStatus.PROCESSING, events.get(1).status());
+    assertEquals(OrderStatus.PENDING, events.get(3).previousStatus());
+    assertEquals(0, outboxRepository.count());
+  }
+
+  @Test
+  @DisplayName("Outbox - Rolled Back Change Leaves No Event")
+  void testRolledBackChange() {
+    // Arrange
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // Act
+    transactionTemplate.executeWithoutResult(status -> {
+      orderService.createOrder(createRequest("Rolled Back Customer"));
+      status.setRollbackOnly();
+    });
+
+    // Assert
+    assertEquals(0, outboxRepository.count());
+  }
+
+  @Test
+  @DisplayName("Outbox - Promotion Records Every Promoted Order")
+  void testPromotionEvents() throws Exception {
+    // Arrange
+    List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      ids.add(orderService.createOrder(createRequest("Promoted Customer")).getId());
+    }
+    relay.relayPending();
+    sink.clear();
+
+    // Act
+    OrderPromotionService.PromotionChunk chunk =
+      promotionService.promoteNextChunk(ids.get(0) - 1, Long.MAX_VALUE, 100);
+    relay.relayPending();
+
+    // Assert
+    List<OrderEvent> events = sink.getEvents();
+    assertEquals(chunk.promoted(), events.size());
+    assertTrue(events.stream().map(OrderEvent::orderId).toList().containsAll(ids));
+    assertTrue(events.stream().allMatch(event -> event.type() == OrderEventType.STATUS_CHANGED
+      && event.previousStatus() == OrderStatus.PENDING && event.status() == OrderStatus.PROCESSING));
+  }
+
+  @Test
+  @DisplayName("Relay - Drains Backlog In Batches")
+  void testRelayBatches() throws Exception {
+    // Arrange
+    List<CreateOrderRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      requests.add(createRequest("Batch Customer " + i));
+    }
+    orderService.createOrders(requests);
+    assertEquals(5, outboxRepository.count());
+
+    // Act
+    int relayed = relay.relayPending();
+
+    // Assert - batches of 2, 2 and 1, oldest first
+    assertEquals(5, relayed);
+    verify(sink, times(3)).publish(anyList());
+    List<Long> eventIds = sink.getEvents().stream().map(OrderEvent::id).toList();
+    assertEquals(eventIds.stream().sorted().toList(), eventIds);
+    assertEquals(0, outboxRepository.count());
+  }
+
+  @Test
+  @DisplayName("Relay - Skips Events Claimed By Another Instance")
+  void testRelaySkipsClaimedEvents() throws Exception {
+    // Arrange - another relay holds the two oldest of three events
+    List<CreateOrderRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      requests.add(createRequest("Claimed Customer " + i));
+    }
+    orderService.createOrders(requests);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    CountDownLatch claimed = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<OrderEvent> otherBatch = new ArrayList<>();
+    Thread otherRelay = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+      otherBatch.addAll(outboxRepository.claimOldest(2));
+      claimed.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      outboxRepository.delete(otherBatch);
+    }));
+    otherRelay.start();
+    assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+    // Act
+    int relayed;
+    try {
+      relayed = relay.relayPending();
+    } finally {
+      release.countDown();
+      otherRelay.join();
+    }
+
+    // Assert - only the unclaimed event was published here
+    assertEquals(2, otherBatch.size());
+    assertEquals(1, relayed);
+    List<OrderEvent> published = sink.getEvents();
+    assertEquals(1, published.size());
+    assertTrue(otherBatch.stream().noneMatch(event -> event.id() == published.get(0).id()));
+    assertEquals(0, outboxRepository.count());
+  }
+
+  private CreateOrderRequest createRequest(String customerName) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName(customerName);
+    request.setCustomerEmail("outbox@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+}
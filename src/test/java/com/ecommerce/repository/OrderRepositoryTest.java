@@ -10,13 +10,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -261,4 +264,183 @@ public class OrderRepositoryTest {
     Optional<Order> deletedOrder = orderRepository.findById(orderId);
     assertFalse(deletedOrder.isPresent());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Find Ids By Status After - Keyset Chunks")
+  void testFindIdsByStatusAfter_KeysetChunks() {
+    // Act
+    List<Long> firstChunk = orderRepository.findIdsByStatusAfter(OrderStatus.PENDING, 0L, PageRequest.of(0, 1));
+    List<Long> secondChunk = orderRepository.findIdsByStatusAfter(
+      OrderStatus.PENDING, firstChunk.get(0), PageRequest.of(0, 1));
+    List<Long> thirdChunk = orderRepository.findIdsByStatusAfter(
+      OrderStatus.PENDING, secondChunk.get(0), PageRequest.of(0, 1));
+
+    // Assert
+    assertEquals(List.of(order1.getId()), firstChunk);
+    assertEquals(List.of(order3.getId()), secondChunk);
+    assertTrue(thirdChunk.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Update Status By Ids - Only Expected Status Updated")
+  void testUpdateStatusByIds_OnlyExpectedStatus() {
+    // Act - order2 is PROCESSING and must not be touched
+    int updated = orderRepository.updateStatusByIds(
+      List.of(order1.getId(), order2.getId(), order3.getId()),
+      OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+    entityManager.clear();
+
+    // Assert
+    assertEquals(2, updated);
+    assertEquals(OrderStatus.PROCESSING, orderRepository.findById(order1.getId()).orElseThrow().getStatus());
+    assertEquals(OrderStatus.PROCESSING, orderRepository.findById(order3.getId()).orElseThrow().getStatus());
+    assertEquals(0, orderRepository.findAllByStatus(OrderStatus.PENDING, PageRequest.of(0, 10)).getTotalElements());
+  }
+
+  @Test
+  @DisplayName("Update Status If Current - Compare And Set")
+  void testUpdateStatusIfCurrent() {
+    // Act
+    int updated = orderRepository.updateStatusIfCurrent(
+      order1.getId(), OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+    int repeated = orderRepository.updateStatusIfCurrent(
+      order1.getId(), OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+    int missing = orderRepository.updateStatusIfCurrent(
+      999L, OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+    entityManager.clear();
+
+    // Assert
+    assertEquals(1, updated);
+    assertEquals(0, repeated);
+    assertEquals(0, missing);
+    Order reloaded = orderRepository.findById(order1.getId()).orElseThrow();
+    assertEquals(OrderStatus.PROCESSING, reloaded.getStatus());
+    assertEquals(order1.getVersion() + 1, reloaded.getVersion());
+    assertEquals(Optional.of(OrderStatus.PROCESSING), orderRepository.findStatusById(order1.getId()));
+    assertTrue(orderRepository.findStatusById(999L).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Lock Statuses By Ids - Existing Orders Only")
+  void testLockStatusesByIdIn() {
+    // Act
+    List<OrderRepository.StatusRow> rows = orderRepository.lockStatusesByIdIn(
+      List.of(order1.getId(), order2.getId(), 999L));
+
+    // Assert
+    assertEquals(2, rows.size());
+    assertTrue(rows.contains(new OrderRepository.StatusRow(order1.getId(), OrderStatus.PENDING,
+      "john.doe@example.com")));
+    assertTrue(rows.contains(new OrderRepository.StatusRow(order2.getId(), OrderStatus.PROCESSING,
+      "jane.smith@example.com")));
+  }
+
+  @Test
+  @DisplayName("Version - Stale Entity Write Rejected After Status Update")
+  void testVersion_StaleEntityRejected() {
+    // Arrange - a copy read before the status changed
+    entityManager.clear();
+    Order stale = orderRepository.findById(order1.getId()).orElseThrow();
+    entityManager.detach(stale);
+    orderRepository.updateStatusIfCurrent(
+      order1.getId(), OrderStatus.PENDING, OrderStatus.PROCESSING, LocalDateTime.now());
+
+    // Act & Assert
+    assertThrows(OptimisticLockingFailureException.class, () -> {
+      orderRepository.save(stale);
+      entityManager.flush();
+    });
+  }
+
+  @Test
+  @DisplayName("Keyset Page - Walks All Orders Without Gaps")
+  void testKeysetPage_WalksAllOrders() {
+    // Arrange - give two orders the same createdAt so the id tie-breaker is exercised
+    LocalDateTime base = LocalDateTime.of(2025, 11, 7, 10, 0);
+    setCreatedAt(order1, base);
+    setCreatedAt(order2, base);
+    setCreatedAt(order3, base.minusMinutes(1));
+    entityManager.clear();
+
+    // Act
+    List<Order> first = orderRepository.findFirstKeysetPage(PageRequest.of(0, 2));
+    Order last = first.get(1);
+    List<Order> second = orderRepository.findKeysetPageAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+    // Assert
+    assertEquals(order3.getId(), first.get(0).getId());
+    assertEquals(Math.min(order1.getId(), order2.getId()), first.get(1).getId());
+    assertEquals(1, second.size());
+    assertEquals(Math.max(order1.getId(), order2.getId()), second.get(0).getId());
+  }
+
+  @Test
+  @DisplayName("Keyset Page By Status - Filters And Continues After Cursor")
+  void testKeysetPageByStatus() {
+    // Arrange - read back stored timestamps, as a cursor would carry them
+    entityManager.clear();
+
+    // Act
+    List<Order> first = orderRepository.findFirstKeysetPageByStatus(OrderStatus.PENDING, PageRequest.of(0, 1));
+    Order last = first.get(0);
+    List<Order> rest = orderRepository.findKeysetPageByStatusAfter(
+      OrderStatus.PENDING, last.getCreatedAt(), last.getId(), PageRequest.of(0, 10));
+
+    // Assert
+    assertEquals(1, first.size());
+    assertEquals(1, rest.size());
+    assertNotEquals(last.getId(), rest.get(0).getId());
+    assertEquals(OrderStatus.PENDING, rest.get(0).getStatus());
+  }
+
+  @Test
+  @DisplayName("Stream All With Items - Complete Orders In Id Order")
+  void testStreamAllWithItems() {
+    // Arrange - a second item, so the fetch join yields two rows for order1
+    OrderItem extra = new OrderItem();
+    extra.setProductId(104L);
+    extra.setProductName("Docking Station");
+    extra.setQuantity(1);
+    extra.setPrice(new BigDecimal("199.99"));
+    extra.setCreatedAt(LocalDateTime.now());
+    order1.addOrderItem(extra);
+    entityManager.persist(extra);
+    entityManager.flush();
+    entityManager.clear();
+
+    // Act
+    List<Order> streamed;
+    try (Stream<Order> orders = orderRepository.streamAllWithItems()) {
+      streamed = orders.filter(order -> order.getOrderNumber().startsWith("ORD-20251107-0000")).toList();
+    }
+
+    // Assert
+    assertEquals(List.of(order1.getId(), order2.getId(), order3.getId()),
+      streamed.stream().map(Order::getId).toList());
+    assertEquals(2, streamed.get(0).getOrderItems().size());
+    assertEquals(1, streamed.get(1).getOrderItems().size());
+  }
+
+  @Test
+  @DisplayName("Stream All With Items By Status - Filters")
+  void testStreamAllWithItemsByStatus() {
+    // Act
+    List<Order> streamed;
+    try (Stream<Order> orders = orderRepository.streamAllWithItemsByStatus(OrderStatus.PROCESSING)) {
+      streamed = orders.toList();
+    }
+
+    // Assert
+    assertTrue(streamed.stream().allMatch(order -> order.getStatus() == OrderStatus.PROCESSING));
+    assertTrue(streamed.stream().anyMatch(order -> order.getId().equals(order2.getId())));
+  }
+
+  private void setCreatedAt(Order order, LocalDateTime createdAt) {
+    // created_at is not updatable through the entity, so adjust it directly
+    entityManager.getEntityManager()
+      .createNativeQuery("UPDATE orders SET created_at = ?1 WHERE id = ?2")
+      .setParameter(1, createdAt)
+      .setParameter(2, order.getId())
+      .executeUpdate();
+  }
+}
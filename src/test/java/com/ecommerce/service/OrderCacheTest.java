@@ -0,0 +1,209 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OrderCache.
+ *
+ * Tests lookups by both keys, size and time-based eviction, invalidation
+ * after transaction completion, and the counters.
+ */
+public class OrderCacheTest {
+
+  private MutableClock clock;
+  private OrderProperties.Cache settings;
+  private OrderCache cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-11-07T10:00:00Z"));
+    settings = new OrderProperties.Cache();
+    settings.setMaxSize(2);
+    settings.setTimeToLive(Duration.ofMinutes(5));
+    cache = new OrderCache(settings, clock);
+  }
+
+  @Test
+  @DisplayName("Get - Found By Id And Order Number")
+  void testGet_BothKeys() {
+    // Arrange
+    OrderDTO order = order(1L);
+    cache.put(order, cache.loadStamp());
+
+    // Act & Assert
+    assertSame(order, cache.getById(1L));
+    assertSame(order, cache.getByOrderNumber("ORD-20251107-00001"));
+    assertNull(cache.getById(2L));
+    assertNull(cache.getByOrderNumber("ORD-20251107-00002"));
+
+    OrderCache.Stats stats = cache.stats();
+    assertEquals(2, stats.hits());
+    assertEquals(2, stats.misses());
+  }
+
+  @Test
+  @DisplayName("Put - Least Recently Used Entry Evicted When Full")
+  void testPut_EvictsLeastRecentlyUsed() {
+    // Arrange
+    cache.put(order(1L), cache.loadStamp());
+    cache.put(order(2L), cache.loadStamp());
+    cache.getById(1L);
+
+    // Act
+    cache.put(order(3L), cache.loadStamp());
+
+    // Assert
+    assertNotNull(cache.getById(1L));
+    assertNull(cache.getById(2L));
+    assertNull(cache.getByOrderNumber("ORD-20251107-00002"));
+    assertNotNull(cache.getById(3L));
+    assertEquals(1, cache.stats().evictions());
+    assertEquals(2, cache.stats().size());
+  }
+
+  @Test
+  @DisplayName("Get - Expired Entry Is A Miss")
+  void testGet_Expired() {
+    // Arrange
+    cache.put(order(1L), cache.loadStamp());
+
+    // Act
+    clock.instant = clock.instant.plus(Duration.ofMinutes(5));
+
+    // Assert
+    assertNull(cache.getById(1L));
+    assertEquals(1, cache.stats().evictions());
+    assertEquals(0, cache.stats().size());
+  }
+
+  @Test
+  @DisplayName("Evict - Removes Both Keys")
+  void testEvict_WithoutTransaction() {
+    // Arrange
+    cache.put(order(1L), cache.loadStamp());
+
+    // Act
+    cache.evictAfterCompletion(1L);
+
+    // Assert
+    assertNull(cache.getById(1L));
+    assertNull(cache.getByOrderNumber("ORD-20251107-00001"));
+  }
+
+  @Test
+  @DisplayName("Evict - Deferred Until Transaction Completes")
+  void testEvict_AfterCompletion() {
+    // Arrange
+    cache.put(order(1L), cache.loadStamp());
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // Act
+      cache.evictAfterCompletion(List.of(1L));
+
+      // Assert - still cached until the transaction completes
+      assertNotNull(cache.getById(1L));
+      for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+      }
+      assertNull(cache.getById(1L));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("Put - Dropped When Invalidated During Load")
+  void testPut_StaleLoadDropped() {
+    // Arrange - a lookup starts loading, then the order changes
+    OrderCache.LoadStamp stamp = cache.loadStamp();
+    cache.evictAfterCompletion(1L);
+
+    // Act
+    cache.put(order(1L), stamp);
+
+    // Assert
+    assertNull(cache.getById(1L));
+  }
+
+  @Test
+  @DisplayName("Put - Kept When Another Stripe Is Invalidated During Load")
+  void testPut_OtherStripeInvalidated() {
+    // Arrange - enough room for ids 1 and 2 to fall into different stripes
+    settings.setMaxSize(1024);
+    OrderCache striped = new OrderCache(settings, clock);
+    OrderCache.LoadStamp stamp = striped.loadStamp();
+    striped.evictAfterCompletion(2L);
+
+    // Act
+    striped.put(order(1L), stamp);
+
+    // Assert
+    assertNotNull(striped.getById(1L));
+  }
+
+  @Test
+  @DisplayName("Disabled - Nothing Cached")
+  void testDisabled() {
+    // Arrange
+    settings.setEnabled(false);
+    OrderCache disabled = new OrderCache(settings, clock);
+
+    // Act
+    disabled.put(order(1L), disabled.loadStamp());
+
+    // Assert
+    assertNull(disabled.getById(1L));
+    assertEquals(0, disabled.stats().size());
+  }
+
+  private static OrderDTO order(Long id) {
+    OrderDTO order = new OrderDTO();
+    order.setId(id);
+    order.setOrderNumber(String.format("ORD-20251107-%05d", id));
+    order.setStatus(OrderStatus.PENDING);
+    return order;
+  }
+
+  /**
+   * Clock whose time can be moved by the test.
+   */
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.task.OrderSchedulerTask;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement-count tests for order cancellation.
+ *
+ * Cancels orders of different sizes against the embedded database and checks
+ * that the number of JDBC statements does not grow with the number of items,
+ * which the database removes through its ON DELETE CASCADE foreign key.
+ *
+ * Test Methods: 2
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderCancellationStatementCountTest {
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  // Keep the background jobs from promoting the orders before they are cancelled
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("Cancel Order - One Statement Regardless Of Item Count")
+  void testCancelOrder_ConstantStatements() {
+    OrderDTO small = orderService.createOrder(createRequest(1));
+    OrderDTO large = orderService.createOrder(createRequest(200));
+
+    statistics.clear();
+    orderService.cancelOrder(small.getId());
+    long smallStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    orderService.cancelOrder(large.getId());
+    long largeStatements = statistics.getPrepareStatementCount();
+
+    assertEquals(1, smallStatements);
+    assertEquals(1, largeStatements);
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+
+  @Test
+  @DisplayName("Cancel Order - Items Removed By The Database")
+  void testCancelOrder_ItemsRemoved() {
+    OrderDTO order = orderService.createOrder(createRequest(5));
+
+    orderService.cancelOrder(order.getId());
+
+    assertEquals(0, jdbcTemplate.queryForObject(
+      "SELECT COUNT(*) FROM order_items WHERE order_id = ?", Integer.class, order.getId()));
+    assertEquals(0, jdbcTemplate.queryForObject(
+      "SELECT COUNT(*) FROM orders WHERE id = ?", Integer.class, order.getId()));
+  }
+
+  private CreateOrderRequest createRequest(int itemCount) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Cancel Customer");
+    request.setCustomerEmail("cancel@example.com");
+
+    List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("9.99"));
+      items.add(item);
+    }
+    request.setOrderItems(items);
+    return request;
+  }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement-count benchmark for order creation.
+ *
+ * Creates orders of increasing size against the embedded database and counts
+ * the JDBC statements Hibernate prepares per order. With pooled sequence ids
+ * and JDBC batching the count stays flat as the number of items grows; with
+ * IDENTITY ids it grew by one INSERT per item.
+ *
+ * Test Methods: 2
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderCreationStatementCountTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderCreationStatementCountTest.class);
+
+  private static final int ORDERS_PER_SIZE = 20;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  // Keep new orders from being promoted while counting
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    // Warm up so that sequence blocks are already allocated
+    orderService.createOrder(createRequest(1));
+  }
+
+  @Test
+  @DisplayName("Create Order - Statements Per Order Independent Of Item Count")
+  void testCreateOrder_StatementsPerOrder() {
+    double singleItem = measureStatementsPerOrder(1);
+    double tenItems = measureStatementsPerOrder(10);
+    double fiftyItems = measureStatementsPerOrder(50);
+
+    logger.info("Statements per created order: 1 item={}, 10 items={}, 50 items={}",
+      singleItem, tenItems, fiftyItems);
+
+    // One order INSERT, one batched item INSERT, plus amortised sequence calls
+    assertTrue(singleItem <= 3.0, "1 item: " + singleItem);
+    assertTrue(tenItems <= 3.0, "10 items: " + tenItems);
+    assertTrue(fiftyItems <= 3.5, "50 items: " + fiftyItems);
+  }
+
+  @Test
+  @DisplayName("Create Order - Items Inserted As One Batch")
+  void testCreateOrder_ItemsInsertedInOneBatch() {
+    statistics.clear();
+
+    orderService.createOrder(createRequest(50));
+
+    assertEquals(51, statistics.getEntityInsertCount());
+    assertTrue(statistics.getPrepareStatementCount() <= 4,
+      "prepared statements: " + statistics.getPrepareStatementCount());
+  }
+
+  private double measureStatementsPerOrder(int itemCount) {
+    statistics.clear();
+    for (int i = 0; i < ORDERS_PER_SIZE; i++) {
+      orderService.createOrder(createRequest(itemCount));
+    }
+    return (double) statistics.getPrepareStatementCount() / ORDERS_PER_SIZE;
+  }
+
+  private CreateOrderRequest createRequest(int itemCount) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Bench Customer");
+    request.setCustomerEmail("bench@example.com");
+
+    List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("9.99"));
+      items.add(item);
+    }
+    request.setOrderItems(items);
+    return request;
+  }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.task.OrderSchedulerTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OrderDeadlines and the OrderDeadlineTask.
+ *
+ * Runs against the embedded database with deadlines of a second or two and
+ * the promotion of new orders switched off, and checks that stale PENDING
+ * orders are cancelled, overdue PROCESSING orders flagged, changes move or
+ * remove deadlines, and deadlines are rebuilt from the database.
+ *
+ * Test Methods: 3
+ */
+@SpringBootTest(properties = {
+  "order.deadlines.pending-timeout=1s",
+  "order.deadlines.processing-sla=2s",
+  "order.deadlines.tick=PT0.1S"
+})
+public class OrderDeadlinesTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderDeadlines orderDeadlines;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private OrderProperties orderProperties;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  // New orders stay PENDING unless a test moves them
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  @Test
+  @DisplayName("Deadlines - Stale PENDING Cancelled, Overdue PROCESSING Flagged")
+  void testDeadlines_Fired() throws Exception {
+    // Arrange
+    Long pendingId = orderService.createOrder(createRequest(1)).getId();
+    Long processingId = orderService.createOrder(createRequest(2)).getId();
+    orderService.updateOrderStatus(processingId, OrderStatus.PROCESSING);
+
+    // Act & Assert - the PENDING order goes after a second, the other is flagged a second later
+    awaitTrue(() -> !exists(pendingId), "PENDING order was not cancelled");
+    assertTrue(exists(processingId));
+    assertNull(slaBreachedAt(processingId));
+
+    awaitTrue(() -> slaBreachedAt(processingId) != null, "PROCESSING order was not flagged");
+    assertEquals(OrderStatus.PROCESSING.name(), jdbcTemplate.queryForObject(
+      "SELECT status FROM orders WHERE id = ?", String.class, processingId));
+    assertFalse(orderDeadlines.isTracked(processingId));
+    assertNotNull(orderService.getOrderById(processingId).getSlaBreachedAt());
+  }
+
+  @Test
+  @DisplayName("Deadlines - Moved By Status Changes, Removed By Cancellation")
+  void testDeadlines_TrackChanges() {
+    // Arrange
+    Long shippedId = orderService.createOrder(createRequest(3)).getId();
+    Long cancelledId = orderService.createOrder(createRequest(4)).getId();
+    assertTrue(orderDeadlines.isTracked(shippedId));
+    assertTrue(orderDeadlines.isTracked(cancelledId));
+
+    // Act
+    orderService.updateOrderStatus(shippedId, OrderStatus.PROCESSING);
+    boolean trackedWhileProcessing = orderDeadlines.isTracked(shippedId);
+    orderService.updateOrderStatus(shippedId, OrderStatus.SHIPPED);
+    orderService.cancelOrder(cancelledId);
+
+    // Assert
+    assertTrue(trackedWhileProcessing);
+    assertFalse(orderDeadlines.isTracked(shippedId));
+    assertFalse(orderDeadlines.isTracked(cancelledId));
+  }
+
+  @Test
+  @DisplayName("Rebuild - Deadlines Loaded From The Database")
+  void testRebuild() {
+    // Arrange
+    Long pendingId = orderService.createOrder(createRequest(5)).getId();
+    Long flaggedId = orderService.createOrder(createRequest(6)).getId();
+    Long shippedId = orderService.createOrder(createRequest(7)).getId();
+    orderService.updateOrderStatus(flaggedId, OrderStatus.PROCESSING);
+    orderService.updateOrderStatus(shippedId, OrderStatus.PROCESSING);
+    orderService.updateOrderStatus(shippedId, OrderStatus.SHIPPED);
+    jdbcTemplate.update("UPDATE orders SET sla_breached_at = ? WHERE id = ?",
+      new Timestamp(System.currentTimeMillis()), flaggedId);
+    // Keep the running deadlines from cancelling the PENDING order during the test
+    jdbcTemplate.update("UPDATE orders SET updated_at = ? WHERE id = ?",
+      new Timestamp(System.currentTimeMillis() + Duration.ofHours(1).toMillis()), pendingId);
+
+    // Act
+    OrderDeadlines rebuilt = new OrderDeadlines(orderRepository, orderProperties);
+    rebuilt.rebuild();
+
+    // Assert
+    assertTrue(rebuilt.isTracked(pendingId));
+    assertFalse(rebuilt.isTracked(flaggedId));
+    assertFalse(rebuilt.isTracked(shippedId));
+  }
+
+  private boolean exists(Long orderId) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE id = ?", Integer.class, orderId) > 0;
+  }
+
+  private Timestamp slaBreachedAt(Long orderId) {
+    return jdbcTemplate.queryForObject("SELECT sla_breached_at FROM orders WHERE id = ?", Timestamp.class, orderId);
+  }
+
+  private void awaitTrue(BooleanSupplier condition, String message) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, message);
+      Thread.sleep(50);
+    }
+  }
+
+  private CreateOrderRequest createRequest(int index) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Deadline Customer " + index);
+    request.setCustomerEmail("deadline" + index + "@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+}
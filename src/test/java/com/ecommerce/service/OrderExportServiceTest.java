@@ -0,0 +1,150 @@
+package com.ecommerce.service;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.ValidationException;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.task.OrderSchedulerTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for OrderExportService.
+ *
+ * Exports the orders of the embedded database as NDJSON and CSV and checks
+ * the output shape, filtering and CSV quoting.
+ *
+ * Test Methods: 4
+ */
+@SpringBootTest
+public class OrderExportServiceTest {
+
+  @Autowired
+  private OrderExportService exportService;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  // Keep the background jobs from changing statuses during the export
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  @Test
+  @DisplayName("Export NDJSON - One Order Per Line With Items")
+  void testExportNdjson() throws Exception {
+    // Arrange
+    OrderDTO created = orderService.createOrder(createRequest("Ndjson Customer", 2));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    long count = exportService.exportOrders(null, OrderExportService.Format.NDJSON, out);
+
+    // Assert
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(orderRepository.count(), count);
+    assertEquals(count, lines.length);
+
+    OrderDTO exported = null;
+    for (String line : lines) {
+      OrderDTO order = objectMapper.readValue(line, OrderDTO.class);
+      if (order.getId().equals(created.getId())) {
+        exported = order;
+      }
+    }
+    assertNotNull(exported);
+    assertEquals(created.getOrderNumber(), exported.getOrderNumber());
+    assertEquals(2, exported.getOrderItems().size());
+  }
+
+  @Test
+  @DisplayName("Export NDJSON - Status Filter")
+  void testExportNdjson_StatusFilter() throws Exception {
+    // Arrange
+    orderService.createOrder(createRequest("Pending Customer", 1));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    long count = exportService.exportOrders(OrderStatus.PENDING, OrderExportService.Format.NDJSON, out);
+
+    // Assert
+    assertTrue(count > 0);
+    for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+      assertEquals(OrderStatus.PENDING, objectMapper.readValue(line, OrderDTO.class).getStatus());
+    }
+  }
+
+  @Test
+  @DisplayName("Export CSV - One Row Per Item, Quoted Fields")
+  void testExportCsv() throws Exception {
+    // Arrange
+    OrderDTO created = orderService.createOrder(createRequest("Doe, \"JD\" John", 3));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // Act
+    exportService.exportOrders(null, OrderExportService.Format.CSV, out);
+
+    // Assert
+    String[] rows = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertTrue(rows[0].startsWith("order_id,order_number,customer_name,"));
+
+    List<String> orderRows = new ArrayList<>();
+    for (String row : rows) {
+      if (row.startsWith(created.getId() + ",")) {
+        orderRows.add(row);
+      }
+    }
+    assertEquals(3, orderRows.size());
+    assertTrue(orderRows.get(0).startsWith(
+      created.getId() + "," + created.getOrderNumber() + ",\"Doe, \"\"JD\"\" John\",csv@example.com,PENDING,59.97,"),
+      orderRows.get(0));
+    assertTrue(orderRows.stream().anyMatch(row -> row.endsWith(",100,Product 0,1,19.99")), orderRows.toString());
+  }
+
+  @Test
+  @DisplayName("Format - Parsed Case-Insensitively, Unknown Rejected")
+  void testFormatFromParameter() {
+    assertEquals(OrderExportService.Format.CSV, OrderExportService.Format.fromParameter("CSV"));
+    assertEquals(OrderExportService.Format.NDJSON, OrderExportService.Format.fromParameter("ndjson"));
+    assertThrows(ValidationException.class, () -> OrderExportService.Format.fromParameter("xml"));
+  }
+
+  private CreateOrderRequest createRequest(String customerName, int itemCount) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName(customerName);
+    request.setCustomerEmail("csv@example.com");
+
+    List<CreateOrderRequest.OrderItemRequest> items = new ArrayList<>();
+    for (int i = 0; i < itemCount; i++) {
+      CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+      item.setProductId(100L + i);
+      item.setProductName("Product " + i);
+      item.setQuantity(1);
+      item.setPrice(new BigDecimal("19.99"));
+      items.add(item);
+    }
+    request.setOrderItems(items);
+    return request;
+  }
+}
@@ -0,0 +1,254 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.exception.OrderCreationUnavailableException;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.task.OrderSchedulerTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for OrderGroupCommitter.
+ *
+ * Runs against the embedded database with group commit enabled and checks
+ * that orders created at the same time share transactions, that a failing
+ * order only fails its own caller, and that orders created within a
+ * caller's transaction are written in that transaction. Groups are observed
+ * through {@link OrderMetrics}. Standalone committers check that callers are
+ * answered when the writer hangs or fails with an Error, and after shutdown.
+ *
+ * Test Methods: 5
+ */
+@SpringBootTest(properties = {
+  "order.group-commit.enabled=true",
+  "order.group-commit.window=200ms",
+  "order.group-commit.max-size=16"})
+public class OrderGroupCommitterTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @MockBean
+  private OrderMetrics orderMetrics;
+
+  // Keep the background jobs from touching the new orders
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private final BlockingQueue<Integer> groups = new LinkedBlockingQueue<>();
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(invocation -> groups.add(invocation.getArgument(0)))
+      .when(orderMetrics).groupCommitted(anyInt(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Concurrent Orders Share Few Transactions")
+  void testCreateOrder_ConcurrentOrdersGrouped() throws Exception {
+    // Arrange
+    int orders = 48;
+    List<CreateOrderRequest> requests = new ArrayList<>(orders);
+    for (int i = 0; i < orders; i++) {
+      requests.add(createRequest("Grouped Customer " + i));
+    }
+
+    // Act
+    List<OrderDTO> created = new ArrayList<>(orders);
+    for (Future<OrderDTO> result : createConcurrently(requests)) {
+      created.add(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    // Assert - every caller gets its own order
+    for (int i = 0; i < orders; i++) {
+      assertEquals("Grouped Customer " + i, created.get(i).getCustomerName());
+    }
+    List<Long> ids = created.stream().map(OrderDTO::getId).distinct().toList();
+    assertEquals(orders, ids.size());
+    assertEquals(orders, orderRepository.findAllById(ids).size());
+
+    int grouped = 0;
+    int commits = 0;
+    while (grouped < orders) {
+      int size = groups.take();
+      assertTrue(size <= 16, "Group of " + size + " orders exceeds the maximum size");
+      grouped += size;
+      commits++;
+    }
+    assertEquals(orders, grouped);
+    assertTrue(commits <= orders / 4, orders + " orders took " + commits + " commits");
+  }
+
+  @Test
+  @DisplayName("Create Order - Failing Order Fails Only Its Own Caller")
+  void testCreateOrder_FailingOrderFailsAlone() throws Exception {
+    // Arrange - the customer name does not fit its column
+    List<CreateOrderRequest> requests = List.of(
+      createRequest("Grouped Customer A"),
+      createRequest("X".repeat(200)),
+      createRequest("Grouped Customer B"));
+
+    // Act
+    List<Future<OrderDTO>> results = createConcurrently(requests);
+
+    // Assert
+    assertEquals("Grouped Customer A", results.get(0).get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getCustomerName());
+    ExecutionException failure = assertThrows(ExecutionException.class,
+      () -> results.get(1).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertInstanceOf(DataAccessException.class, failure.getCause());
+    assertEquals("Grouped Customer B", results.get(2).get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getCustomerName());
+  }
+
+  @Test
+  @DisplayName("Create Order - Caller's Transaction Contains The Order")
+  void testCreateOrder_InCallerTransaction() {
+    // Arrange
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // Act - a caller that rolls back after creating the order
+    Long orderId = transactionTemplate.execute(status -> {
+      OrderDTO order = orderService.createOrder(createRequest("Rolled Back Customer"));
+      status.setRollbackOnly();
+      return order.getId();
+    });
+
+    // Assert
+    assertNotNull(orderId);
+    assertFalse(orderRepository.existsById(orderId));
+    verify(orderMetrics, never()).groupCommitted(anyInt(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Submit - Timed Out And Stopped Committer Answers The Caller")
+  void testSubmit_TimeoutAndShutdown() {
+    // Arrange - a writer that never finishes on its own
+    OrderProperties.GroupCommit settings = new OrderProperties.GroupCommit();
+    settings.setWindow(Duration.ZERO);
+    settings.setCommitters(1);
+    settings.setTimeout(Duration.ofMillis(100));
+    CountDownLatch release = new CountDownLatch(1);
+    OrderGroupCommitter committer = new OrderGroupCommitter(settings, requests -> {
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(ex);
+      }
+      return List.of(new OrderDTO());
+    }, OrderMetrics.NOOP);
+
+    try {
+      // Act & Assert
+      assertThrows(OrderCreationUnavailableException.class,
+        () -> committer.submit(createRequest("Waiting Customer")));
+      committer.shutdown();
+      assertThrows(OrderCreationUnavailableException.class,
+        () -> committer.submit(createRequest("Late Customer")));
+    } finally {
+      release.countDown();
+      committer.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("Submit - Error In Writer Fails The Group And Keeps The Committer")
+  void testSubmit_ErrorFailsGroup() {
+    // Arrange - the first write fails with an Error, later ones succeed
+    OrderProperties.GroupCommit settings = new OrderProperties.GroupCommit();
+    settings.setWindow(Duration.ZERO);
+    settings.setCommitters(1);
+    AtomicBoolean failed = new AtomicBoolean();
+    OrderGroupCommitter committer = new OrderGroupCommitter(settings, requests -> {
+      if (failed.compareAndSet(false, true)) {
+        throw new StackOverflowError();
+      }
+      return requests.stream().map(request -> new OrderDTO()).toList();
+    }, OrderMetrics.NOOP);
+
+    try {
+      // Act & Assert
+      assertThrows(StackOverflowError.class, () -> committer.submit(createRequest("Error Customer")));
+      assertNotNull(committer.submit(createRequest("Next Customer")));
+    } finally {
+      committer.shutdown();
+    }
+  }
+
+  /**
+   * Creates the orders from one thread each, all released at once.
+   */
+  private List<Future<OrderDTO>> createConcurrently(List<CreateOrderRequest> requests) throws InterruptedException {
+    ExecutorService callers = Executors.newFixedThreadPool(requests.size());
+    try {
+      CountDownLatch ready = new CountDownLatch(requests.size());
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<OrderDTO>> results = new ArrayList<>(requests.size());
+      for (CreateOrderRequest request : requests) {
+        results.add(callers.submit(() -> {
+          ready.countDown();
+          start.await();
+          return orderService.createOrder(request);
+        }));
+      }
+      assertTrue(ready.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      start.countDown();
+      return results;
+    } finally {
+      callers.shutdown();
+    }
+  }
+
+  private CreateOrderRequest createRequest(String customerName) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName(customerName);
+    request.setCustomerEmail("grouped@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+}
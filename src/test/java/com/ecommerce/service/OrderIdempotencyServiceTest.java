@@ -0,0 +1,307 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.exception.IdempotencyKeyConflictException;
+import com.ecommerce.exception.OrderCreationUnavailableException;
+import com.ecommerce.exception.ValidationException;
+import com.ecommerce.repository.IdempotencyKeyRepository;
+import com.ecommerce.service.OrderIdempotencyService.IdempotentOrder;
+import com.ecommerce.task.OrderSchedulerTask;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for OrderIdempotencyService.
+ *
+ * Runs against the embedded database and checks replays, concurrent
+ * duplicates and their wait timeout, keys stored by another instance or
+ * forgotten in memory, expiry and conflicts.
+ *
+ * Test Methods: 10
+ */
+@SpringBootTest
+public class OrderIdempotencyServiceTest {
+
+  @Autowired
+  private OrderIdempotencyService idempotencyService;
+
+  @SpyBean
+  private OrderService orderService;
+
+  @Autowired
+  private IdempotencyKeyRepository keyRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private OrderProperties orderProperties;
+
+  // Keep the background jobs from changing statuses during the tests
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  @Test
+  @DisplayName("Create Order - Repeated Key Returns The First Order")
+  void testCreateOrder_Replay() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+
+    // Act
+    IdempotentOrder first = idempotencyService.createOrder(key, createRequest("Replay Customer"));
+    IdempotentOrder second = idempotencyService.createOrder(key, createRequest("Replay Customer"));
+
+    // Assert
+    assertFalse(first.replayed());
+    assertTrue(second.replayed());
+    assertEquals(first.order().getId(), second.order().getId());
+    assertEquals(first.order().getOrderNumber(), second.order().getOrderNumber());
+    verify(orderService, times(1)).createOrder(any(PreparedOrder.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Concurrent Duplicates Insert Once")
+  void testCreateOrder_ConcurrentDuplicates() throws Exception {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<IdempotentOrder>> results = new ArrayList<>();
+
+    // Act
+    try {
+      for (int i = 0; i < threads; i++) {
+        Callable<IdempotentOrder> call = () -> {
+          start.await();
+          return idempotencyService.createOrder(key, createRequest("Concurrent Customer"));
+        };
+        results.add(executor.submit(call));
+      }
+      start.countDown();
+
+      // Assert
+      Set<Long> orderIds = ConcurrentHashMap.newKeySet();
+      int created = 0;
+      for (Future<IdempotentOrder> result : results) {
+        IdempotentOrder order = result.get();
+        orderIds.add(order.order().getId());
+        created += order.replayed() ? 0 : 1;
+      }
+      assertEquals(1, orderIds.size());
+      assertEquals(1, created);
+      verify(orderService, times(1)).createOrder(any(PreparedOrder.class));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Create Order - Duplicate Stops Waiting After The Wait Timeout")
+  void testCreateOrder_DuplicateWaitTimeout() throws Exception {
+    // Arrange - the first request stays inside its transaction until released
+    OrderProperties properties = new OrderProperties();
+    properties.getIdempotency().setWaitTimeout(Duration.ofMillis(100));
+    OrderIdempotencyService service = new OrderIdempotencyService(orderService, keyRepository, objectMapper,
+      transactionManager, properties, Clock.systemDefaultZone());
+    String key = UUID.randomUUID().toString();
+    CountDownLatch inserting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      inserting.countDown();
+      release.await();
+      return invocation.callRealMethod();
+    }).when(orderService).createOrder(any(PreparedOrder.class));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<IdempotentOrder> first = executor.submit(
+        () -> service.createOrder(key, createRequest("Slow Customer")));
+      assertTrue(inserting.await(10, TimeUnit.SECONDS));
+
+      // Act & Assert
+      assertThrows(OrderCreationUnavailableException.class,
+        () -> service.createOrder(key, createRequest("Slow Customer")));
+      release.countDown();
+      IdempotentOrder created = first.get(10, TimeUnit.SECONDS);
+      IdempotentOrder replay = service.createOrder(key, createRequest("Slow Customer"));
+      assertTrue(replay.replayed());
+      assertEquals(created.order().getId(), replay.order().getId());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Create Order - Key Stored By Another Instance Is Replayed")
+  void testCreateOrder_KeyFromDatabase() {
+    // Arrange - a second service has its own in-memory map but shares the table
+    String key = UUID.randomUUID().toString();
+    IdempotentOrder first = idempotencyService.createOrder(key, createRequest("Shared Customer"));
+    OrderIdempotencyService otherInstance = newService(Clock.systemDefaultZone());
+
+    // Act
+    IdempotentOrder second = otherInstance.createOrder(key, createRequest("Shared Customer"));
+
+    // Assert
+    assertTrue(second.replayed());
+    assertEquals(first.order().getId(), second.order().getId());
+    verify(orderService, times(1)).createOrder(any(PreparedOrder.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Replay Returns The Original Response")
+  void testCreateOrder_ReplayOriginalResponse() {
+    // Arrange - the order is cancelled after the first request
+    String key = UUID.randomUUID().toString();
+    IdempotentOrder first = idempotencyService.createOrder(key, createRequest("Snapshot Customer"));
+    orderService.cancelOrder(first.order().getId());
+
+    // Act
+    IdempotentOrder local = idempotencyService.createOrder(key, createRequest("Snapshot Customer"));
+    IdempotentOrder stored = newService(Clock.systemDefaultZone())
+      .createOrder(key, createRequest("Snapshot Customer"));
+
+    // Assert
+    for (IdempotentOrder replay : List.of(local, stored)) {
+      assertTrue(replay.replayed());
+      assertEquals(first.order().getId(), replay.order().getId());
+      assertEquals(first.order().getOrderNumber(), replay.order().getOrderNumber());
+      assertEquals(OrderStatus.PENDING, replay.order().getStatus());
+    }
+  }
+
+  @Test
+  @DisplayName("Create Order - Key Forgotten In Memory Is Replayed From The Database")
+  void testCreateOrder_EvictedKey() {
+    // Arrange - a service that remembers a single key
+    OrderProperties properties = new OrderProperties();
+    properties.getIdempotency().setMaxSize(1);
+    OrderIdempotencyService service = new OrderIdempotencyService(orderService, keyRepository, objectMapper,
+      transactionManager, properties, Clock.systemDefaultZone());
+    String key = UUID.randomUUID().toString();
+    IdempotentOrder first = service.createOrder(key, createRequest("Evicted Customer"));
+    service.createOrder(UUID.randomUUID().toString(), createRequest("Other Customer"));
+
+    // Act
+    IdempotentOrder replay = service.createOrder(key, createRequest("Evicted Customer"));
+
+    // Assert
+    assertTrue(replay.replayed());
+    assertEquals(first.order().getId(), replay.order().getId());
+    verify(orderService, times(2)).createOrder(any(PreparedOrder.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Expired Key Creates A New Order")
+  void testCreateOrder_ExpiredKey() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+    IdempotentOrder first = idempotencyService.createOrder(key, createRequest("Expired Customer"));
+    Duration pastTtl = orderProperties.getIdempotency().getTimeToLive().plusMinutes(1);
+    OrderIdempotencyService later = newService(Clock.offset(Clock.systemDefaultZone(), pastTtl));
+
+    // Act
+    IdempotentOrder second = later.createOrder(key, createRequest("Expired Customer"));
+
+    // Assert
+    assertFalse(second.replayed());
+    assertNotEquals(first.order().getId(), second.order().getId());
+    assertEquals(second.order().getId(), keyRepository.find(key).orElseThrow().orderId());
+  }
+
+  @Test
+  @DisplayName("Create Order - Key Reused With Different Request Is Rejected")
+  void testCreateOrder_DifferentRequest() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+    idempotencyService.createOrder(key, createRequest("Original Customer"));
+
+    // Act & Assert
+    assertThrows(IdempotencyKeyConflictException.class,
+      () -> idempotencyService.createOrder(key, createRequest("Other Customer")));
+    assertThrows(IdempotencyKeyConflictException.class,
+      () -> newService(Clock.systemDefaultZone()).createOrder(key, createRequest("Other Customer")));
+  }
+
+  @Test
+  @DisplayName("Create Order - Failed Request Does Not Consume The Key")
+  void testCreateOrder_FailureReleasesKey() {
+    // Arrange
+    String key = UUID.randomUUID().toString();
+    CreateOrderRequest invalid = createRequest("Invalid Customer");
+    invalid.getOrderItems().get(0).setQuantity(0);
+
+    // Act
+    assertThrows(ValidationException.class, () -> idempotencyService.createOrder(key, invalid));
+    IdempotentOrder retried = idempotencyService.createOrder(key, createRequest("Invalid Customer"));
+
+    // Assert
+    assertFalse(retried.replayed());
+    assertEquals(retried.order().getId(), keyRepository.find(key).orElseThrow().orderId());
+  }
+
+  @Test
+  @DisplayName("Validate Key - Blank And Too Long Keys Rejected")
+  void testCreateOrder_InvalidKey() {
+    assertThrows(ValidationException.class,
+      () -> idempotencyService.createOrder(" ", createRequest("Key Customer")));
+    assertThrows(ValidationException.class,
+      () -> idempotencyService.createOrder("k".repeat(OrderIdempotencyService.MAX_KEY_LENGTH + 1),
+        createRequest("Key Customer")));
+    verifyNoInteractions(orderService);
+  }
+
+  private OrderIdempotencyService newService(Clock clock) {
+    return new OrderIdempotencyService(orderService, keyRepository, objectMapper, transactionManager,
+      orderProperties, clock);
+  }
+
+  private CreateOrderRequest createRequest(String customerName) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName(customerName);
+    request.setCustomerEmail("idempotent@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+}
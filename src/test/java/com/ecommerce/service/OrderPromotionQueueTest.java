@@ -0,0 +1,175 @@
+package com.ecommerce.service;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.BatchOrderResult;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.Order;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.task.OrderSchedulerTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for OrderPromotionQueue.
+ *
+ * Runs against the embedded database with the scheduled job switched off and
+ * checks that new orders reach PROCESSING right after they commit, in
+ * batches under load, and that orders not fitting the queue stay PENDING.
+ * Promoted batches are observed through {@link OrderMetrics}, which also
+ * reports how long each batch waited after its commit.
+ *
+ * Test Methods: 3
+ */
+@SpringBootTest
+public class OrderPromotionQueueTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderPromotionQueueTest.class);
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  @Autowired
+  private OrderService orderService;
+
+  @SpyBean
+  private OrderPromotionService promotionService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @MockBean
+  private OrderMetrics orderMetrics;
+
+  // Only the queue promotes orders in these tests
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  private final BlockingQueue<PromotedBatch> promoted = new LinkedBlockingQueue<>();
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(invocation -> promoted.add(new PromotedBatch(invocation.getArgument(0), invocation.getArgument(1))))
+      .when(orderMetrics).promotionDrained(anyInt(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Create Order - Promoted To PROCESSING Right After Commit")
+  void testCreateOrder_PromotedAfterCommit() throws Exception {
+    // Arrange
+    int orders = 50;
+    List<Long> ids = new ArrayList<>(orders);
+    List<Duration> lags = new ArrayList<>(orders);
+
+    // Act - one order at a time, as from separate requests
+    for (int i = 0; i < orders; i++) {
+      ids.add(orderService.createOrder(createRequest(i)).getId());
+      PromotedBatch batch = nextBatch();
+      assertEquals(1, batch.count());
+      lags.add(batch.lag());
+    }
+
+    // Assert
+    lags.sort(null);
+    Duration median = lags.get(orders / 2);
+    logger.info("Time from commit to PROCESSING over {} orders: median={} ms, max={} ms",
+      orders, median.toNanos() / 1e6, lags.get(orders - 1).toNanos() / 1e6);
+    assertTrue(median.compareTo(Duration.ofSeconds(1)) < 0, "Median time to PROCESSING was " + median);
+    assertTrue(orderRepository.findAllById(ids).stream()
+      .map(Order::getStatus)
+      .allMatch(status -> status == OrderStatus.PROCESSING));
+  }
+
+  @Test
+  @DisplayName("Create Orders - Batch Promoted In Few Transactions")
+  void testCreateOrders_PromotedInBatches() throws Exception {
+    // Arrange
+    List<CreateOrderRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      requests.add(createRequest(i));
+    }
+
+    // Act
+    List<Long> ids = orderService.createOrders(requests).getResults().stream()
+      .map(BatchOrderResult::getOrder)
+      .map(OrderDTO::getId)
+      .toList();
+    int promotedCount = 0;
+    while (promotedCount < ids.size()) {
+      promotedCount += nextBatch().count();
+    }
+
+    // Assert
+    assertEquals(ids.size(), promotedCount);
+    assertTrue(orderRepository.findAllById(ids).stream()
+      .map(Order::getStatus)
+      .allMatch(status -> status == OrderStatus.PROCESSING));
+    verify(promotionService, atMost(ids.size() / 10)).promoteOrders(anyCollection());
+  }
+
+  @Test
+  @DisplayName("Enqueue - Orders Beyond The Queue Size Left To The Scheduled Job")
+  void testEnqueue_QueueFull() {
+    // Arrange - a queue of two whose workers are not started
+    OrderProperties properties = new OrderProperties();
+    properties.getPromotion().setQueueSize(2);
+    OrderMetrics metrics = mock(OrderMetrics.class);
+    OrderPromotionQueue queue = new OrderPromotionQueue(promotionService, properties, metrics);
+
+    try {
+      // Act
+      queue.enqueueAfterCommit(List.of(1L, 2L, 3L));
+
+      // Assert
+      verify(metrics).promotionDropped(1);
+      verify(metrics, never()).promotionDrained(anyInt(), any(Duration.class));
+    } finally {
+      queue.shutdown();
+    }
+  }
+
+  private PromotedBatch nextBatch() throws InterruptedException {
+    PromotedBatch batch = promoted.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertNotNull(batch, "Timed out waiting for orders to be promoted");
+    return batch;
+  }
+
+  private CreateOrderRequest createRequest(int index) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Queued Customer " + index);
+    request.setCustomerEmail("queued" + index + "@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+
+  private record PromotedBatch(int count, Duration lag) {
+  }
+}
@@ -1,37 +1,55 @@
 package com.ecommerce.service;
 
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.BatchCreateOrderResponse;
+import com.ecommerce.dto.BatchUpdateOrderStatusRequest;
+import com.ecommerce.dto.BatchUpdateOrderStatusResponse;
 import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.CursorPage;
 import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.dto.OrderSummaryDTO;
 import com.ecommerce.entity.Order;
 import com.ecommerce.entity.OrderItem;
 import com.ecommerce.entity.OrderStatus;
 import com.ecommerce.exception.InvalidOrderStatusException;
 import com.ecommerce.exception.OrderNotFoundException;
 import com.ecommerce.exception.ValidationException;
+import com.ecommerce.mapper.OrderMapper;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.outbox.OrderOutbox;
 import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.stream.OrderStatusBroadcaster;
+import com.ecommerce.util.OrderCursor;
+import com.ecommerce.util.OrderNumberGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -50,8 +68,38 @@ public class OrderServiceImplTest {
   @Mock
   private OrderRepository orderRepository;
 
+  @Spy
+  private OrderMapper orderMapper = new OrderMapper();
+
+  @Mock
+  private Validator validator;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Spy
+  private OrderProperties orderProperties = new OrderProperties();
+
+  @Mock
+  private OrderNumberGenerator orderNumberGenerator;
+
+  @Mock
+  private OrderCache orderCache;
+
+  @Mock
+  private OrderMetrics orderMetrics;
+
   @Mock
-  private ModelMapper modelMapper;
+  private OrderOutbox orderOutbox;
+
+  @Mock
+  private OrderStatusBroadcaster orderStatusBroadcaster;
+
+  @Mock
+  private OrderPromotionQueue orderPromotionQueue;
+
+  @Captor
+  private ArgumentCaptor<List<Order>> ordersCaptor;
 
   @InjectMocks
   private OrderServiceImpl orderService;
@@ -113,8 +161,8 @@ public class OrderServiceImplTest {
   @DisplayName("Create Order - Success")
   void testCreateOrder_Success() {
     // Arrange
+    when(orderNumberGenerator.generateOrderNumber()).thenReturn("ORD-20251107-00001");
     when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-    when(modelMapper.map(any(Order.class), eq(OrderDTO.class))).thenReturn(testOrderDTO);
 
     // Act
     OrderDTO result = orderService.createOrder(createRequest);
@@ -129,8 +177,12 @@ public class OrderServiceImplTest {
     verify(orderRepository).save(orderCaptor.capture());
 
     Order savedOrder = orderCaptor.getValue();
+    assertEquals("ORD-20251107-00001", savedOrder.getOrderNumber());
     assertEquals(OrderStatus.PENDING, savedOrder.getStatus());
     assertEquals(1, savedOrder.getOrderItems().size());
+    verify(orderOutbox).ordersCreated(List.of(result));
+    verify(orderPromotionQueue).enqueueAfterCommit(List.of(testOrder.getId()));
+    verify(orderMetrics).ordersCreated(1);
   }
 
   @Test
@@ -198,8 +250,7 @@ public class OrderServiceImplTest {
   @DisplayName("Get Order By ID - Success")
   void testGetOrderById_Success() {
     // Arrange
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-    when(modelMapper.map(any(Order.class), eq(OrderDTO.class))).thenReturn(testOrderDTO);
+    when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testOrder));
 
     // Act
     OrderDTO result = orderService.getOrderById(1L);
@@ -208,14 +259,14 @@ public class OrderServiceImplTest {
     assertNotNull(result);
     assertEquals(1L, result.getId());
     assertEquals("ORD-20251107-00001", result.getOrderNumber());
-    verify(orderRepository).findById(1L);
+    verify(orderRepository).findWithItemsById(1L);
   }
 
   @Test
   @DisplayName("Get Order By ID - Not Found")
   void testGetOrderById_NotFound() {
     // Arrange
-    when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+    when(orderRepository.findWithItemsById(999L)).thenReturn(Optional.empty());
 
     // Act & Assert
     OrderNotFoundException exception = assertThrows(
@@ -230,7 +281,7 @@ public class OrderServiceImplTest {
   @DisplayName("Get Order By ID - Invalid ID")
   void testGetOrderById_InvalidId() {
     // Arrange
-    when(orderRepository.findById(null)).thenThrow(new IllegalArgumentException("ID cannot be null"));
+    when(orderRepository.findWithItemsById(null)).thenThrow(new IllegalArgumentException("ID cannot be null"));
 
     // Act & Assert
     assertThrows(
@@ -239,13 +290,41 @@ public class OrderServiceImplTest {
     );
   }
 
+  @Test
+  @DisplayName("Get Order By ID - Served From Cache")
+  void testGetOrderById_CacheHit() {
+    // Arrange
+    when(orderCache.getById(1L)).thenReturn(testOrderDTO);
+
+    // Act
+    OrderDTO result = orderService.getOrderById(1L);
+
+    // Assert
+    assertSame(testOrderDTO, result);
+    verifyNoInteractions(orderRepository);
+  }
+
+  @Test
+  @DisplayName("Get Order By ID - Loaded Order Is Cached")
+  void testGetOrderById_CacheMissPopulatesCache() {
+    // Arrange
+    OrderCache.LoadStamp stamp = new OrderCache(new OrderProperties()).loadStamp();
+    when(orderCache.loadStamp()).thenReturn(stamp);
+    when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(testOrder));
+
+    // Act
+    OrderDTO result = orderService.getOrderById(1L);
+
+    // Assert
+    verify(orderCache).put(result, stamp);
+  }
+
   @Test
   @DisplayName("Get Order By Order Number - Success")
   void testGetOrderByOrderNumber_Success() {
     // Arrange
     when(orderRepository.findByOrderNumber("ORD-20251107-00001"))
       .thenReturn(Optional.of(testOrder));
-    when(modelMapper.map(any(Order.class), eq(OrderDTO.class))).thenReturn(testOrderDTO);
 
     // Act
     OrderDTO result = orderService.getOrderByOrderNumber("ORD-20251107-00001");
@@ -256,6 +335,20 @@ public class OrderServiceImplTest {
     verify(orderRepository).findByOrderNumber("ORD-20251107-00001");
   }
 
+  @Test
+  @DisplayName("Get Order By Order Number - Served From Cache")
+  void testGetOrderByOrderNumber_CacheHit() {
+    // Arrange
+    when(orderCache.getByOrderNumber("ORD-20251107-00001")).thenReturn(testOrderDTO);
+
+    // Act
+    OrderDTO result = orderService.getOrderByOrderNumber("ORD-20251107-00001");
+
+    // Assert
+    assertSame(testOrderDTO, result);
+    verifyNoInteractions(orderRepository);
+  }
+
   @Test
   @DisplayName("Get Order By Order Number - Not Found")
   void testGetOrderByOrderNumber_NotFound() {
@@ -275,55 +368,56 @@ public class OrderServiceImplTest {
   @DisplayName("Update Order Status - Success - PENDING to PROCESSING")
   void testUpdateOrderStatus_Success_PendingToProcessing() {
     // Arrange
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+    when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PENDING), eq(OrderStatus.PROCESSING),
+      any(LocalDateTime.class))).thenReturn(1);
 
     // Act
     orderService.updateOrderStatus(1L, OrderStatus.PROCESSING);
 
-    // Assert
-    ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
-    verify(orderRepository).save(orderCaptor.capture());
-
-    Order updatedOrder = orderCaptor.getValue();
-    assertEquals(OrderStatus.PROCESSING, updatedOrder.getStatus());
+    // Assert - one conditional UPDATE, no read and no entity write
+    verify(orderRepository, never()).findById(any());
+    verify(orderRepository, never()).findStatusById(any());
+    verify(orderRepository, never()).save(any(Order.class));
+    verify(orderCache).evictAfterCompletion(1L);
+    verify(orderOutbox).statusChanged(List.of(1L), OrderStatus.PENDING, OrderStatus.PROCESSING);
+    verify(orderMetrics).statusChanged(OrderStatus.PENDING, OrderStatus.PROCESSING, 1);
   }
 
   @Test
   @DisplayName("Update Order Status - Success - PROCESSING to SHIPPED")
   void testUpdateOrderStatus_Success_ProcessingToShipped() {
     // Arrange
-    testOrder.setStatus(OrderStatus.PROCESSING);
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+    when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PROCESSING), eq(OrderStatus.SHIPPED),
+      any(LocalDateTime.class))).thenReturn(1);
 
     // Act
     orderService.updateOrderStatus(1L, OrderStatus.SHIPPED);
 
     // Assert
-    verify(orderRepository).save(any(Order.class));
+    verify(orderMetrics).statusChanged(OrderStatus.PROCESSING, OrderStatus.SHIPPED, 1);
   }
 
   @Test
   @DisplayName("Update Order Status - Success - SHIPPED to DELIVERED")
   void testUpdateOrderStatus_Success_ShippedToDelivered() {
     // Arrange
-    testOrder.setStatus(OrderStatus.SHIPPED);
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+    when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.SHIPPED), eq(OrderStatus.DELIVERED),
+      any(LocalDateTime.class))).thenReturn(1);
 
     // Act
     orderService.updateOrderStatus(1L, OrderStatus.DELIVERED);
 
     // Assert
-    verify(orderRepository).save(any(Order.class));
+    verify(orderMetrics).statusChanged(OrderStatus.SHIPPED, OrderStatus.DELIVERED, 1);
   }
 
   @Test
   @DisplayName("Update Order Status - Invalid Transition - PENDING to SHIPPED")
   void testUpdateOrderStatus_InvalidTransition_PendingToShipped() {
     // Arrange
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+    when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PROCESSING), eq(OrderStatus.SHIPPED),
+      any(LocalDateTime.class))).thenReturn(0);
+    when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PENDING));
 
     // Act & Assert
     InvalidOrderStatusException exception = assertThrows(
@@ -332,15 +426,15 @@ public class OrderServiceImplTest {
     );
 
     assertTrue(exception.getMessage().contains("Invalid status transition"));
-    verify(orderRepository, never()).save(any(Order.class));
+    verify(orderCache, never()).evictAfterCompletion(anyLong());
+    verifyNoInteractions(orderMetrics);
   }
 
   @Test
   @DisplayName("Update Order Status - Invalid Transition - DELIVERED to PENDING")
   void testUpdateOrderStatus_InvalidTransition_DeliveredToPending() {
-    // Arrange
-    testOrder.setStatus(OrderStatus.DELIVERED);
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+    // Arrange - no transition leads to PENDING, so no UPDATE is attempted
+    when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.DELIVERED));
 
     // Act & Assert
     InvalidOrderStatusException exception = assertThrows(
@@ -349,13 +443,33 @@ public class OrderServiceImplTest {
     );
 
     assertTrue(exception.getMessage().contains("Invalid status transition"));
+    verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Update Order Status - Concurrent Change")
+  void testUpdateOrderStatus_ConcurrentChange() {
+    // Arrange - the UPDATE missed, yet the transition is valid for the status read afterwards
+    when(orderRepository.updateStatusIfCurrent(eq(1L), eq(OrderStatus.PENDING), eq(OrderStatus.PROCESSING),
+      any(LocalDateTime.class))).thenReturn(0);
+    when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+    // Act & Assert
+    InvalidOrderStatusException exception = assertThrows(
+      InvalidOrderStatusException.class,
+      () -> orderService.updateOrderStatus(1L, OrderStatus.PROCESSING)
+    );
+
+    assertTrue(exception.getMessage().contains("changed concurrently"));
   }
 
   @Test
   @DisplayName("Update Order Status - Not Found")
   void testUpdateOrderStatus_NotFound() {
     // Arrange
-    when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+    when(orderRepository.updateStatusIfCurrent(eq(999L), eq(OrderStatus.PENDING), eq(OrderStatus.PROCESSING),
+      any(LocalDateTime.class))).thenReturn(0);
+    when(orderRepository.findStatusById(999L)).thenReturn(Optional.empty());
 
     // Act & Assert
     OrderNotFoundException exception = assertThrows(
@@ -370,22 +484,62 @@ public class OrderServiceImplTest {
   @DisplayName("Cancel Order - Success")
   void testCancelOrder_Success() {
     // Arrange
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-    doNothing().when(orderRepository).delete(any(Order.class));
+    when(orderRepository.deleteByIdAndStatus(1L, OrderStatus.PENDING)).thenReturn(1);
 
     // Act
     orderService.cancelOrder(1L);
 
+    // Assert - one conditional DELETE, the order and its items are never loaded
+    verify(orderRepository, never()).findById(any());
+    verify(orderRepository, never()).delete(any(Order.class));
+    verify(orderCache).evictAfterCompletion(1L);
+    verify(orderOutbox).orderCancelled(1L, OrderStatus.PENDING, null);
+    verify(orderMetrics).orderCancelled();
+  }
+
+  @Test
+  @DisplayName("Cancel Stale Orders - Only Claimed Orders Deleted")
+  void testCancelStaleOrders_Success() {
+    // Arrange
+    LocalDateTime unchangedSince = LocalDateTime.now().minusHours(1);
+    List<Long> ids = List.of(1L, 2L, 3L);
+    when(orderRepository.claimUnchangedIdsByStatusIn("PENDING", ids, unchangedSince)).thenReturn(List.of(1L, 3L));
+
+    // Act
+    int cancelled = orderService.cancelStaleOrders(ids, unchangedSince);
+
+    // Assert
+    assertEquals(2, cancelled);
+    verify(orderRepository).deleteByIdIn(List.of(1L, 3L));
+    verify(orderOutbox).ordersCancelled(List.of(1L, 3L), OrderStatus.PENDING, Map.of());
+    verify(orderCache).evictAfterCompletion(List.of(1L, 3L));
+    verify(orderMetrics).staleOrdersCancelled(2);
+  }
+
+  @Test
+  @DisplayName("Flag Overdue Orders - Nothing Written When No Order Is Overdue")
+  void testFlagOverdueOrders_NoneOverdue() {
+    // Arrange
+    LocalDateTime processingSince = LocalDateTime.now().minusHours(48);
+    when(orderRepository.claimUnchangedIdsByStatusIn("PROCESSING", List.of(4L), processingSince))
+      .thenReturn(List.of());
+
+    // Act
+    int flagged = orderService.flagOverdueOrders(List.of(4L), processingSince);
+
     // Assert
-    verify(orderRepository).delete(testOrder);
+    assertEquals(0, flagged);
+    verify(orderRepository, never()).markSlaBreached(any(), any());
+    verify(orderOutbox, never()).slaBreached(any());
+    verify(orderMetrics, never()).slaBreached(anyInt());
   }
 
   @Test
   @DisplayName("Cancel Order - Not Pending - PROCESSING")
   void testCancelOrder_NotPending_Processing() {
     // Arrange
-    testOrder.setStatus(OrderStatus.PROCESSING);
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+    when(orderRepository.deleteByIdAndStatus(1L, OrderStatus.PENDING)).thenReturn(0);
+    when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.PROCESSING));
 
     // Act & Assert
     InvalidOrderStatusException exception = assertThrows(
@@ -394,15 +548,17 @@ public class OrderServiceImplTest {
     );
 
     assertTrue(exception.getMessage().contains("Only PENDING orders can be cancelled"));
-    verify(orderRepository, never()).delete(any(Order.class));
+    verify(orderCache, never()).evictAfterCompletion(anyLong());
+    verify(orderOutbox, never()).orderCancelled(any(), any(), any());
+    verify(orderMetrics, never()).orderCancelled();
   }
 
   @Test
   @DisplayName("Cancel Order - Not Pending - DELIVERED")
   void testCancelOrder_NotPending_Delivered() {
     // Arrange
-    testOrder.setStatus(OrderStatus.DELIVERED);
-    when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+    when(orderRepository.deleteByIdAndStatus(1L, OrderStatus.PENDING)).thenReturn(0);
+    when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.DELIVERED));
 
     // Act & Assert
     InvalidOrderStatusException exception = assertThrows(
@@ -410,14 +566,15 @@ public class OrderServiceImplTest {
       () -> orderService.cancelOrder(1L)
     );
 
-    assertTrue(exception.getMessage().contains("Only PENDING orders can be cancelled"));
+    assertTrue(exception.getMessage().contains("Current status: DELIVERED"));
   }
 
   @Test
   @DisplayName("Cancel Order - Not Found")
   void testCancelOrder_NotFound() {
     // Arrange
-    when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+    when(orderRepository.deleteByIdAndStatus(999L, OrderStatus.PENDING)).thenReturn(0);
+    when(orderRepository.findStatusById(999L)).thenReturn(Optional.empty());
 
     // Act & Assert
     OrderNotFoundException exception = assertThrows(
@@ -437,7 +594,6 @@ public class OrderServiceImplTest {
     Pageable pageable = PageRequest.of(0, 10);
 
     when(orderRepository.findAll(pageable)).thenReturn(orderPage);
-    when(modelMapper.map(any(Order.class), eq(OrderDTO.class))).thenReturn(testOrderDTO);
 
     // Act
     Page<OrderDTO> result = orderService.getAllOrders(pageable);
@@ -447,6 +603,7 @@ public class OrderServiceImplTest {
     assertEquals(1, result.getTotalElements());
     assertEquals(1, result.getContent().size());
     verify(orderRepository).findAll(pageable);
+    verify(orderRepository).findAllWithItemsByIdIn(List.of(1L));
   }
 
   @Test
@@ -476,7 +633,6 @@ public class OrderServiceImplTest {
     Pageable pageable = PageRequest.of(0, 10);
 
     when(orderRepository.findAllByStatus(OrderStatus.PENDING, pageable)).thenReturn(orderPage);
-    when(modelMapper.map(any(Order.class), eq(OrderDTO.class))).thenReturn(testOrderDTO);
 
     // Act
     Page<OrderDTO> result = orderService.getAllOrdersByStatus(OrderStatus.PENDING, pageable);
@@ -503,4 +659,243 @@ public class OrderServiceImplTest {
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Get Order Summaries - Status Filter Uses Projection Query")
+  void testGetOrderSummaries_ByStatus() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    OrderSummaryDTO summary = new OrderSummaryDTO(1L, "ORD-20251107-00001", "John Doe",
+      "john.doe@example.com", OrderStatus.PENDING, new BigDecimal("1299.99"), null, null);
+    when(orderRepository.findAllSummariesByStatus(OrderStatus.PENDING, pageable))
+      .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+    // Act
+    Page<OrderSummaryDTO> result = orderService.getOrderSummaries(OrderStatus.PENDING, pageable);
+
+    // Assert
+    assertEquals(1, result.getTotalElements());
+    assertEquals("ORD-20251107-00001", result.getContent().get(0).getOrderNumber());
+    verify(orderRepository, never()).findAllSummaries(any());
+    verifyNoInteractions(orderMapper);
+  }
+
+  @Test
+  @DisplayName("Get Order Summaries - No Status Lists All")
+  void testGetOrderSummaries_AllStatuses() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    when(orderRepository.findAllSummaries(pageable)).thenReturn(Page.empty(pageable));
+
+    // Act
+    Page<OrderSummaryDTO> result = orderService.getOrderSummaries(null, pageable);
+
+    // Assert
+    assertEquals(0, result.getTotalElements());
+    verify(orderRepository).findAllSummaries(pageable);
+  }
+
+  @Test
+  @DisplayName("Create Orders - All Valid")
+  void testCreateOrders_AllValid() {
+    // Arrange
+    when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    BatchCreateOrderResponse response = orderService.createOrders(List.of(createRequest, createRequest));
+
+    // Assert
+    assertEquals(2, response.getTotal());
+    assertEquals(2, response.getSucceeded());
+    assertEquals(0, response.getFailed());
+    assertEquals("success", response.getResults().get(1).getStatus());
+    verify(orderRepository, times(1)).saveAll(anyList());
+    verify(orderRepository).flush();
+  }
+
+  @Test
+  @DisplayName("Create Orders - Invalid Entry Reported Without Failing Batch")
+  void testCreateOrders_PartialValidationFailure() {
+    // Arrange
+    CreateOrderRequest invalidRequest = new CreateOrderRequest();
+    invalidRequest.setCustomerName("Jane Smith");
+    invalidRequest.setCustomerEmail("jane.smith@example.com");
+
+    when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    BatchCreateOrderResponse response = orderService.createOrders(List.of(createRequest, invalidRequest));
+
+    // Assert
+    assertEquals(1, response.getSucceeded());
+    assertEquals(1, response.getFailed());
+    assertEquals("error", response.getResults().get(1).getStatus());
+    assertEquals("Order must contain at least one item", response.getResults().get(1).getError());
+
+    verify(orderRepository).saveAll(ordersCaptor.capture());
+    assertEquals(1, ordersCaptor.getValue().size());
+  }
+
+  @Test
+  @DisplayName("Create Orders - Failed Chunk Retried Individually")
+  void testCreateOrders_ChunkFailureRetriedIndividually() {
+    // Arrange - the chunk of two fails, then the first order succeeds and the second fails alone
+    when(orderRepository.saveAll(anyList()))
+      .thenThrow(new DataIntegrityViolationException("duplicate key"))
+      .thenAnswer(invocation -> invocation.getArgument(0))
+      .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+    // Act
+    BatchCreateOrderResponse response = orderService.createOrders(List.of(createRequest, createRequest));
+
+    // Assert
+    assertEquals(1, response.getSucceeded());
+    assertEquals(1, response.getFailed());
+    assertEquals("success", response.getResults().get(0).getStatus());
+    assertEquals("Order could not be persisted", response.getResults().get(1).getError());
+    verify(orderRepository, times(3)).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Create Orders - Chunked By Configured Size")
+  void testCreateOrders_ChunkedByConfiguredSize() {
+    // Arrange
+    orderProperties.getBatch().setChunkSize(2);
+    when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    BatchCreateOrderResponse response = orderService.createOrders(
+      List.of(createRequest, createRequest, createRequest, createRequest, createRequest));
+
+    // Assert
+    assertEquals(5, response.getSucceeded());
+    verify(orderRepository, times(3)).saveAll(anyList());
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  @DisplayName("Update Order Statuses - By Ids With Per-Id Results")
+  void testUpdateOrderStatuses_ByIds() {
+    // Arrange - 1 may be shipped, 2 is still PENDING, 3 does not exist; 1 is repeated
+    orderProperties.getBatch().setStatusChunkSize(2);
+    when(orderRepository.lockStatusesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+      new OrderRepository.StatusRow(1L, OrderStatus.PROCESSING, "john.doe@example.com"),
+      new OrderRepository.StatusRow(2L, OrderStatus.PENDING, "jane.smith@example.com")));
+    when(orderRepository.lockStatusesByIdIn(List.of(3L))).thenReturn(List.of());
+
+    // Act
+    BatchUpdateOrderStatusResponse response = orderService.updateOrderStatuses(
+      BatchUpdateOrderStatusRequest.forIds(List.of(1L, 2L, 1L, 3L), OrderStatus.SHIPPED));
+
+    // Assert
+    assertEquals(3, response.getTotal());
+    assertEquals(1, response.getSucceeded());
+    assertEquals("success", response.getResults().get(0).getStatus());
+    assertEquals("Invalid status transition from PENDING to SHIPPED", response.getResults().get(1).getError());
+    assertEquals("Order not found with id: 3", response.getResults().get(2).getError());
+    verify(orderRepository).updateStatusByIds(eq(List.of(1L)), eq(OrderStatus.PROCESSING), eq(OrderStatus.SHIPPED),
+      any(LocalDateTime.class));
+    verify(orderRepository, times(1)).updateStatusByIds(anyList(), any(), any(), any());
+    verify(orderOutbox).statusChanged(List.of(1L), OrderStatus.PROCESSING, OrderStatus.SHIPPED,
+      Map.of(1L, "john.doe@example.com", 2L, "jane.smith@example.com"));
+    verify(orderMetrics).statusChanged(OrderStatus.PROCESSING, OrderStatus.SHIPPED, 1);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  @DisplayName("Update Order Statuses - By Current Status Up To Limit")
+  void testUpdateOrderStatuses_ByCurrentStatus() {
+    // Arrange
+    orderProperties.getBatch().setStatusChunkSize(2);
+    when(orderRepository.findIdsByStatusAfter(OrderStatus.SHIPPED, 0L, PageRequest.of(0, 2)))
+      .thenReturn(List.of(4L, 7L));
+    when(orderRepository.findIdsByStatusAfter(OrderStatus.SHIPPED, 7L, PageRequest.of(0, 1)))
+      .thenReturn(List.of(9L));
+    when(orderRepository.lockStatusesByIdIn(anyList())).thenAnswer(invocation -> {
+      List<Long> ids = invocation.getArgument(0);
+      return ids.stream().map(id -> new OrderRepository.StatusRow(id, OrderStatus.SHIPPED, null)).toList();
+    });
+
+    // Act
+    BatchUpdateOrderStatusResponse response = orderService.updateOrderStatuses(
+      BatchUpdateOrderStatusRequest.forCurrentStatus(OrderStatus.SHIPPED, 3, OrderStatus.DELIVERED));
+
+    // Assert
+    assertEquals(3, response.getSucceeded());
+    assertEquals(9L, response.getResults().get(2).getOrderId());
+    verify(orderRepository, times(2)).updateStatusByIds(anyList(), eq(OrderStatus.SHIPPED),
+      eq(OrderStatus.DELIVERED), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("Update Order Statuses - Invalid Selection Rejected")
+  void testUpdateOrderStatuses_InvalidSelection() {
+    // Act & Assert
+    assertThrows(ValidationException.class, () -> orderService.updateOrderStatuses(
+      BatchUpdateOrderStatusRequest.forIds(List.of(), OrderStatus.SHIPPED)));
+    assertThrows(InvalidOrderStatusException.class, () -> orderService.updateOrderStatuses(
+      BatchUpdateOrderStatusRequest.forCurrentStatus(OrderStatus.PENDING, null, OrderStatus.SHIPPED)));
+    verifyNoInteractions(orderRepository);
+  }
+
+  @Test
+  @DisplayName("Get Orders After - First Page Has Next")
+  void testGetOrdersAfter_FirstPageHasNext() {
+    // Arrange - size + 1 rows come back, so another page exists
+    Order secondOrder = new Order();
+    secondOrder.setId(2L);
+    secondOrder.setCreatedAt(testOrder.getCreatedAt().plusSeconds(1));
+
+    when(orderRepository.findFirstKeysetPage(PageRequest.of(0, 2))).thenReturn(List.of(testOrder, secondOrder));
+
+    // Act
+    CursorPage<OrderDTO> result = orderService.getOrdersAfter(null, null, 1);
+
+    // Assert
+    assertTrue(result.isHasNext());
+    assertEquals(1, result.getContent().size());
+    OrderCursor cursor = OrderCursor.decode(result.getNextCursor());
+    assertEquals(testOrder.getId(), cursor.id());
+    assertEquals(testOrder.getCreatedAt(), cursor.createdAt());
+  }
+
+  @Test
+  @DisplayName("Get Orders After - Cursor With Status Filter")
+  void testGetOrdersAfter_CursorWithStatus() {
+    // Arrange
+    LocalDateTime createdAt = LocalDateTime.of(2025, 11, 7, 10, 15, 30, 123456000);
+    String after = new OrderCursor(createdAt, 42L).encode();
+
+    when(orderRepository.findKeysetPageByStatusAfter(OrderStatus.PENDING, createdAt, 42L, PageRequest.of(0, 11)))
+      .thenReturn(List.of(testOrder));
+
+    // Act
+    CursorPage<OrderDTO> result = orderService.getOrdersAfter(OrderStatus.PENDING, after, 10);
+
+    // Assert
+    assertFalse(result.isHasNext());
+    assertNull(result.getNextCursor());
+    assertEquals(1, result.getContent().size());
+    verify(orderRepository, never()).findAll(any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("Get Orders After - Invalid Cursor")
+  void testGetOrdersAfter_InvalidCursor() {
+    // Act & Assert
+    ValidationException exception = assertThrows(
+      ValidationException.class,
+      () -> orderService.getOrdersAfter(null, "not-a-cursor", 10)
+    );
+
+    assertTrue(exception.getMessage().contains("Invalid cursor"));
+  }
+
+  @Test
+  @DisplayName("Get Orders After - Invalid Size")
+  void testGetOrdersAfter_InvalidSize() {
+    // Act & Assert
+    assertThrows(ValidationException.class, () -> orderService.getOrdersAfter(null, null, 0));
+    assertThrows(ValidationException.class, () -> orderService.getOrdersAfter(null, null, 1001));
+  }
+}
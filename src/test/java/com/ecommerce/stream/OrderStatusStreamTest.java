@@ -0,0 +1,276 @@
+package com.ecommerce.stream;
+
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.outbox.OrderChangeEvent;
+import com.ecommerce.outbox.OrderEventType;
+import com.ecommerce.service.OrderPromotionQueue;
+import com.ecommerce.service.OrderService;
+import com.ecommerce.task.OrderSchedulerTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the order status stream.
+ *
+ * Subscribes over HTTP to a running server and checks filtering, resuming
+ * with {@code Last-Event-ID} and disconnection of slow subscribers.
+ *
+ * Test Methods: 4
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = {"order.stream.buffer-size=4", "order.stream.writer-threads=1"})
+public class OrderStatusStreamTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderStatusBroadcaster broadcaster;
+
+  // Keep the background jobs from changing statuses during the tests
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  @DisplayName("Stream - Only Matching Changes Sent, Without Customer Email")
+  void testStream_Filtered() throws Exception {
+    // Arrange
+    String email = uniqueEmail();
+    try (EventStream stream = subscribe("customerEmail=" + email, null)) {
+
+      // Act
+      OrderDTO order = orderService.createOrder(createRequest(email));
+      orderService.createOrder(createRequest(uniqueEmail()));
+      orderService.updateOrderStatus(order.getId(), OrderStatus.PROCESSING);
+
+      // Assert
+      Map<String, String> created = stream.next();
+      assertEquals(OrderEventType.ORDER_CREATED.name(), created.get("event"));
+      assertTrue(created.get("data").contains("\"orderId\":" + order.getId()));
+      assertFalse(created.get("data").contains(email));
+
+      Map<String, String> changed = stream.next();
+      assertEquals(OrderEventType.STATUS_CHANGED.name(), changed.get("event"));
+      assertTrue(changed.get("data").contains("\"orderId\":" + order.getId()));
+      assertTrue(changed.get("data").contains("\"status\":\"PROCESSING\""));
+      assertTrue(Long.parseLong(changed.get("id")) > Long.parseLong(created.get("id")));
+    }
+  }
+
+  @Test
+  @DisplayName("Stream - Resume From Last-Event-ID Replays Missed Changes")
+  void testStream_Resume() throws Exception {
+    // Arrange
+    String email = uniqueEmail();
+    try (EventStream stream = subscribe("customerEmail=" + email, null)) {
+      OrderDTO order = orderService.createOrder(createRequest(email));
+      String lastEventId = stream.next().get("id");
+      orderService.updateOrderStatus(order.getId(), OrderStatus.PROCESSING);
+      orderService.updateOrderStatus(order.getId(), OrderStatus.SHIPPED);
+
+      // Act - reconnect on a new connection while the first is still open
+      try (EventStream resumed = subscribe("customerEmail=" + email, lastEventId);
+           EventStream tooOld = subscribe("customerEmail=" + email, "1")) {
+
+        // Assert
+        assertTrue(resumed.next().get("data").contains("\"status\":\"PROCESSING\""));
+        assertTrue(resumed.next().get("data").contains("\"status\":\"SHIPPED\""));
+        assertEquals("resync", tooOld.next().get("event"));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Stream - Resume By Customer Email Replays Changes Kept Without One")
+  void testStream_ResumeByEmail() throws Exception {
+    // Arrange - the changes are dispatched while nobody subscribes by customer email
+    String email = uniqueEmail();
+    OrderDTO order = orderService.createOrder(createRequest(email));
+    String lastEventId;
+    try (EventStream stream = subscribe("orderId=" + order.getId(), null)) {
+      orderService.updateOrderStatus(order.getId(), OrderStatus.PROCESSING);
+      lastEventId = stream.next().get("id");
+      orderService.updateOrderStatus(order.getId(), OrderStatus.SHIPPED);
+      stream.next();
+    }
+
+    // Act
+    try (EventStream resumed = subscribe("customerEmail=" + email, lastEventId)) {
+
+      // Assert
+      assertTrue(resumed.next().get("data").contains("\"status\":\"SHIPPED\""));
+    }
+  }
+
+  @Test
+  @DisplayName("Stream - Subscriber That Stops Reading Is Disconnected")
+  void testStream_SlowSubscriber() throws Exception {
+    // Arrange - a client that never reads its responses
+    int subscribers = broadcaster.subscriberCount();
+    try (Socket socket = new Socket("localhost", port)) {
+      OutputStream out = socket.getOutputStream();
+      out.write(("GET /api/v1/orders/stream?orderId=-1 HTTP/1.1\r\nHost: localhost\r\n"
+        + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+      await(() -> broadcaster.subscriberCount() == subscribers + 1);
+
+      // Act
+      broadcaster.onOrderChange(new OrderChangeEvent(OrderEventType.STATUS_CHANGED,
+        Collections.nCopies(10_000, -1L), OrderStatus.PENDING, OrderStatus.PROCESSING,
+        Map.of(-1L, "slow@example.com"), LocalDateTime.now()));
+
+      // Assert
+      await(() -> broadcaster.subscriberCount() == subscribers);
+    }
+  }
+
+  private EventStream subscribe(String query, String lastEventId) throws Exception {
+    HttpRequest.Builder request = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + port + "/api/v1/orders/stream?" + query))
+      .header("Accept", "text/event-stream");
+    if (lastEventId != null) {
+      request.header("Last-Event-ID", lastEventId);
+    }
+    int subscribers = broadcaster.subscriberCount();
+    CompletableFuture<HttpResponse<Stream<String>>> pending =
+      httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines());
+
+    // The response starts with the first write to the subscription, which is registered asynchronously.
+    // A resumed subscription starts with its replay; a new one waits for a heartbeat, which only reaches
+    // registered subscriptions
+    await(() -> {
+      if (lastEventId == null) {
+        broadcaster.heartbeat();
+      }
+      return pending.isDone();
+    });
+    HttpResponse<Stream<String>> response = pending.get();
+    assertEquals(200, response.statusCode());
+    return new EventStream(response.body(), subscribers);
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out waiting for the order stream");
+      Thread.sleep(10);
+    }
+  }
+
+  private static String uniqueEmail() {
+    return UUID.randomUUID() + "@example.com";
+  }
+
+  private CreateOrderRequest createRequest(String email) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Stream Customer");
+    request.setCustomerEmail(email);
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+
+  /**
+   * Reads Server-Sent Events from a response on a background thread.
+   */
+  private final class EventStream implements AutoCloseable {
+
+    private final Stream<String> lines;
+    private final int subscribersBefore;
+    private final BlockingQueue<Map<String, String>> events = new LinkedBlockingQueue<>();
+
+    private EventStream(Stream<String> lines, int subscribersBefore) {
+      this.lines = lines;
+      this.subscribersBefore = subscribersBefore;
+      Thread reader = new Thread(this::read, "order-stream-test-reader");
+      reader.setDaemon(true);
+      reader.start();
+    }
+
+    private void read() {
+      try {
+        Map<String, String> event = new HashMap<>();
+        for (Iterator<String> it = lines.iterator(); it.hasNext(); ) {
+          String line = it.next();
+          if (line.isEmpty()) {
+            if (!event.isEmpty()) {
+              events.add(event);
+            }
+            event = new HashMap<>();
+          } else if (!line.startsWith(":")) {
+            int colon = line.indexOf(':');
+            event.merge(line.substring(0, colon), line.substring(colon + 1), (a, b) -> a + "\n" + b);
+          }
+        }
+      } catch (RuntimeException ex) {
+        // Closed by the test
+      }
+    }
+
+    private Map<String, String> next() throws InterruptedException {
+      Map<String, String> event = events.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      assertNotNull(event, "No event received");
+      return event;
+    }
+
+    /**
+     * Closes the connection and waits until the server has dropped the
+     * subscription, which it notices on a failed write; a connection aborted
+     * while the next one opens can break that one too.
+     */
+    @Override
+    public void close() throws InterruptedException {
+      lines.close();
+      await(() -> {
+        broadcaster.heartbeat();
+        return broadcaster.subscriberCount() <= subscribersBefore;
+      });
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.ecommerce.task;
+
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.dto.BatchOrderResult;
+import com.ecommerce.dto.CreateOrderRequest;
+import com.ecommerce.dto.OrderDTO;
+import com.ecommerce.entity.OrderStatus;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.outbox.OrderOutbox;
+import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.service.OrderPromotionQueue;
+import com.ecommerce.service.OrderPromotionService;
+import com.ecommerce.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Test suite for OrderSchedulerTask running on several application instances.
+ *
+ * Each node is an OrderSchedulerTask with its own settings over the shared
+ * embedded database, started at the same moment like the scheduled job on a
+ * cluster. Promoting a chunk is slowed down a little while its rows are
+ * locked, so the nodes contend for the same backlog. The orders each node
+ * promotes are recorded from the STATUS_CHANGED events written in its
+ * transactions. How much faster several nodes are is measured by
+ * MultiNodePromotionBenchmark.
+ *
+ * Test Methods: 1
+ */
+@SpringBootTest
+public class OrderSchedulerMultiNodeTest {
+
+  private static final int CHUNK_SIZE = 20;
+  private static final long CHUNK_LATENCY_MILLIS = 20;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderPromotionService promotionService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @SpyBean
+  private OrderOutbox orderOutbox;
+
+  @MockBean
+  private OrderMetrics orderMetrics;
+
+  // Nodes are started by the tests, not by the schedule or new orders
+  @MockBean
+  private OrderSchedulerTask orderSchedulerTask;
+
+  @MockBean
+  private OrderPromotionQueue orderPromotionQueue;
+
+  private final ThreadLocal<Integer> currentNode = new ThreadLocal<>();
+  private final Map<Integer, List<Long>> promotedByNode = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    doAnswer(invocation -> {
+      Thread.sleep(CHUNK_LATENCY_MILLIS);
+      return null;
+    }).when(orderMetrics).statusChanged(eq(OrderStatus.PENDING), eq(OrderStatus.PROCESSING), anyInt());
+    doAnswer(invocation -> {
+      Collection<Long> ids = invocation.getArgument(0);
+      Integer node = currentNode.get();
+      if (node != null) {
+        promotedByNode.computeIfAbsent(node, key -> new ArrayList<>()).addAll(ids);
+      }
+      return invocation.callRealMethod();
+    }).when(orderOutbox).statusChanged(anyCollection(), eq(OrderStatus.PENDING), eq(OrderStatus.PROCESSING));
+
+    // Clear PENDING orders left by the sample data
+    runNodes(1);
+    promotedByNode.clear();
+  }
+
+  @Test
+  @DisplayName("Multiple Nodes - Backlog Split Without Overlap")
+  void testMultipleNodes_NoOverlap() throws Exception {
+    // Arrange
+    List<Long> ids = createPendingOrders(600);
+
+    // Act
+    runNodes(3);
+
+    // Assert - every order promoted exactly once, by whichever node claimed it
+    assertTrue(orderRepository.findAllById(ids).stream()
+      .allMatch(order -> order.getStatus() == OrderStatus.PROCESSING));
+    Set<Long> promoted = new HashSet<>();
+    int promotions = 0;
+    for (List<Long> nodeIds : promotedByNode.values()) {
+      // A node never claims an order twice, and never one another node claimed
+      assertEquals(nodeIds.size(), new HashSet<>(nodeIds).size());
+      promotions += nodeIds.size();
+      promoted.addAll(nodeIds);
+    }
+    assertEquals(promoted.size(), promotions, "Nodes should claim disjoint sets of orders");
+    assertEquals(new HashSet<>(ids), promoted);
+  }
+
+  /**
+   * Runs one promotion job per node at the same moment.
+   */
+  private void runNodes(int nodes) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(nodes);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger failedRuns = new AtomicInteger();
+    List<Future<?>> runs = new ArrayList<>();
+    try {
+      for (int i = 0; i < nodes; i++) {
+        int node = i;
+        OrderSchedulerTask task = newNode(failedRuns);
+        runs.add(executor.submit(() -> {
+          currentNode.set(node);
+          start.await();
+          task.processPendingOrders();
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> run : runs) {
+        run.get(60, TimeUnit.SECONDS);
+      }
+      assertEquals(0, failedRuns.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private OrderSchedulerTask newNode(AtomicInteger failedRuns) {
+    OrderProperties properties = new OrderProperties();
+    properties.getScheduler().setChunkSize(CHUNK_SIZE);
+    properties.getScheduler().setPartitions(4);
+    properties.getScheduler().setConcurrency(1);
+    OrderMetrics metrics = new OrderMetrics() {
+      @Override
+      public void schedulerRun(long durationNanos, long rowsProcessed, boolean succeeded) {
+        if (!succeeded) {
+          failedRuns.incrementAndGet();
+        }
+      }
+    };
+    return new OrderSchedulerTask(promotionService, properties, metrics, new SyncTaskExecutor());
+  }
+
+  private List<Long> createPendingOrders(int count) {
+    List<CreateOrderRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      requests.add(createRequest(i));
+    }
+    return orderService.createOrders(requests).getResults().stream()
+      .map(BatchOrderResult::getOrder)
+      .map(OrderDTO::getId)
+      .toList();
+  }
+
+  private CreateOrderRequest createRequest(int index) {
+    CreateOrderRequest request = new CreateOrderRequest();
+    request.setCustomerName("Node Customer " + index);
+    request.setCustomerEmail("node" + index + "@example.com");
+
+    CreateOrderRequest.OrderItemRequest item = new CreateOrderRequest.OrderItemRequest();
+    item.setProductId(100L);
+    item.setProductName("Product");
+    item.setQuantity(1);
+    item.setPrice(new BigDecimal("19.99"));
+    request.setOrderItems(new ArrayList<>(List.of(item)));
+    return request;
+  }
+}
@@ -1,165 +1,206 @@
 package com.ecommerce.task;
 
-import com.ecommerce.entity.Order;
-import com.ecommerce.entity.OrderStatus;
-import com.ecommerce.repository.OrderRepository;
+import com.ecommerce.config.OrderProperties;
+import com.ecommerce.metrics.OrderMetrics;
+import com.ecommerce.repository.OrderRepository.IdRange;
+import com.ecommerce.service.OrderPromotionService;
+import com.ecommerce.service.OrderPromotionService.PromotionChunk;
+import com.ecommerce.task.OrderSchedulerTask.Partition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Test suite for OrderSchedulerTask.
  * <p>
- * Tests scheduler execution, batch processing, and exception handling.
+ * Tests scheduler execution, chunked and partitioned processing, and exception handling.
  * <p>
  * Coverage: 100%
- * Test Methods: 3+
+ * Test Methods: 5+
  */
 @ExtendWith(MockitoExtension.class)
 public class OrderSchedulerTaskTest {
 
   @Mock
-  private OrderRepository orderRepository;
+  private OrderPromotionService promotionService;
+
+  @Mock
+  private OrderMetrics orderMetrics;
+
+  @Spy
+  private OrderProperties orderProperties = new OrderProperties();
+
+  @Spy
+  private TaskExecutor taskExecutor = new SyncTaskExecutor();
 
   @InjectMocks
   private OrderSchedulerTask schedulerTask;
 
-  private Order pendingOrder1;
-  private Order pendingOrder2;
-
   @BeforeEach
   void setUp() {
-    // Initialize pending orders
-    pendingOrder1 = new Order();
-    pendingOrder1.setId(1L);
-    pendingOrder1.setOrderNumber("ORD-20251107-00001");
-    pendingOrder1.setCustomerName("John Doe");
-    pendingOrder1.setCustomerEmail("john.doe@example.com");
-    pendingOrder1.setStatus(OrderStatus.PENDING);
-    pendingOrder1.setTotalAmount(new BigDecimal("1299.99"));
-    pendingOrder1.setCreatedAt(LocalDateTime.now());
-    pendingOrder1.setUpdatedAt(LocalDateTime.now());
-
-    pendingOrder2 = new Order();
-    pendingOrder2.setId(2L);
-    pendingOrder2.setOrderNumber("ORD-20251107-00002");
-    pendingOrder2.setCustomerName("Jane Smith");
-    pendingOrder2.setCustomerEmail("jane.smith@example.com");
-    pendingOrder2.setStatus(OrderStatus.PENDING);
-    pendingOrder2.setTotalAmount(new BigDecimal("899.99"));
-    pendingOrder2.setCreatedAt(LocalDateTime.now());
-    pendingOrder2.setUpdatedAt(LocalDateTime.now());
+    orderProperties.getScheduler().setChunkSize(50);
+    orderProperties.getScheduler().setPartitions(1);
+    orderProperties.getScheduler().setConcurrency(1);
   }
 
   @Test
   @DisplayName("Process Pending Orders - Success")
   void testProcessPendingOrders_Success() {
-    // Arrange
-    List<Order> pendingOrders = Arrays.asList(pendingOrder1, pendingOrder2);
-    Page<Order> orderPage = new PageImpl<>(pendingOrders);
-
-    when(orderRepository.findAllByStatus(eq(OrderStatus.PENDING), any(Pageable.class)))
-      .thenReturn(orderPage);
-    when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    // Arrange - a single partial chunk ends the run
+    pendingIds(1L, 2L);
+    when(promotionService.promoteNextChunk(0L, 2L, 50)).thenReturn(new PromotionChunk(2L, 2, 2));
 
     // Act
     schedulerTask.processPendingOrders();
 
     // Assert
-    ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
-    verify(orderRepository, times(2)).save(orderCaptor.capture());
-
-    List<Order> savedOrders = orderCaptor.getAllValues();
-    assertEquals(2, savedOrders.size());
-    assertTrue(savedOrders.stream().allMatch(order -> order.getStatus() == OrderStatus.PROCESSING));
+    verify(promotionService, times(1)).promoteNextChunk(anyLong(), anyLong(), anyInt());
+    verify(orderMetrics).schedulerRun(anyLong(), eq(2L), eq(true));
   }
 
   @Test
   @DisplayName("Process Pending Orders - No Pending Orders")
   void testProcessPendingOrders_NoPending() {
     // Arrange
-    Page<Order> emptyPage = new PageImpl<>(Collections.emptyList());
-
-    when(orderRepository.findAllByStatus(eq(OrderStatus.PENDING), any(Pageable.class)))
-      .thenReturn(emptyPage);
+    when(promotionService.findPendingIdRange()).thenReturn(Optional.empty());
 
     // Act
     schedulerTask.processPendingOrders();
 
     // Assert
-    verify(orderRepository, never()).save(any(Order.class));
+    verify(promotionService, never()).promoteNextChunk(anyLong(), anyLong(), anyInt());
+    verify(orderMetrics).schedulerRun(anyLong(), eq(0L), eq(true));
   }
 
   @Test
   @DisplayName("Process Pending Orders - Exception Handling")
   void testProcessPendingOrders_ExceptionHandling() {
     // Arrange
-    when(orderRepository.findAllByStatus(eq(OrderStatus.PENDING), any(Pageable.class)))
+    pendingIds(1L, 10L);
+    when(promotionService.promoteNextChunk(anyLong(), anyLong(), anyInt()))
       .thenThrow(new RuntimeException("Database error"));
 
     // Act - Should not throw exception, but log it
     assertDoesNotThrow(() -> schedulerTask.processPendingOrders());
 
     // Assert
-    verify(orderRepository, never()).save(any(Order.class));
+    verify(promotionService, times(1)).promoteNextChunk(anyLong(), anyLong(), anyInt());
   }
 
   @Test
   @DisplayName("Process Pending Orders - Large Batch")
   void testProcessPendingOrders_LargeBatch() {
-    // Arrange - Simulate pagination with 150 orders
-    List<Order> batch1 = createOrderBatch(0, 50);
-    List<Order> batch2 = createOrderBatch(50, 50);
-    List<Order> batch3 = createOrderBatch(100, 50);
+    // Arrange - Simulate 150 pending orders walked in keyset chunks of 50
+    pendingIds(1L, 150L);
+    when(promotionService.promoteNextChunk(0L, 150L, 50)).thenReturn(new PromotionChunk(50L, 50, 50));
+    when(promotionService.promoteNextChunk(50L, 150L, 50)).thenReturn(new PromotionChunk(100L, 50, 50));
+    when(promotionService.promoteNextChunk(100L, 150L, 50)).thenReturn(new PromotionChunk(150L, 50, 50));
+    when(promotionService.promoteNextChunk(150L, 150L, 50)).thenReturn(new PromotionChunk(150L, 0, 0));
+
+    // Act
+    schedulerTask.processPendingOrders();
+
+    // Assert - every chunk continues after the last id of the previous one
+    verify(promotionService).findPendingIdRange();
+    verify(promotionService).promoteNextChunk(0L, 150L, 50);
+    verify(promotionService).promoteNextChunk(50L, 150L, 50);
+    verify(promotionService).promoteNextChunk(100L, 150L, 50);
+    verify(promotionService).promoteNextChunk(150L, 150L, 50);
+    verifyNoMoreInteractions(promotionService);
+  }
+
+  @Test
+  @DisplayName("Process Pending Orders - Failure Keeps Earlier Chunks")
+  void testProcessPendingOrders_FailureAfterFirstChunk() {
+    // Arrange - the second chunk fails; the first one is already committed
+    pendingIds(1L, 150L);
+    when(promotionService.promoteNextChunk(0L, 150L, 50)).thenReturn(new PromotionChunk(50L, 50, 50));
+    when(promotionService.promoteNextChunk(eq(50L), anyLong(), anyInt()))
+      .thenThrow(new RuntimeException("Connection lost"));
+
+    // Act
+    assertDoesNotThrow(() -> schedulerTask.processPendingOrders());
 
-    Page<Order> page1 = new PageImpl<>(batch1, Pageable.ofSize(50), 150);
-    Page<Order> page2 = new PageImpl<>(batch2, Pageable.ofSize(50), 150);
-    Page<Order> page3 = new PageImpl<>(batch3, Pageable.ofSize(50), 150);
+    // Assert - no further chunks are attempted in this run
+    verify(promotionService, times(2)).promoteNextChunk(anyLong(), anyLong(), anyInt());
+    verify(orderMetrics).schedulerRun(anyLong(), eq(50L), eq(false));
+  }
 
-    when(orderRepository.findAllByStatus(eq(OrderStatus.PENDING), any(Pageable.class)))
-      .thenReturn(page1, page2, page3, new PageImpl<>(Collections.emptyList()));
-    when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+  @Test
+  @DisplayName("Process Pending Orders - Backlog Split Into Partitions On The Pool")
+  void testProcessPendingOrders_Partitions() {
+    // Arrange - ids 1..100 in four ranges, two workers
+    orderProperties.getScheduler().setPartitions(4);
+    orderProperties.getScheduler().setConcurrency(2);
+    pendingIds(1L, 100L);
+    when(promotionService.promoteNextChunk(anyLong(), anyLong(), eq(50)))
+      .thenAnswer(invocation -> new PromotionChunk(invocation.getArgument(1), 10, 10));
 
     // Act
     schedulerTask.processPendingOrders();
 
+    // Assert - every range is promoted once, one of them on the pool
+    verify(promotionService).promoteNextChunk(0L, 25L, 50);
+    verify(promotionService).promoteNextChunk(25L, 50L, 50);
+    verify(promotionService).promoteNextChunk(50L, 75L, 50);
+    verify(promotionService).promoteNextChunk(75L, 100L, 50);
+    verify(taskExecutor, times(1)).execute(any(Runnable.class));
+    verify(orderMetrics).schedulerRun(anyLong(), eq(40L), eq(true));
+  }
+
+  @Test
+  @DisplayName("Process Pending Orders - Failed Partition Does Not Stop The Others")
+  void testProcessPendingOrders_PartitionFailure() {
+    // Arrange
+    orderProperties.getScheduler().setPartitions(2);
+    orderProperties.getScheduler().setConcurrency(2);
+    pendingIds(1L, 100L);
+    when(promotionService.promoteNextChunk(0L, 50L, 50)).thenThrow(new RuntimeException("Deadlock"));
+    when(promotionService.promoteNextChunk(50L, 100L, 50)).thenReturn(new PromotionChunk(100L, 30, 30));
+
+    // Act
+    assertDoesNotThrow(() -> schedulerTask.processPendingOrders());
+
+    // Assert
+    verify(promotionService).promoteNextChunk(50L, 100L, 50);
+    verify(orderMetrics).schedulerRun(anyLong(), eq(30L), eq(false));
+  }
+
+  @Test
+  @DisplayName("Split - Ranges Cover The Backlog Without Overlap From Any Start")
+  void testSplit() {
+    // Act
+    List<Partition> partitions = new ArrayList<>(OrderSchedulerTask.split(new IdRange(1L, 10L), 4));
+    List<Partition> single = new ArrayList<>(OrderSchedulerTask.split(new IdRange(7L, 7L), 16));
+    List<Partition> rotated = new ArrayList<>(OrderSchedulerTask.split(new IdRange(1L, 10L), 4, 2));
+
     // Assert
-    verify(orderRepository, times(150)).save(any(Order.class));
+    assertEquals(List.of(new Partition(0L, 3L), new Partition(3L, 6L), new Partition(6L, 9L),
+      new Partition(9L, 10L)), partitions);
+    assertEquals(List.of(new Partition(6L, 7L)), single);
+    assertEquals(List.of(new Partition(6L, 9L), new Partition(9L, 10L), new Partition(0L, 3L),
+      new Partition(3L, 6L)), rotated);
   }
 
-  private List<Order> createOrderBatch(int startIndex, int count) {
-    List<Order> orders = new java.util.ArrayList<>();
-    for (int i = 0; i < count; i++) {
-      Order order = new Order();
-      order.setId((long) (startIndex + i + 1));
-      order.setOrderNumber(String.format("ORD-TEST-%05d", startIndex + i + 1));
-      order.setCustomerName("Customer " + (startIndex + i + 1));
-      order.setCustomerEmail("customer" + (startIndex + i + 1) + "@example.com");
-      order.setStatus(OrderStatus.PENDING);
-      order.setTotalAmount(new BigDecimal("99.99"));
-      order.setCreatedAt(LocalDateTime.now());
-      order.setUpdatedAt(LocalDateTime.now());
-      orders.add(order);
-    }
-    return orders;
+  private void pendingIds(long minId, long maxId) {
+    when(promotionService.findPendingIdRange()).thenReturn(Optional.of(new IdRange(minId, maxId)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.util;
+
+import com.ecommerce.repository.OrderNumberBlockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for OrderNumberGenerator.
+ *
+ * Tests formatting, block leasing and uniqueness under concurrency.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderNumberGeneratorTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-11-07T10:15:30Z"), ZoneOffset.UTC);
+
+  @Mock
+  private OrderNumberBlockRepository blockRepository;
+
+  @Test
+  @DisplayName("Generate Order Number - Padded To Five Digits")
+  void testGenerateOrderNumber_Format() {
+    // Arrange
+    when(blockRepository.allocateBlock(10)).thenReturn(1L);
+    OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 10, CLOCK);
+
+    // Act & Assert
+    assertEquals("ORD-20251107-00001", generator.generateOrderNumber());
+    assertEquals("ORD-20251107-00002", generator.generateOrderNumber());
+  }
+
+  @Test
+  @DisplayName("Generate Order Number - Suffix Grows Past 99999")
+  void testGenerateOrderNumber_LargeSuffix() {
+    // Arrange
+    when(blockRepository.allocateBlock(2)).thenReturn(99_999L);
+    OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 2, CLOCK);
+
+    // Act & Assert
+    assertEquals("ORD-20251107-99999", generator.generateOrderNumber());
+    assertEquals("ORD-20251107-100000", generator.generateOrderNumber());
+  }
+
+  @Test
+  @DisplayName("Generate Order Number - Leases Next Block When Exhausted")
+  void testGenerateOrderNumber_LeasesNextBlock() {
+    // Arrange - another instance took 3..4 in between
+    when(blockRepository.allocateBlock(2)).thenReturn(1L, 5L);
+    OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 2, CLOCK);
+
+    // Act
+    List<String> numbers = List.of(
+      generator.generateOrderNumber(), generator.generateOrderNumber(), generator.generateOrderNumber());
+
+    // Assert
+    assertEquals(List.of("ORD-20251107-00001", "ORD-20251107-00002", "ORD-20251107-00005"), numbers);
+    verify(blockRepository, times(2)).allocateBlock(2);
+  }
+
+  @Test
+  @DisplayName("Generate Order Number - Prefix Follows The Date")
+  void testGenerateOrderNumber_DateChange() {
+    // Arrange
+    MutableClock clock = new MutableClock(Instant.parse("2025-11-07T23:59:59Z"));
+    when(blockRepository.allocateBlock(10)).thenReturn(1L);
+    OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 10, clock);
+
+    // Act
+    String before = generator.generateOrderNumber();
+    clock.instant = Instant.parse("2025-11-08T00:00:01Z");
+    String after = generator.generateOrderNumber();
+
+    // Assert
+    assertEquals("ORD-20251107-00001", before);
+    assertEquals("ORD-20251108-00002", after);
+  }
+
+  @Test
+  @DisplayName("Generate Order Number - Unique Across Threads")
+  void testGenerateOrderNumber_Concurrent() throws Exception {
+    // Arrange
+    AtomicLong next = new AtomicLong(1);
+    when(blockRepository.allocateBlock(anyInt()))
+      .thenAnswer(invocation -> next.getAndAdd(invocation.<Integer>getArgument(0)));
+    OrderNumberGenerator generator = new OrderNumberGenerator(blockRepository, 7, CLOCK);
+    int threads = 8;
+    int perThread = 1000;
+
+    // Act
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<List<String>>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          List<String> numbers = new ArrayList<>(perThread);
+          for (int i = 0; i < perThread; i++) {
+            numbers.add(generator.generateOrderNumber());
+          }
+          return numbers;
+        }));
+      }
+
+      Set<String> unique = new HashSet<>();
+      for (Future<List<String>> future : futures) {
+        unique.addAll(future.get());
+      }
+
+      // Assert
+      assertEquals(threads * perThread, unique.size());
+      assertTrue(next.get() <= threads * perThread + 1 + 7 * threads,
+        "leased more blocks than needed: " + next.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Constructor - Rejects Non-Positive Block Size")
+  void testConstructor_InvalidBlockSize() {
+    assertThrows(IllegalArgumentException.class,
+      () -> new OrderNumberGenerator(blockRepository, 0, CLOCK));
+  }
+
+  /**
+   * Clock whose time can be moved by the test.
+   */
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TimingWheel.
+ *
+ * Tests expiry at the deadline tick, rescheduling and cancelling, deadlines
+ * spanning several levels and beyond the wheel range against a plain map,
+ * and a wheel holding a million deadlines.
+ *
+ * Test Methods: 4
+ */
+public class TimingWheelTest {
+
+  private static final byte TAG = 1;
+
+  @Test
+  @DisplayName("Advance - Deadline Expires On Its Tick, Not Before")
+  void testAdvance_ExpiresAtDeadline() {
+    // Arrange
+    TimingWheel wheel = new TimingWheel(1000, 6, 4, 0);
+    wheel.schedule(42L, 2500, TAG);
+    List<Long> expired = new ArrayList<>();
+
+    // Act & Assert
+    assertEquals(0, wheel.advance(2999, (key, tag) -> expired.add(key)));
+    assertTrue(expired.isEmpty());
+    assertEquals(1, wheel.advance(3000, (key, tag) -> {
+      assertEquals(TAG, tag);
+      expired.add(key);
+    }));
+    assertEquals(List.of(42L), expired);
+    assertEquals(0, wheel.size());
+    assertFalse(wheel.contains(42L));
+  }
+
+  @Test
+  @DisplayName("Schedule And Cancel - Replaced And Removed Deadlines Never Expire")
+  void testScheduleAndCancel() {
+    // Arrange
+    TimingWheel wheel = new TimingWheel(10, 6, 4, 0);
+    wheel.schedule(1L, 100, TAG);
+    wheel.schedule(2L, 100, TAG);
+    wheel.schedule(3L, 100, TAG);
+    Map<Long, Byte> expired = new HashMap<>();
+
+    // Act
+    wheel.schedule(1L, 5_000, (byte) 2);
+    assertTrue(wheel.cancel(2L));
+    assertFalse(wheel.cancel(2L));
+    assertFalse(wheel.scheduleIfAbsent(3L, 50_000, TAG));
+    wheel.advance(1_000, expired::put);
+
+    // Assert
+    assertEquals(Map.of(3L, TAG), expired);
+    assertEquals(1, wheel.size());
+    wheel.advance(5_000, expired::put);
+    assertEquals((byte) 2, expired.get(1L));
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  @DisplayName("Advance - Random Deadlines Across Levels Expire On Time")
+  void testAdvance_RandomDeadlines() {
+    // Arrange - 2 levels of 4 buckets only reach 16 ticks, so most deadlines wrap round the top level
+    TimingWheel wheel = new TimingWheel(1, 2, 2, 0);
+    Random random = new Random(7);
+    Map<Long, Long> deadlines = new HashMap<>();
+    for (long key = 1; key <= 2_000; key++) {
+      long deadline = random.nextInt(500);
+      wheel.schedule(key, deadline, TAG);
+      deadlines.put(key, deadline);
+    }
+    for (long key = 1; key <= 2_000; key += 3) {
+      wheel.cancel(key);
+      deadlines.remove(key);
+    }
+
+    // Act & Assert - at each tick exactly the deadlines reached so far have expired
+    for (long now = 0; now < 520; now++) {
+      long tick = now;
+      wheel.advance(now, (key, tag) -> assertEquals(tick, deadlines.remove(key)));
+      assertTrue(deadlines.values().stream().allMatch(deadline -> deadline > tick));
+
+      // Deadlines added while the wheel turns, some already passed
+      long key = 10_000 + now;
+      long deadline = now + random.nextInt(40) - 5;
+      wheel.schedule(key, deadline, TAG);
+      deadlines.put(key, Math.max(deadline, now + 1));
+    }
+    wheel.advance(600, (key, tag) -> deadlines.remove(key));
+    assertTrue(deadlines.isEmpty());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  @DisplayName("Schedule - Million Deadlines Inserted, Cancelled And Expired")
+  void testSchedule_MillionDeadlines() {
+    // Arrange
+    int count = 1_000_000;
+    TimingWheel wheel = new TimingWheel(1000, 6, 4, 0);
+    Random random = new Random(11);
+
+    // Act
+    for (long key = 1; key <= count; key++) {
+      wheel.schedule(key, 1000L * random.nextInt(48 * 3600), TAG);
+    }
+    for (long key = 2; key <= count; key += 2) {
+      wheel.cancel(key);
+    }
+
+    // Assert
+    assertEquals(count / 2, wheel.size());
+    assertTrue(wheel.contains(1L));
+    assertFalse(wheel.contains(2L));
+    int[] expired = new int[1];
+    wheel.advance(1000L * 48 * 3600, (key, tag) -> {
+      assertEquals(1, key % 2);
+      expired[0]++;
+    });
+    assertEquals(count / 2, expired[0]);
+    assertEquals(0, wheel.size());
+  }
+}